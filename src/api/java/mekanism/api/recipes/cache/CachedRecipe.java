@@ -175,10 +175,25 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         //TODO: Re-evaluate if we want to change this to a system similar to the InputHandler, so that we can simulate extracting energy
         // from our container, it likely is not worth it as if we make the assumption we can extract all stored energy it cuts down on
         // processing. If we move the energy requirement checks to after checking about inputs it may become worthwhile
-        this.perTickEnergy = Objects.requireNonNull(perTickEnergy, "The per tick energy cannot be null.");
         Objects.requireNonNull(energyContainer, "Energy container cannot be null.");
-        this.storedEnergy = energyContainer::getEnergy;
-        this.useEnergy = energy -> energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+        return setEnergyRequirements(perTickEnergy, energyContainer::getEnergy, energy -> energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL));
+    }
+
+    /**
+     * Sets the various energy requirements of this {@link CachedRecipe}, using the given callbacks to look up the available energy and to use energy. This allows holders
+     * that process multiple recipes each tick to keep track of the energy the recipes use, and then extract it all at once.
+     *
+     * @param perTickEnergy Per tick energy consumption required to process the recipe.
+     * @param storedEnergy  Gets the energy currently available to this recipe.
+     * @param useEnergy     Called to consume energy. The amount will never be more than the energy that is available.
+     *
+     * @apiNote If this method is not used, this {@link CachedRecipe} defaults to not requiring or using any energy.
+     * @since 10.7.3
+     */
+    public CachedRecipe<RECIPE> setEnergyRequirements(LongSupplier perTickEnergy, LongSupplier storedEnergy, LongConsumer useEnergy) {
+        this.perTickEnergy = Objects.requireNonNull(perTickEnergy, "The per tick energy cannot be null.");
+        this.storedEnergy = Objects.requireNonNull(storedEnergy, "Stored energy supplier cannot be null.");
+        this.useEnergy = Objects.requireNonNull(useEnergy, "Use energy consumer cannot be null.");
         return this;
     }
 
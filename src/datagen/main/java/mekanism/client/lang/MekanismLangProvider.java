@@ -994,6 +994,13 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_CRAFTING, "Crafting recipe cache: %1$s grids, %2$s hits, %3$s misses, %4$s evictions.");
+        add(MekanismLang.COMMAND_DEBUG_FACTORY_SORTING, "Factory sorting: %1$s full sorts, %2$s incremental sorts, %3$s slots changed, at most %4$s slots changed by one factory in a tick.");
+        add(MekanismLang.COMMAND_DEBUG_PATHFINDING, "Transporter path cache: %1$s paths in %2$s networks, %3$s hits, %4$s misses, %5$s evictions, %6$s invalidations.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPE_MEMO, "Complex recipe memos: %1$s hits, %2$s misses.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPE_MEMO_TYPE, "%1$s: %2$s hits, %3$s misses.");
+        add(MekanismLang.COMMAND_DEBUG_WORKERS, "Worker pool: %1$s threads, %2$s active.");
+        add(MekanismLang.COMMAND_DEBUG_WORKERS_PRIORITY, "%1$s priority: %2$s queued, %3$s completed, %4$s cancelled, %5$s failed, %6$sms average wait (%7$sms max), %8$sms average run time.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -0,0 +1,170 @@
+package mekanism.common.tests.multiblock;
+
+import java.util.UUID;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.math.MathUtils;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.boiler.BoilerMultiblockData;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.multiblock.TileEntityBoilerCasing;
+import mekanism.common.util.HeatUtils;
+import mekanism.generators.common.config.MekanismGeneratorsConfig;
+import mekanism.generators.common.content.turbine.TurbineMultiblockData;
+import mekanism.generators.common.content.turbine.TurbineValidator;
+import mekanism.generators.common.registries.GeneratorsBlocks;
+import mekanism.generators.common.tile.turbine.TileEntityTurbineCasing;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.testframework.DynamicTest;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "multiblock.throughput")
+public class ThroughputTest {
+
+    private static final int RUN_TICKS = 60 * 60 * SharedConstants.TICKS_PER_SECOND;
+    //Alternate between a high and low amount of heat being provided to the boiler, so that we don't only test when everything is in a steady state
+    private static final int HEAT_PERIOD = 10 * SharedConstants.TICKS_PER_SECOND;
+    private static final double HIGH_HEAT = 1_000_000;
+    private static final double LOW_HEAT = 400_000;
+    private static final int WATER_PER_TICK = 25_000;
+    private static final long ENERGY_DRAIN_PER_TICK = 150_000;
+
+    @GameTest
+    @TestHolder(description = "Tests that a boiler feeding a turbine boils and converts the same amount of steam and produces the same amount of energy over a long run "
+                              + "as calculating the throughput from scratch each tick does.")
+    public static void boilerToTurbine(final DynamicTest test) {
+        test.registerGameTestTemplate(() -> StructureTemplateBuilder.withSize(2, 1, 1)
+              .fill(0, 0, 0, 0, 0, 0, MekanismBlocks.BOILER_CASING.defaultState())
+              .fill(1, 0, 0, 1, 0, 0, GeneratorsBlocks.TURBINE_CASING.defaultState())
+        );
+
+        test.onGameTest(MekGameTestHelper.class, helper -> helper.startSequence()
+              .thenExecute(() -> {
+                  BoilerMultiblockData boiler = createBoiler(helper);
+                  TurbineMultiblockData turbine = createTurbine(helper);
+                  long expectedSteam = 0, actualSteam = 0;
+                  long expectedEnergy = 0, actualEnergy = 0;
+                  try {
+                      for (int tick = 0; tick < RUN_TICKS; tick++) {
+                          boiler.heatCapacitor.handleHeat((tick / HEAT_PERIOD) % 2 == 0 ? HIGH_HEAT : LOW_HEAT);
+                          boiler.waterTank.insert(new FluidStack(Fluids.WATER, WATER_PER_TICK), Action.EXECUTE, AutomationType.EXTERNAL);
+                          int waterBefore = boiler.waterTank.getFluidAmount();
+                          int steamNeededBefore = MathUtils.clampToInt(boiler.steamTank.getNeeded());
+                          boiler.tick(helper.getLevel());
+                          //Note: The boiler doesn't apply the heat used for boiling until the next tick, so the temperature is still what was used for boiling
+                          int expectedBoil = calculateBoilRate(boiler, waterBefore, steamNeededBefore);
+                          if (boiler.lastBoilRate != expectedBoil) {
+                              helper.fail("Boiled " + boiler.lastBoilRate + " mB of water at tick " + tick + ", expected " + expectedBoil);
+                          }
+
+                          //Move the steam from the boiler to the turbine
+                          ChemicalStack steam = boiler.steamTank.extract(Long.MAX_VALUE, Action.SIMULATE, AutomationType.EXTERNAL);
+                          ChemicalStack remainder = turbine.chemicalTank.insert(steam, Action.EXECUTE, AutomationType.EXTERNAL);
+                          boiler.steamTank.extract(steam.getAmount() - remainder.getAmount(), Action.EXECUTE, AutomationType.EXTERNAL);
+
+                          long energyBefore = turbine.energyContainer.getEnergy();
+                          long steamBefore = turbine.chemicalTank.getStored();
+                          long[] expected = calculateTurbineFlow(turbine, steamBefore, turbine.energyContainer.getNeeded());
+                          turbine.tick(helper.getLevel());
+                          expectedSteam += expected[0];
+                          expectedEnergy += expected[1];
+                          actualSteam += steamBefore - turbine.chemicalTank.getStored();
+                          actualEnergy += turbine.energyContainer.getEnergy() - energyBefore;
+                          if (turbine.clientFlow != expected[0]) {
+                              helper.fail("Turbine flow was " + turbine.clientFlow + " mB at tick " + tick + ", expected " + expected[0]);
+                          }
+                          turbine.energyContainer.extract(ENERGY_DRAIN_PER_TICK, Action.EXECUTE, AutomationType.EXTERNAL);
+                      }
+                  } finally {
+                      BoilerMultiblockData.hotMap.removeBoolean(boiler.inventoryID);
+                  }
+                  helper.assertValueEqual(actualSteam, expectedSteam, "Steam converted");
+                  helper.assertValueEqual(actualEnergy, expectedEnergy, "Energy produced");
+                  helper.assertTrue(actualEnergy > 0, "Turbine should have produced energy");
+              })
+              .thenSucceed()
+        );
+    }
+
+    private static BoilerMultiblockData createBoiler(MekGameTestHelper helper) {
+        BoilerMultiblockData boiler = new BoilerMultiblockData(helper.requireBlockEntity(BlockPos.ZERO, TileEntityBoilerCasing.class));
+        BlockPos min = helper.absolutePos(BlockPos.ZERO);
+        VoxelCuboid bounds = new VoxelCuboid(min, min.offset(6, 6, 6));
+        boiler.setShape(bounds);
+        //Add the casing so that the boiler has the heat capacity a boiler of this size would
+        for (BlockPos pos : BlockPos.betweenClosed(bounds.getMinPos(), bounds.getMaxPos())) {
+            if (bounds.isOnSide(pos)) {
+                boiler.locations.add(pos.immutable());
+            }
+        }
+        boiler.superheatingElements = 2;
+        boiler.setWaterVolume(5 * 5 * 2);
+        boiler.setSteamVolume(5 * 5 * 2);
+        boiler.inventoryID = UUID.randomUUID();
+        boiler.setFormedForce(true);
+        boiler.onCreated(helper.getLevel());
+        return boiler;
+    }
+
+    private static TurbineMultiblockData createTurbine(MekGameTestHelper helper) {
+        TurbineMultiblockData turbine = new TurbineMultiblockData(helper.requireBlockEntity(new BlockPos(1, 0, 0), TileEntityTurbineCasing.class));
+        BlockPos min = helper.absolutePos(new BlockPos(1, 0, 0));
+        turbine.setShape(new VoxelCuboid(min, min.offset(8, 16, 8)));
+        turbine.lowerVolume = 9 * 9 * 8;
+        turbine.blades = 28;
+        turbine.coils = 7;
+        turbine.vents = 20;
+        turbine.condensers = 10;
+        turbine.inventoryID = UUID.randomUUID();
+        turbine.setFormedForce(true);
+        turbine.onCreated(helper.getLevel());
+        return turbine;
+    }
+
+    /**
+     * Calculates how much water the boiler should have boiled from scratch.
+     */
+    private static int calculateBoilRate(BoilerMultiblockData boiler, int water, int steamNeeded) {
+        double temperature = boiler.heatCapacitor.getTemperature();
+        if (temperature < HeatUtils.BASE_BOIL_TEMP || water == 0) {
+            return 0;
+        }
+        double heatAvailable = (temperature - HeatUtils.BASE_BOIL_TEMP) * (boiler.heatCapacitor.getHeatCapacity() * MekanismConfig.general.boilerWaterConductivity.get());
+        heatAvailable = Math.min(heatAvailable, MekanismConfig.general.superheatingHeatTransfer.get() * boiler.superheatingElements);
+        int maxBoil = Mth.floor(HeatUtils.getSteamEnergyEfficiency() * heatAvailable / HeatUtils.getWaterThermalEnthalpy());
+        return Math.min(Math.min(maxBoil, water), steamNeeded);
+    }
+
+    /**
+     * Calculates how much steam the turbine should use, and how much energy it should produce from scratch.
+     *
+     * @return Steam used, and energy produced.
+     */
+    private static long[] calculateTurbineFlow(TurbineMultiblockData turbine, long stored, long energyNeeded) {
+        if (stored > 0 && energyNeeded > 0) {
+            double energyMultiplier = (MekanismConfig.general.maxEnergyPerSteam.get() / (double) TurbineValidator.MAX_BLADES)
+                                      * (Math.min(turbine.blades, turbine.coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
+            if (energyMultiplier >= Mth.EPSILON) {
+                double rate = turbine.lowerVolume * (turbine.getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
+                rate = Math.min(rate, turbine.vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
+                double proportion = stored / (double) turbine.getSteamCapacity();
+                rate = Math.min(Math.min(stored, rate), (energyNeeded / energyMultiplier)) * proportion;
+                long flow = MathUtils.clampToLong(rate);
+                if (flow > 0) {
+                    return new long[]{flow, Math.min(MathUtils.clampToLong(energyMultiplier * rate), energyNeeded)};
+                }
+            }
+        }
+        return new long[]{0, 0};
+    }
+}
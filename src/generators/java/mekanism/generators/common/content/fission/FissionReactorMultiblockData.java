@@ -9,7 +9,9 @@ import java.util.Set;
 import java.util.function.LongSupplier;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
+import mekanism.api.MekanismAPI;
 import mekanism.api.SerializationConstants;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
@@ -60,7 +62,6 @@ import net.minecraft.tags.FluidTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.neoforged.neoforge.fluids.FluidStack;
 
 public class FissionReactorMultiblockData extends MultiblockData implements IValveHandler {
@@ -76,6 +77,17 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
 
     private static final double EXPLOSION_CHANCE = 1D / 512_000;
 
+    /**
+     * How many consecutive ticks of full simulation the reactor has to be stable for before it is considered to be in a steady state, and how many ticks it then gets
+     * fast-forwarded for before running a full simulation again to make sure it is still steady.
+     */
+    private static final int STEADY_STATE_TICKS = SharedConstants.TICKS_PER_SECOND;
+    private static final int FAST_FORWARD_TICKS = 5 * SharedConstants.TICKS_PER_SECOND;
+    /**
+     * Maximum change in temperature per tick for the reactor to be considered stable.
+     */
+    private static final double STEADY_STATE_TOLERANCE = 0.01;
+
     private final List<AdvancedCapabilityOutputTarget<IChemicalHandler, FissionPortMode>> chemicalOutputTargets = new ArrayList<>();
     public final Set<FormedAssembly> assemblies = new LinkedHashSet<>();
     private final List<IChemicalTank> inputTanks;
@@ -135,13 +147,23 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     private long heatedCoolantCapacity;
     private long fuelCapacity;
 
-    private AABB hotZone;
-
     public float prevCoolantScale;
     private float prevFuelScale;
     public float prevHeatedCoolantScale;
     private float prevWasteScale;
 
+    //Steady state tracking, see tick
+    private int stableTicks;
+    private int fastForwardTicks;
+    private double steadyHeatChange;
+    private double steadyTemperature;
+    /**
+     * Heat the reactor itself added or removed this tick, not including any heat that was transferred into it from adjacent blocks through its ports.
+     */
+    private double internalHeatChange;
+    private CurrentType steadyCoolantType = CurrentType.EMPTY;
+    private Chemical steadyChemicalCoolant = MekanismAPI.EMPTY_CHEMICAL;
+
     public FissionReactorMultiblockData(TileEntityFissionReactorCasing tile) {
         super(tile);
         //Default biome temp to the ambient temperature at the block we are at
@@ -173,15 +195,24 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         biomeAmbientTemp = calculateAverageAmbientTemperature(world);
         // update the heat capacity now that we've read
         heatCapacitor.setHeatCapacity(MekanismGeneratorsConfig.generators.fissionCasingHeatCapacity.get() * locations.size(), true);
-        hotZone = AABB.encapsulatingFullBlocks(getMinPos().offset(1, 1, 1), getMaxPos().offset(-1, -1, -1));
+        trackInnerEntities(world);
     }
 
     @Override
     public boolean tick(Level world) {
         boolean needsPacket = super.tick(world);
+        //When the reactor has been burning at a constant rate and boiling a constant amount of coolant with a stable temperature, we skip recalculating each of the
+        // heat transfers, and instead just move the same amount of fuel and coolant and apply the same net change in heat that the last full simulation did
+        boolean fastForward = canFastForward();
+        double previousBurnRate = lastBurnRate;
+        long previousBoilRate = lastBoilRate;
+        internalHeatChange = 0;
+        double previousTemperature = heatCapacitor.getTemperature();
+        CurrentType previousCoolantType = coolantTank.getCurrentType();
+        Chemical previousChemicalCoolant = coolantTank.getChemicalTank().getType();
         // burn reactor fuel, create energy
         if (isActive()) {
-            burnFuel(world);
+            burnFuel(world, !fastForward);
         } else {
             lastBurnRate = 0;
         }
@@ -190,7 +221,11 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
             clientBurning = isBurning();
         }
         // handle coolant heating (water -> steam)
-        handleCoolant();
+        if (fastForward) {
+            boilSteadyCoolant();
+        } else {
+            handleCoolant();
+        }
         if (!chemicalOutputTargets.isEmpty()) {
             if (!heatedCoolantTank.isEmpty()) {
                 ChemicalUtil.emit(getActiveOutputs(chemicalOutputTargets, FissionPortMode.OUTPUT_COOLANT), heatedCoolantTank);
@@ -199,10 +234,18 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
                 ChemicalUtil.emit(getActiveOutputs(chemicalOutputTargets, FissionPortMode.OUTPUT_WASTE), wasteTank);
             }
         }
-        // external heat dissipation
-        lastEnvironmentLoss = simulateEnvironment();
+        if (fastForward) {
+            fastForwardTicks--;
+            heatCapacitor.handleHeat(steadyHeatChange);
+        } else {
+            // external heat dissipation
+            lastEnvironmentLoss = simulateEnvironment();
+        }
         // update temperature
         updateHeatCapacitors(null);
+        if (!fastForward) {
+            updateSteadyState(previousBurnRate, previousBoilRate, previousTemperature, previousCoolantType, previousChemicalCoolant);
+        }
         handleDamage(world);
         radiateEntities(world);
 
@@ -221,8 +264,73 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return needsPacket;
     }
 
+    private boolean canFastForward() {
+        if (fastForwardTicks == 0 || !isActive()) {
+            return false;
+        }
+        //Heat transferred in or out through the ports isn't part of the steady heat change we apply, and as we don't recalculate how much we boil or lose to the
+        // environment, make sure that it hasn't caused the temperature to drift further than it could have if the reactor was still steady. This also keeps the
+        // temperature below the point where the reactor starts taking damage, as we only start fast-forwarding while far enough below it
+        int elapsedTicks = FAST_FORWARD_TICKS - fastForwardTicks;
+        if (Math.abs(heatCapacitor.getTemperature() - steadyTemperature) > (elapsedTicks + 1) * STEADY_STATE_TOLERANCE) {
+            resetSteadyState();
+            return false;
+        }
+        //Make sure we would burn the same amount of fuel, and that the amount we boil isn't going to be limited by how much coolant is stored
+        double toBurn = Math.min(Math.min(rateLimit, fuelTank.getStored() + burnRemaining), getMaxBurnRate());
+        if (toBurn != lastBurnRate || coolantTank.getCurrentType() != steadyCoolantType) {
+            return false;
+        }
+        return switch (steadyCoolantType) {
+            case EMPTY -> lastBoilRate == 0;
+            case FLUID -> coolantTank.getFluidTank().getFluidAmount() >= lastBoilRate;
+            case CHEMICAL -> {
+                IChemicalTank chemicalCoolantTank = coolantTank.getChemicalTank();
+                yield chemicalCoolantTank.isTypeEqual(steadyChemicalCoolant) && chemicalCoolantTank.getStored() >= lastBoilRate;
+            }
+        };
+    }
+
+    /**
+     * Checks whether the full simulation that just ran left the reactor in the same state it started the tick in, and if it has been for long enough starts
+     * fast-forwarding it.
+     */
+    private void updateSteadyState(double previousBurnRate, long previousBoilRate, double previousTemperature, CurrentType previousCoolantType,
+          Chemical previousChemicalCoolant) {
+        double temperature = heatCapacitor.getTemperature();
+        //Note: If the coolant we boiled was limited by how much was stored, the tank will have been emptied, so checking the type is unchanged also makes sure that
+        // the amount that gets boiled only depends on the temperature. We also only allow fast-forwarding while we are far enough below the temperature that damages
+        // the reactor that we can't reach it before the next full simulation, so that damage and meltdowns behave exactly as they would otherwise
+        if (isBurning() && lastBurnRate == previousBurnRate && lastBoilRate == previousBoilRate && Math.abs(temperature - previousTemperature) <= STEADY_STATE_TOLERANCE &&
+            temperature < MIN_DAMAGE_TEMPERATURE - FAST_FORWARD_TICKS * STEADY_STATE_TOLERANCE && coolantTank.getCurrentType() == previousCoolantType &&
+            coolantTank.getChemicalTank().isTypeEqual(previousChemicalCoolant)) {
+            if (stableTicks < STEADY_STATE_TICKS) {
+                stableTicks++;
+            }
+            if (stableTicks == STEADY_STATE_TICKS) {
+                fastForwardTicks = FAST_FORWARD_TICKS;
+                //Note: We only use the heat the reactor changed by itself, as any heat adjacent blocks transfer in through the ports will continue to be applied
+                steadyHeatChange = internalHeatChange;
+                steadyTemperature = temperature;
+                steadyCoolantType = previousCoolantType;
+                steadyChemicalCoolant = previousChemicalCoolant;
+            }
+        } else {
+            resetSteadyState();
+        }
+    }
+
+    /**
+     * Makes the reactor go back to running a full simulation each tick until it is stable again.
+     */
+    private void resetSteadyState() {
+        stableTicks = 0;
+        fastForwardTicks = 0;
+    }
+
     @Override
     protected void updateEjectors(Level world) {
+        resetSteadyState();
         chemicalOutputTargets.clear();
         for (ValveData valve : valves) {
             TileEntityFissionReactorPort tile = WorldUtils.getTileEntity(TileEntityFissionReactorPort.class, world, valve.location);
@@ -244,10 +352,15 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     public double simulateEnvironment() {
         double invConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + (INVERSE_INSULATION_COEFFICIENT + INVERSE_CONDUCTION_COEFFICIENT);
         double tempToTransfer = (heatCapacitor.getTemperature() - biomeAmbientTemp) / invConduction;
-        heatCapacitor.handleHeat(-tempToTransfer * heatCapacitor.getHeatCapacity());
+        handleInternalHeat(-tempToTransfer * heatCapacitor.getHeatCapacity());
         return Math.max(tempToTransfer, 0);
     }
 
+    private void handleInternalHeat(double heat) {
+        heatCapacitor.handleHeat(heat);
+        internalHeatChange += heat;
+    }
+
     @Override
     public void readUpdateTag(CompoundTag tag, Provider provider) {
         super.readUpdateTag(tag, provider);
@@ -349,6 +462,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
             heatedCoolantTank.setEmpty();
             //Disable the reactor so that if the person rebuilds it, it isn't on by default (QoL)
             active = false;
+            resetSteadyState();
             //Update reactor damage to the specified level for post meltdown
             reactorDamage = MekanismGeneratorsConfig.generators.fissionPostMeltdownDamage.get();
             //Reset burnRemaining to zero as it is reasonable to have the burnRemaining get wasted when the reactor explodes
@@ -417,7 +531,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
                     // extra steam is dumped
                     heatedCoolantTank.insert(MekanismChemicals.STEAM.getStack(lastBoilRate), Action.EXECUTE, AutomationType.INTERNAL);
                     caseCoolantHeat = lastBoilRate * HeatUtils.getWaterThermalEnthalpy() / HeatUtils.getSteamEnergyEfficiency();
-                    heatCapacitor.handleHeat(-caseCoolantHeat);
+                    handleInternalHeat(-caseCoolantHeat);
                 } else {
                     lastBoilRate = 0;
                 }
@@ -432,7 +546,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
                         MekanismUtils.logMismatchedStackSize(chemicalCoolantTank.shrinkStack(lastBoilRate, Action.EXECUTE), lastBoilRate);
                         heatedCoolantTank.insert(coolantType.getHeatedChemical().getStack(lastBoilRate), Action.EXECUTE, AutomationType.INTERNAL);
                         caseCoolantHeat = lastBoilRate * coolantType.getThermalEnthalpy();
-                        heatCapacitor.handleHeat(-caseCoolantHeat);
+                        handleInternalHeat(-caseCoolantHeat);
                     }
                 } else {
                     lastBoilRate = 0;
@@ -451,7 +565,26 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return heatedLong;
     }
 
-    private void burnFuel(Level world) {
+    /**
+     * Boils the same amount of coolant as the last full simulation did, without recalculating how much the reactor's temperature would boil or handling the heat.
+     */
+    private void boilSteadyCoolant() {
+        if (lastBoilRate > 0) {
+            if (steadyCoolantType == CurrentType.FLUID) {
+                MekanismUtils.logMismatchedStackSize(coolantTank.getFluidTank().shrinkStack((int) lastBoilRate, Action.EXECUTE), lastBoilRate);
+                heatedCoolantTank.insert(MekanismChemicals.STEAM.getStack(lastBoilRate), Action.EXECUTE, AutomationType.INTERNAL);
+            } else {
+                IChemicalTank chemicalCoolantTank = coolantTank.getChemicalTank();
+                CooledCoolant coolantType = chemicalCoolantTank.getStack().get(CooledCoolant.class);
+                if (coolantType != null) {
+                    MekanismUtils.logMismatchedStackSize(chemicalCoolantTank.shrinkStack(lastBoilRate, Action.EXECUTE), lastBoilRate);
+                    heatedCoolantTank.insert(coolantType.getHeatedChemical().getStack(lastBoilRate), Action.EXECUTE, AutomationType.INTERNAL);
+                }
+            }
+        }
+    }
+
+    private void burnFuel(Level world, boolean handleHeat) {
         double lastPartialWaste = partialWaste;
         double lastBurnRemaining = burnRemaining;
         double storedFuel = fuelTank.getStored() + burnRemaining;
@@ -459,7 +592,9 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         storedFuel -= toBurn;
         fuelTank.setStackSize((long) storedFuel, Action.EXECUTE);
         burnRemaining = storedFuel % 1;
-        heatCapacitor.handleHeat(toBurn * MekanismGeneratorsConfig.generators.energyPerFissionFuel.get());
+        if (handleHeat) {
+            handleInternalHeat(toBurn * MekanismGeneratorsConfig.generators.energyPerFissionFuel.get());
+        }
         // handle waste
         partialWaste += toBurn;
         long newWaste = Mth.lfloor(partialWaste);
@@ -486,7 +621,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     private void radiateEntities(Level world) {
         IRadiationManager radiationManager = IRadiationManager.INSTANCE;
         if (radiationManager.isRadiationEnabled() && isBurning() && world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND == 0) {
-            List<LivingEntity> entitiesToRadiate = getLevel().getEntitiesOfClass(LivingEntity.class, hotZone);
+            List<LivingEntity> entitiesToRadiate = getInnerEntities(LivingEntity.class);
             if (!entitiesToRadiate.isEmpty()) {
                 double wasteRadiation = getWasteTankRadioactivity(false) / 3_600F; // divide down to Sv/s
                 double magnitude = lastBurnRate + wasteRadiation;
@@ -522,6 +657,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         //Don't allow setting it to active if we are forcibly disabled
         if (this.active != active && (!active || !isForceDisabled())) {
             this.active = active;
+            resetSteadyState();
             markDirty();
         }
     }
@@ -558,6 +694,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     public void setAssemblies(int assemblies) {
         if (this.fuelAssemblies != assemblies) {
             this.fuelAssemblies = assemblies;
+            resetSteadyState();
             this.fuelCapacity = assemblies * MekanismGeneratorsConfig.generators.maxFuelPerAssembly.get();
         }
     }
@@ -580,6 +717,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         rate = Mth.clamp(rate, 0, getMaxBurnRate());
         if (rateLimit != rate) {
             rateLimit = rate;
+            resetSteadyState();
             markDirty();
         }
     }
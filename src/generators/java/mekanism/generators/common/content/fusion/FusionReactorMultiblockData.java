@@ -55,7 +55,6 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.NotNull;
 
 public class FusionReactorMultiblockData extends MultiblockData {
@@ -135,8 +134,6 @@ public class FusionReactorMultiblockData extends MultiblockData {
     private int maxWater;
     private long maxSteam;
 
-    private AABB deathZone;
-
     public FusionReactorMultiblockData(TileEntityFusionReactorBlock tile) {
         super(tile);
         //Default biome temp to the ambient temperature at the block we are at
@@ -168,7 +165,7 @@ public class FusionReactorMultiblockData extends MultiblockData {
             }
         }
         biomeAmbientTemp = calculateAverageAmbientTemperature(world);
-        deathZone = AABB.encapsulatingFullBlocks(getMinPos().offset(1, 1, 1), getMaxPos().offset(-1, -1, -1));
+        trackInnerEntities(world);
     }
 
     @Override
@@ -286,7 +283,7 @@ public class FusionReactorMultiblockData extends MultiblockData {
         if (world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND != 0) {
             return;
         }
-        List<Entity> entitiesToDie = getLevel().getEntitiesOfClass(Entity.class, deathZone);
+        List<Entity> entitiesToDie = getInnerEntities(Entity.class);
 
         for (Entity entity : entitiesToDie) {
             entity.hurt(entity.damageSources().magic(), 50_000F);
@@ -140,19 +140,16 @@ public class TurbineMultiblockData extends MultiblockData {
 
         long energyNeeded = energyContainer.getNeeded();
         if (stored > 0 && energyNeeded > 0L) {
-            double energyMultiplier = (MekanismConfig.general.maxEnergyPerSteam.get() / (double) TurbineValidator.MAX_BLADES)
-                                      * (Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
+            double energyMultiplier = calculateEnergyMultiplier();
             if (energyMultiplier < Mth.EPSILON) {
                 clientFlow = 0;
             } else {
-                double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
-                rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
+                double maxFlowRate = calculateMaxFlowRate();
                 double proportion = stored / (double) getSteamCapacity();
-                double origRate = rate;
-                rate = Math.min(Math.min(stored, rate), (energyNeeded / energyMultiplier)) * proportion;
+                double rate = Math.min(Math.min(stored, maxFlowRate), (energyNeeded / energyMultiplier)) * proportion;
                 clientFlow = MathUtils.clampToLong(rate);
                 if (clientFlow > 0) {
-                    flowRate = rate / origRate;
+                    flowRate = rate / maxFlowRate;
                     energyContainer.insert(MathUtils.clampToLong(energyMultiplier * rate), Action.EXECUTE, AutomationType.INTERNAL);
                     chemicalTank.shrinkStack(clientFlow, Action.EXECUTE);
                     ventTank.setStack(new FluidStack(Fluids.WATER, Math.min(MathUtils.clampToInt(rate), condensers * MekanismGeneratorsConfig.generators.condenserRate.get())));
@@ -252,27 +249,32 @@ public class TurbineMultiblockData extends MultiblockData {
         return MekanismUtils.redstoneLevelFromContents(chemicalTank.getStored(), chemicalTank.getCapacity());
     }
 
+    /**
+     * @implNote Calculated from the structure's components and the current config values, so that the tick and the getters always agree.
+     */
+    private double calculateEnergyMultiplier() {
+        return ((double) MekanismConfig.general.maxEnergyPerSteam.get() / TurbineValidator.MAX_BLADES)
+               * (Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
+    }
+
+    private double calculateMaxFlowRate() {
+        double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
+        return Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
+    }
+
     @ComputerMethod
     public long getProductionRate() {
-        double energyMultiplier = ((double) MekanismConfig.general.maxEnergyPerSteam.get() / TurbineValidator.MAX_BLADES)
-                                  * (Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
-        return MathUtils.clampToLong(energyMultiplier * clientFlow);
+        return MathUtils.clampToLong(calculateEnergyMultiplier() * clientFlow);
     }
 
     @ComputerMethod
     public long getMaxProduction() {
-        double energyMultiplier = ((double) MekanismConfig.general.maxEnergyPerSteam.get() / TurbineValidator.MAX_BLADES)
-                                  * (Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
-        double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
-        rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
-        return MathUtils.clampToLong(energyMultiplier * rate);
+        return MathUtils.clampToLong(calculateEnergyMultiplier() * calculateMaxFlowRate());
     }
 
     @ComputerMethod
     public long getMaxFlowRate() {
-        double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserGasFlow.get());
-        rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentGasFlow.get());
-        return MathUtils.clampToLong(rate);
+        return MathUtils.clampToLong(calculateMaxFlowRate());
     }
 
     @ComputerMethod
@@ -227,7 +227,7 @@ public class TileEntityHeatGenerator extends TileEntityGenerator {
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
         container.track(SyncableLong.create(this::getProductionRate, value -> producingEnergy = value));
-        container.track(SyncableDouble.create(this::getLastTransferLoss, value -> lastTransferLoss = value));
-        container.track(SyncableDouble.create(this::getLastEnvironmentLoss, value -> lastEnvironmentLoss = value));
+        container.trackCosmetic(SyncableDouble.create(this::getLastTransferLoss, value -> lastTransferLoss = value));
+        container.trackCosmetic(SyncableDouble.create(this::getLastEnvironmentLoss, value -> lastEnvironmentLoss = value));
     }
 }
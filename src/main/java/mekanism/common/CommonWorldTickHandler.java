@@ -15,8 +15,10 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.lib.multiblock.EntityZoneTracker;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileUpdateQueue;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -33,7 +35,9 @@ import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.EntityEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.level.ChunkDataEvent;
 import net.neoforged.neoforge.event.level.ChunkEvent;
@@ -98,6 +102,28 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onEntityJoin(EntityJoinLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            EntityZoneTracker.onJoinLevel(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            EntityZoneTracker.onLeaveLevel(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public void onEntityEnterSection(EntityEvent.EnteringSection event) {
+        Entity entity = event.getEntity();
+        if (!entity.level().isClientSide()) {
+            EntityZoneTracker.onEnterSection(entity, event.getPackedOldPos(), event.getPackedNewPos());
+        }
+    }
+
     @SubscribeEvent
     public void onBlockBreak(BlockEvent.BreakEvent event) {
         BlockState state = event.getState();
@@ -164,6 +190,9 @@ public class CommonWorldTickHandler {
             //When a world unloads, free up memory tracking the versions of the chunks in it
             chunkVersions.remove(level.dimension().location());
         }
+        if (world instanceof ServerLevel level) {
+            TileUpdateQueue.clear(level);
+        }
     }
 
     @SubscribeEvent
@@ -186,6 +215,7 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void onTick(LevelTickEvent.Post event) {
         if (event.getLevel() instanceof ServerLevel world) {
+            TileUpdateQueue.flush(world);
             RadiationManager.get().tickServerWorld(world);
             //Note: We flush the tag and recipe cache, and also perform retrogen, regardless of if the ticks are frozen or not
             if (flushTagAndRecipeCaches) {
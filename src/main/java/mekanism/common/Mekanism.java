@@ -48,6 +48,7 @@ import mekanism.common.content.tank.TankCache;
 import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
 import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.TransporterItemCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicCauldronInteraction;
@@ -61,15 +62,19 @@ import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.personalstorage.PersonalStorageManager;
+import mekanism.common.lib.multiblock.EntityZoneTracker;
 import mekanism.common.lib.multiblock.MultiblockCache;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.lib.transmitter.NetworkTickScheduler;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.lib.work.MekanismWorkers;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.transmitter.PacketChemicalNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.condition.MekanismRecipeConditions;
 import mekanism.common.registries.MekanismArmorMaterials;
@@ -96,7 +101,9 @@ import mekanism.common.registries.MekanismRecipeSerializersInternal;
 import mekanism.common.registries.MekanismRobitSkins;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
+import mekanism.common.tile.base.TileUpdateQueue;
 import mekanism.common.tile.component.TileComponentChunkLoader;
+import mekanism.common.tile.factory.FactorySortIndex;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.util.RegistryUtils;
 import mekanism.common.world.GenHandler;
@@ -310,6 +317,13 @@ public class Mekanism {
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
+        CraftingRecipeCache.reset();
+        FactorySortIndex.reset();
+        MekanismWorkers.reset();
+        NetworkTickScheduler.reset();
+        TransporterItemCache.reset();
+        TileUpdateQueue.reset();
+        EntityZoneTracker.reset();
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
@@ -159,6 +159,13 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_CRAFTING("command", "debug.crafting"),
+    COMMAND_DEBUG_FACTORY_SORTING("command", "debug.factory_sorting"),
+    COMMAND_DEBUG_PATHFINDING("command", "debug.pathfinding"),
+    COMMAND_DEBUG_RECIPE_MEMO("command", "debug.recipe_memo"),
+    COMMAND_DEBUG_RECIPE_MEMO_TYPE("command", "debug.recipe_memo.type"),
+    COMMAND_DEBUG_WORKERS("command", "debug.workers"),
+    COMMAND_DEBUG_WORKERS_PRIORITY("command", "debug.workers.priority"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
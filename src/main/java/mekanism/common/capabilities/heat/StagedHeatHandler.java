@@ -0,0 +1,70 @@
+package mekanism.common.capabilities.heat;
+
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.heat.IHeatHandler;
+
+/**
+ * Heat handler that stands in for a handler that may only be interacted with on the server thread. The values that are read while simulating heat transfer are
+ * captured when this is created, and any heat that is handled gets buffered until {@link #apply()} is called.
+ */
+@NothingNullByDefault
+public class StagedHeatHandler implements IHeatHandler {
+
+    private final IHeatHandler handler;
+    private final double temperature;
+    private final double inverseConduction;
+    private final double heatCapacity;
+    private double stagedHeat;
+
+    /**
+     * @apiNote Must be created on the server thread.
+     */
+    public StagedHeatHandler(IHeatHandler handler) {
+        this.handler = handler;
+        this.temperature = handler.getTotalTemperature();
+        this.inverseConduction = handler.getTotalInverseConduction();
+        this.heatCapacity = handler.getTotalHeatCapacity();
+    }
+
+    /**
+     * Passes all the heat that was handled since this was created to the actual handler.
+     *
+     * @apiNote Must be called on the server thread.
+     */
+    public void apply() {
+        if (stagedHeat != 0) {
+            handler.handleHeat(stagedHeat);
+            stagedHeat = 0;
+        }
+    }
+
+    @Override
+    public int getHeatCapacitorCount() {
+        return 1;
+    }
+
+    @Override
+    public double getTemperature(int capacitor) {
+        return temperature;
+    }
+
+    @Override
+    public double getInverseConduction(int capacitor) {
+        return inverseConduction;
+    }
+
+    @Override
+    public double getHeatCapacity(int capacitor) {
+        return heatCapacity;
+    }
+
+    @Override
+    public void handleHeat(int capacitor, double transfer) {
+        stagedHeat += transfer;
+    }
+
+    @Override
+    public void handleHeat(double transfer) {
+        stagedHeat += transfer;
+    }
+}
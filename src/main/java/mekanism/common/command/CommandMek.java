@@ -7,6 +7,7 @@ import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
@@ -14,7 +15,19 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
+import mekanism.common.lib.work.MekanismWorkers;
+import mekanism.common.lib.work.MekanismWorkers.Priority;
+import mekanism.common.lib.work.MekanismWorkers.PriorityStats;
+import mekanism.common.lib.work.MekanismWorkers.WorkerStats;
+import mekanism.common.recipe.CraftingRecipeCache;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.MekanismRecipeType.ComplexMemoStats;
+import mekanism.common.tile.factory.FactorySortIndex;
+import mekanism.common.tile.factory.FactorySortIndex.SortStats;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.TextUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.Coordinates;
@@ -56,7 +69,64 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  })
+                  .then(Commands.literal("crafting")
+                        .executes(ctx -> {
+                            CraftingRecipeCache.CacheStats stats = CraftingRecipeCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_CRAFTING.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.grids(),
+                                  EnumColor.INDIGO, stats.hits(), EnumColor.INDIGO, stats.misses(), EnumColor.INDIGO, stats.evictions()), true);
+                            return 0;
+                        })
+                  )
+                  .then(Commands.literal("factory_sorting")
+                        .executes(ctx -> {
+                            SortStats stats = FactorySortIndex.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_FACTORY_SORTING.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                  stats.plannedSorts(), EnumColor.INDIGO, stats.incrementalSorts(), EnumColor.INDIGO, stats.moves(), EnumColor.INDIGO,
+                                  stats.maxMoves()), true);
+                            return 0;
+                        })
+                  )
+                  .then(Commands.literal("pathfinding")
+                        .executes(ctx -> {
+                            CacheStats stats = PathfinderCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_PATHFINDING.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.paths(),
+                                  EnumColor.INDIGO, stats.networks(), EnumColor.INDIGO, stats.hits(), EnumColor.INDIGO, stats.misses(), EnumColor.INDIGO,
+                                  stats.evictions(), EnumColor.INDIGO, stats.invalidations()), true);
+                            return 0;
+                        })
+                  )
+                  .then(Commands.literal("recipe_memo")
+                        .executes(ctx -> {
+                            List<ComplexMemoStats> stats = MekanismRecipeType.getComplexMemoStats();
+                            long hits = stats.stream().mapToLong(ComplexMemoStats::hits).sum();
+                            long misses = stats.stream().mapToLong(ComplexMemoStats::misses).sum();
+                            CommandSourceStack source = ctx.getSource();
+                            source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPE_MEMO.translateColored(EnumColor.GRAY, EnumColor.INDIGO, hits,
+                                  EnumColor.INDIGO, misses), true);
+                            for (ComplexMemoStats typeStats : stats) {
+                                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPE_MEMO_TYPE.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                      typeStats.recipeType(), EnumColor.INDIGO, typeStats.hits(), EnumColor.INDIGO, typeStats.misses()), true);
+                            }
+                            return 0;
+                        })
+                  )
+                  .then(Commands.literal("workers")
+                        .executes(ctx -> {
+                            WorkerStats stats = MekanismWorkers.getStats();
+                            CommandSourceStack source = ctx.getSource();
+                            source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_WORKERS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.threads(),
+                                  EnumColor.INDIGO, stats.active()), true);
+                            for (Map.Entry<Priority, PriorityStats> entry : stats.priorities().entrySet()) {
+                                PriorityStats priorityStats = entry.getValue();
+                                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_WORKERS_PRIORITY.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                      entry.getKey().name(), EnumColor.INDIGO, priorityStats.queued(), EnumColor.INDIGO, priorityStats.completed(), EnumColor.INDIGO,
+                                      priorityStats.cancelled(), EnumColor.INDIGO, priorityStats.failed(), EnumColor.INDIGO, TextUtils.format(priorityStats.averageWait()),
+                                      EnumColor.INDIGO, TextUtils.format(priorityStats.maxWait()), EnumColor.INDIGO, TextUtils.format(priorityStats.averageRun())), true);
+                            }
+                            return 0;
+                        })
+                  );
         }
     }
 
@@ -8,11 +8,13 @@ import mekanism.api.functions.ConstantPredicates;
 import mekanism.common.config.value.CachedBooleanValue;
 import mekanism.common.config.value.CachedConfigValue;
 import mekanism.common.config.value.CachedDoubleValue;
+import mekanism.common.config.value.CachedEnumValue;
 import mekanism.common.config.value.CachedFloatValue;
 import mekanism.common.config.value.CachedIntValue;
 import mekanism.common.config.value.CachedLongValue;
 import mekanism.common.config.value.CachedOredictionificatorConfigValue;
 import mekanism.common.content.evaporation.EvaporationMultiblockData;
+import mekanism.common.content.qio.storage.QIOItemStorage.StorageType;
 import mekanism.common.tier.ChemicalTankTier;
 import mekanism.common.tier.EnergyCubeTier;
 import mekanism.common.tier.FluidTankTier;
@@ -34,6 +36,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String OREDICTIONIFICATOR_CATEGORY = "oredictionificator";
     private static final String PUMP_CATEGORY = "pump";
     private static final String ENTANGLOPORTER_CATEGORY = "quantum_entangloporter";
+    private static final String TRANSPORTER_CATEGORY = "logistical_transporter";
+    private static final String QIO_CATEGORY = "qio";
     private static final String SECURITY_CATEGORY = "security";
     private static final String BOILER_CATEGORY = "boiler";
     private static final String EVAPORATION_CATEGORY = "thermal_evaporation";
@@ -47,6 +51,10 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final BooleanSupplier enableAlphaWarning;
 
     public final CachedBooleanValue logPackets;
+    public final CachedIntValue workerThreads;
+    public final CachedIntValue networkTickThreads;
+    public final CachedIntValue cosmeticSyncInterval;
+    public final CachedIntValue craftingRecipeCacheSize;
     public final CachedBooleanValue allowChunkloading;
     public final CachedBooleanValue easyMinerFilters;
     public final CachedIntValue blockDeactivationDelay;
@@ -108,6 +116,11 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedLongValue entangloporterEnergyBuffer;
     public final CachedIntValue entangloporterFluidBuffer;
     public final CachedLongValue entangloporterChemicalBuffer;
+    //Logistical Transporter
+    public final CachedIntValue transporterPathCacheSize;
+    //QIO
+    public final CachedIntValue qioViewerSyncRate;
+    public final CachedEnumValue<StorageType> qioStorageType;
     //Security
     public final CachedBooleanValue allowProtection;
     public final CachedBooleanValue opsBypassRestrictions;
@@ -145,6 +158,14 @@ public class GeneralConfig extends BaseMekanismConfig {
 
         logPackets = CachedBooleanValue.wrap(this, builder.comment("Log Mekanism packet names. Debug setting.")
               .define("logPackets", false));
+        workerThreads = CachedIntValue.wrap(this, builder.comment("Maximum number of threads Mekanism uses for background work, such as Digital Miner searches. Work started while all threads are busy waits in a queue.")
+              .defineInRange("workerThreads", 2, 1, 16));
+        networkTickThreads = CachedIntValue.wrap(this, builder.comment("Number of threads to update independent transmitter networks on in parallel. Only heat networks currently support this. Any changes to blocks connected to the networks are still applied on the server thread. Set to zero to update all networks on the server thread.")
+              .defineInRange("networkTickThreads", 0, 0, 16));
+        cosmeticSyncInterval = CachedIntValue.wrap(this, builder.comment("How often in ticks to sync values in open GUIs that are only displayed, such as the recent energy usage of a machine. Other values are still synced every tick.")
+              .defineInRange("cosmeticSyncInterval", 5, 1, 100));
+        craftingRecipeCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of crafting grids to remember the matching crafting recipe of, for blocks that craft such as the Formulaic Assemblicator and QIO crafting windows. When the limit is reached the least recently used grids are discarded.")
+              .defineInRange("craftingRecipeCacheSize", 1_024, 1, 1_000_000));
         allowChunkloading = CachedBooleanValue.wrap(this, builder.comment("Disable to make the anchor upgrade not do anything.")
               .define("allowChunkloading", true));
         easyMinerFilters = CachedBooleanValue.wrap(this, builder.comment("Enable this to allow dragging items from JEI into the target slot of Digital Miner filters.")
@@ -287,6 +308,19 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("chemicalBuffer", ChemicalTankTier.ULTIMATE.getBaseStorage(), 1, Long.MAX_VALUE));
         builder.pop();
 
+        builder.comment("Logistical Transporter Settings").push(TRANSPORTER_CATEGORY);
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of paths that are cached per logistical transporter network. When the limit is reached the least recently used paths are discarded.")
+              .defineInRange("pathCacheSize", 1_024, 1, 1_000_000));
+        builder.pop();
+
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncRate = CachedIntValue.wrap(this, builder.comment("Minimum number of ticks between item updates being sent to players viewing the items in a QIO frequency. Changes that happen in between are combined into a single update. Set to 1 to sync changes every tick.")
+              .defineInRange("viewerSyncRate", 5, 1, SharedConstants.TICKS_PER_SECOND * 5));
+        qioStorageType = CachedEnumValue.wrap(this, builder.comment("How QIO frequencies keep track of the items stored in their drives. MAP is fastest for frequencies with few item types, COLUMNAR uses much less memory for frequencies with a large number of item types.")
+              .worldRestart()
+              .defineEnum("storageType", StorageType.MAP));
+        builder.pop();
+
         builder.comment("Block security/protection Settings").push(SECURITY_CATEGORY);
         allowProtection = CachedBooleanValue.wrap(this, builder.comment("Enable the security system for players to prevent others from accessing their machines. Does NOT affect Frequencies.")
               .define("allowProtection", true));
@@ -3,14 +3,13 @@ package mekanism.common.content.assemblicator;
 import java.util.List;
 import mekanism.api.inventory.IInventorySlot;
 import mekanism.common.attachments.FormulaAttachment;
-import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingInput;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,7 +31,7 @@ public record RecipeFormula(CraftingInput.Positioned craftingInput, @Nullable Re
         if (craftingInput.input().isEmpty()) {
             return EMPTY;
         }
-        return new RecipeFormula(craftingInput, MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, craftingInput.input(), world).orElse(null));
+        return new RecipeFormula(craftingInput, CraftingRecipeCache.getRecipeFor(craftingInput.input(), world).orElse(null));
     }
 
     public RecipeFormula withStack(Level world, int index, ItemStack stack) {
@@ -261,7 +261,11 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
 
     private double getHeatAvailable() {
         double heatAvailable = (heatCapacitor.getTemperature() - HeatUtils.BASE_BOIL_TEMP) * (heatCapacitor.getHeatCapacity() * MekanismConfig.general.boilerWaterConductivity.get());
-        return Math.min(heatAvailable, MekanismConfig.general.superheatingHeatTransfer.get() * superheatingElements);
+        return Math.min(heatAvailable, getMaxHeatTransfer());
+    }
+
+    private double getMaxHeatTransfer() {
+        return MekanismConfig.general.superheatingHeatTransfer.get() * superheatingElements;
     }
 
     @Override
@@ -298,7 +302,7 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
 
     @ComputerMethod(methodDescription = "Get the maximum possible boil rate for this Boiler, based on the number of Superheating Elements")
     public long getBoilCapacity() {
-        double boilCapacity = MekanismConfig.general.superheatingHeatTransfer.get() * superheatingElements / HeatUtils.getWaterThermalEnthalpy();
+        double boilCapacity = getMaxHeatTransfer() / HeatUtils.getWaterThermalEnthalpy();
         return MathUtils.clampToLong(boilCapacity * HeatUtils.getSteamEnergyEfficiency());
     }
 }
@@ -3,9 +3,20 @@ package mekanism.common.content.miner;
 import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
@@ -13,16 +24,20 @@ import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.gear.mekatool.ModuleExcavationEscalationUnit.ExcavationMode;
+import mekanism.common.lib.work.MekanismWorkers;
+import mekanism.common.lib.work.MekanismWorkers.Priority;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.util.ByIdMap;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.BedBlock;
@@ -33,77 +48,171 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch {
+
+    private static final int SECTION_SIZE = SectionPos.SECTION_SIZE;
 
     private final TileEntityDigitalMiner tile;
     private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<SectionResult> sections = new Long2ObjectOpenHashMap<>();
+    private final Map<Block, Acceptance> acceptedBlocks = new ConcurrentHashMap<>();
+    private final List<Future<?>> pending = new ArrayList<>();
+    private final AtomicInteger remainingSections = new AtomicInteger();
+    /**
+     * Results of the previous search, used to only rescan the sections that are affected by a change to the filters.
+     */
+    @Nullable
+    private final SearchResult previous;
+    @Nullable
+    private SearchResult result;
+    private SearchVolume volume;
+    private FilterSnapshot filters;
     private PathNavigationRegion chunkCache;
+    private volatile boolean cancelled;
     public State state = State.IDLE;
     public int found = 0;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
-        super("Digital Miner Search thread " + tile.getBlockPos());
+        this(tile, null);
+    }
+
+    public ThreadMinerSearch(TileEntityDigitalMiner tile, @Nullable SearchResult previous) {
         this.tile = tile;
-        setDaemon(true);
+        this.previous = previous;
     }
 
     public void setChunkCache(PathNavigationRegion cache) {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
+    /**
+     * {@return the results of this search by section if it finished searching, for use in incrementally rescanning after the filters change}
+     */
+    @Nullable
+    public SearchResult getResult() {
+        return result;
+    }
+
+    /**
+     * Starts searching for blocks to mine on Mekanism's worker threads.
+     */
+    public void start() {
         state = State.SEARCHING;
+        submit(this::search);
+    }
+
+    /**
+     * Stops searching, skipping any sections that have not been searched yet.
+     */
+    public void cancel() {
+        cancelled = true;
+        synchronized (pending) {
+            for (Future<?> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+        }
+    }
+
+    private void submit(Runnable task) {
+        //Note: We submit the tasks on behalf of the miner so that they get cancelled if the miner is removed
+        Future<?> future = MekanismWorkers.submit(tile, Priority.NORMAL, task);
+        synchronized (pending) {
+            if (cancelled) {
+                future.cancel(false);
+            } else {
+                pending.add(future);
+            }
+        }
+    }
+
+    /**
+     * Splits the search volume into chunk sections and queues searching the ones that need to be searched.
+     */
+    private void search() {
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
-        int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
-                continue;
+        volume = new SearchVolume(tile.getBlockPos(), tile.getStartingPos(), tile.getDiameter(), tile.getTotalSize() / (tile.getDiameter() * tile.getDiameter()));
+        filters = FilterSnapshot.create(tile);
+        Set<Block> changedBlocks = null;
+        if (previous != null && previous.volume.equals(volume) && !previous.filters.equals(filters)) {
+            //The filters changed since the last search, figure out which blocks are now accepted differently so that we only have to rescan
+            // the sections containing them
+            changedBlocks = new ReferenceOpenHashSet<>();
+            for (Map.Entry<Block, Acceptance> entry : previous.acceptedBlocks.entrySet()) {
+                Acceptance acceptance = getAcceptance(entry.getValue().state());
+                if (acceptance.accepted() != entry.getValue().accepted()) {
+                    changedBlocks.add(entry.getKey());
+                }
             }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
+        }
+        LongList toSearch = new LongArrayList();
+        Long2ObjectMap<SectionResult> reusable = new Long2ObjectOpenHashMap<>();
+        BlockPos start = volume.start();
+        int minSectionY = SectionPos.blockToSectionCoord(start.getY()), maxSectionY = SectionPos.blockToSectionCoord(start.getY() + volume.height() - 1);
+        int minChunkX = SectionPos.blockToSectionCoord(start.getX()), maxChunkX = SectionPos.blockToSectionCoord(start.getX() + volume.diameter() - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(start.getZ()), maxChunkZ = SectionPos.blockToSectionCoord(start.getZ() + volume.diameter() - 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    long sectionKey = SectionPos.asLong(chunkX, sectionY, chunkZ);
+                    SectionResult previousResult = changedBlocks == null ? null : previous.sections.get(sectionKey);
+                    if (previousResult != null && Collections.disjoint(previousResult.candidates(), changedBlocks)) {
+                        //None of the blocks in the section are accepted differently, so we may be able to reuse what we found last time
+                        reusable.put(sectionKey, previousResult);
+                    }
+                    toSearch.add(sectionKey);
+                }
             }
-            boolean accepted;
-            if (acceptedItems.containsKey(info)) {
-                accepted = acceptedItems.getBoolean(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    accepted = false;
+        }
+        if (toSearch.isEmpty()) {
+            finish();
+            return;
+        }
+        remainingSections.set(toSearch.size());
+        for (LongIterator iterator = toSearch.iterator(); iterator.hasNext(); ) {
+            long sectionKey = iterator.nextLong();
+            SectionResult previousResult = reusable.get(sectionKey);
+            submit(() -> {
+                int chunkX = SectionPos.x(sectionKey), sectionY = SectionPos.y(sectionKey), chunkZ = SectionPos.z(sectionKey);
+                SectionResult sectionResult;
+                if (previousResult != null && !cancelled && previousResult.stateHash() == hashStates(SectionBounds.create(volume, chunkX, sectionY, chunkZ))) {
+                    //None of the blocks in the section have changed since the previous search, so what we found is still correct
+                    sectionResult = previousResult;
                 } else {
-                    //Ensure that the inverse mode is the opposite of the filter match
-                    accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+                    sectionResult = searchSection(chunkX, sectionY, chunkZ);
                 }
-                acceptedItems.put(info, accepted);
-            }
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
+                if (sectionResult != null) {
+                    synchronized (this) {
+                        addSection(sectionKey, sectionResult);
+                    }
+                    if (remainingSections.decrementAndGet() == 0) {
+                        finish();
+                    }
+                }
+            });
+        }
+    }
+
+    private void addSection(long sectionKey, SectionResult sectionResult) {
+        if (sectionResult != SectionResult.SKIPPED) {
+            sections.put(sectionKey, sectionResult);
+            BitSet sectionFound = sectionResult.found();
+            if (!sectionFound.isEmpty()) {
+                oresToMine.computeIfAbsent(sectionResult.chunk(), k -> new BitSet()).or(sectionFound);
+                found += sectionFound.cardinality();
             }
         }
+    }
 
+    private void finish() {
+        result = new SearchResult(volume, filters, acceptedBlocks, sections);
         state = State.FINISHED;
         chunkCache = null;
         if (tile.searcher == this) {
@@ -112,6 +221,110 @@ public class ThreadMinerSearch extends Thread {
         }
     }
 
+    /**
+     * @return the blocks found in the section, {@link SectionResult#SKIPPED} if the section's palette doesn't contain any blocks we might mine, or {@code null} if the
+     * search was stopped.
+     */
+    @Nullable
+    private SectionResult searchSection(int chunkX, int sectionY, int chunkZ) {
+        if (cancelled || tile.isRemoved() || tile.searcher != this) {
+            //Make sure the search is still valid and something hasn't gone wrong, or we have been replaced
+            return null;
+        }
+        if (chunkCache.getChunkForCollisions(chunkX, chunkZ) instanceof ChunkAccess chunk) {
+            int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+            if (sectionIndex >= 0 && sectionIndex < chunk.getSectionsCount()) {
+                LevelChunkSection section = chunk.getSection(sectionIndex);
+                if (section.hasOnlyAir() || !section.maybeHas(state -> !state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST) &&
+                                                                    !MekanismUtils.isLiquidBlock(state.getBlock()) && getAcceptance(state).accepted())) {
+                    //Skip sections that can't contain any blocks that we would mine
+                    return SectionResult.SKIPPED;
+                }
+            }
+        }
+        BlockPos start = volume.start();
+        int diameter = volume.diameter();
+        SectionBounds bounds = SectionBounds.create(volume, chunkX, sectionY, chunkZ);
+        BitSet sectionFound = new BitSet();
+        Set<Block> candidates = new ReferenceOpenHashSet<>();
+        long stateHash = 0;
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        for (int y = bounds.minY(); y < bounds.maxY(); y++) {
+            for (int z = bounds.minZ(); z < bounds.maxZ(); z++) {
+                for (int x = bounds.minX(); x < bounds.maxX(); x++) {
+                    testPos.set(x, y, z);
+                    BlockState state = chunkCache.getBlockState(testPos);
+                    stateHash = hashState(stateHash, state);
+                    if (volume.minerPos().equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
+                        //Skip the miner itself, and also skip any bounding blocks
+                        continue;
+                    }
+                    if (isMineable(state, testPos)) {
+                        candidates.add(state.getBlock());
+                        if (getAcceptance(state).accepted()) {
+                            //Note: This matches the index calculated by TileEntityDigitalMiner#getOffsetForIndex
+                            sectionFound.set((y - start.getY()) * diameter * diameter + (z - start.getZ()) * diameter + x - start.getX());
+                        }
+                    }
+                }
+            }
+        }
+        return new SectionResult(SectionPos.asLong(chunkX, sectionY, chunkZ), ChunkPos.asLong(chunkX, chunkZ), sectionFound, candidates, stateHash);
+    }
+
+    /**
+     * Hashes the states of all the blocks in the given bounds, so that we can check if any of them have changed since a previous search, without having to check if each
+     * of them can be mined again.
+     */
+    private long hashStates(SectionBounds bounds) {
+        long stateHash = 0;
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        for (int y = bounds.minY(); y < bounds.maxY(); y++) {
+            for (int z = bounds.minZ(); z < bounds.maxZ(); z++) {
+                for (int x = bounds.minX(); x < bounds.maxX(); x++) {
+                    stateHash = hashState(stateHash, chunkCache.getBlockState(testPos.set(x, y, z)));
+                }
+            }
+        }
+        return stateHash;
+    }
+
+    private static long hashState(long stateHash, BlockState state) {
+        //Note: As the multiplier is odd, changing any single state to one with a different identity hash is guaranteed to change the hash
+        return 31 * stateHash + System.identityHashCode(state);
+    }
+
+    private Acceptance getAcceptance(BlockState state) {
+        Acceptance acceptance = acceptedBlocks.get(state.getBlock());
+        if (acceptance == null) {
+            acceptance = new Acceptance(state, calculateAccepted(state));
+            Acceptance existing = acceptedBlocks.putIfAbsent(state.getBlock(), acceptance);
+            if (existing != null) {
+                //Another section calculated it at the same time, use theirs so that all sections agree
+                return existing;
+            }
+        }
+        return acceptance;
+    }
+
+    /**
+     * Checks if a state is one that we may be able to mine, ignoring what the filters are.
+     */
+    private boolean isMineable(BlockState state, BlockPos pos) {
+        //Skip air, blacklisted blocks, special cased block states, unbreakable blocks, and liquids
+        return !state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST) && !shouldSkipState(state) && state.getDestroySpeed(chunkCache, pos) >= 0 &&
+               !MekanismUtils.isLiquidBlock(state.getBlock());
+    }
+
+    private boolean calculateAccepted(BlockState state) {
+        if (tile.isReplaceTarget(state.getBlock().asItem())) {
+            //If it is a replace target just mark it as never being accepted
+            return false;
+        }
+        //Ensure that the inverse mode is the opposite of the filter match
+        return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+    }
+
     /**
      * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
      * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
@@ -126,6 +339,73 @@ public class ThreadMinerSearch extends Thread {
         return false;
     }
 
+    private record SearchVolume(BlockPos minerPos, BlockPos start, int diameter, int height) {
+    }
+
+    /**
+     * Bounds of the part of a chunk section that is inside the search volume. The min values are inclusive and the max values are exclusive.
+     */
+    private record SectionBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+
+        private static SectionBounds create(SearchVolume volume, int chunkX, int sectionY, int chunkZ) {
+            BlockPos start = volume.start();
+            int diameter = volume.diameter();
+            return new SectionBounds(
+                  Math.max(start.getX(), SectionPos.sectionToBlockCoord(chunkX)),
+                  Math.max(start.getY(), SectionPos.sectionToBlockCoord(sectionY)),
+                  Math.max(start.getZ(), SectionPos.sectionToBlockCoord(chunkZ)),
+                  Math.min(start.getX() + diameter, SectionPos.sectionToBlockCoord(chunkX) + SECTION_SIZE),
+                  Math.min(start.getY() + volume.height(), SectionPos.sectionToBlockCoord(sectionY) + SECTION_SIZE),
+                  Math.min(start.getZ() + diameter, SectionPos.sectionToBlockCoord(chunkZ) + SECTION_SIZE)
+            );
+        }
+    }
+
+    private record FilterSnapshot(Set<MinerFilter<?>> filters, boolean inverse, Item inverseReplaceTarget) {
+
+        private static FilterSnapshot create(TileEntityDigitalMiner tile) {
+            Set<MinerFilter<?>> filters = new HashSet<>();
+            for (MinerFilter<?> filter : tile.getFilterManager().getEnabledFilters()) {
+                filters.add(filter.clone());
+            }
+            return new FilterSnapshot(filters, tile.getInverse(), tile.getInverseReplaceTarget());
+        }
+    }
+
+    /**
+     * @param state    State the acceptance was calculated for.
+     * @param accepted Whether blocks of this type should be mined.
+     */
+    private record Acceptance(BlockState state, boolean accepted) {
+    }
+
+    /**
+     * @param key        Section this is the result for.
+     * @param chunk      Chunk the section is in.
+     * @param found      Indices of the blocks in the section that should be mined.
+     * @param candidates All the blocks in the section that could be mined depending on the filters.
+     * @param stateHash  Hash of the states of all the blocks in the part of the section that was searched.
+     */
+    private record SectionResult(long key, long chunk, BitSet found, Set<Block> candidates, long stateHash) {
+
+        private static final SectionResult SKIPPED = new SectionResult(Long.MAX_VALUE, ChunkPos.INVALID_CHUNK_POS, new BitSet(), Collections.emptySet(), 0);
+    }
+
+    public static final class SearchResult {
+
+        private final SearchVolume volume;
+        private final FilterSnapshot filters;
+        private final Map<Block, Acceptance> acceptedBlocks;
+        private final Long2ObjectMap<SectionResult> sections;
+
+        private SearchResult(SearchVolume volume, FilterSnapshot filters, Map<Block, Acceptance> acceptedBlocks, Long2ObjectMap<SectionResult> sections) {
+            this.volume = volume;
+            this.filters = filters;
+            this.acceptedBlocks = acceptedBlocks;
+            this.sections = sections;
+        }
+    }
+
     @NothingNullByDefault
     public enum State implements IHasTextComponent {
         IDLE(MekanismLang.MINER_IDLE),
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.MekanismAPI;
@@ -39,6 +38,10 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     private final List<IChemicalTank> chemicalTanks;
     public Chemical lastChemical = MekanismAPI.EMPTY_CHEMICAL;
     private long prevTransferAmount;
+    /**
+     * Target that gets reused each tick for emitting to acceptors to avoid having to reallocate its backing buffers.
+     */
+    private final ChemicalHandlerTarget emitTarget = new ChemicalHandlerTarget(ChemicalStack.EMPTY);
 
     public ChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -166,16 +169,17 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     }
 
     private long tickEmit(@NotNull ChemicalStack stack) {
-        Collection<Map<Direction, IChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget target = new ChemicalHandlerTarget(stack, acceptorValues.size() * 2);
-        for (Map<Direction, IChemicalHandler> acceptors : acceptorValues) {
-            for (IChemicalHandler handler : acceptors.values()) {
-                if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                    target.addHandler(handler);
-                }
+        ChemicalHandlerTarget target = emitTarget;
+        target.reset(stack);
+        for (IChemicalHandler handler : acceptorCache.getAcceptorSnapshot()) {
+            if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                target.addHandler(handler);
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        long sent = EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        //Don't hold onto references of the handlers or the stack between ticks
+        target.reset(ChemicalStack.EMPTY);
+        return sent;
     }
 
     @Override
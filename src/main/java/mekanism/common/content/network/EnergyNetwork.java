@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -31,6 +30,10 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
     private long prevTransferAmount = 0L;
+    /**
+     * Target that gets reused each tick for emitting to acceptors to avoid having to reallocate its backing buffers.
+     */
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget();
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -104,16 +107,17 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private long tickEmit(long energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
-            for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
-                    target.addHandler(acceptor);
-                }
+        EnergyAcceptorTarget target = emitTarget;
+        target.reset();
+        for (IStrictEnergyHandler acceptor : acceptorCache.getAcceptorSnapshot()) {
+            if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
+                target.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend, energyToSend);
+        long sent = EmitUtils.sendToAcceptors(target, energyToSend, energyToSend);
+        //Don't hold onto references of the handlers between ticks
+        target.reset();
+        return sent;
     }
 
     @Override
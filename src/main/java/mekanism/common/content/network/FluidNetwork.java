@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -36,6 +35,10 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    /**
+     * Target that gets reused each tick for emitting to acceptors to avoid having to reallocate its backing buffers.
+     */
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget(FluidStack.EMPTY);
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -150,16 +153,17 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
-            for (IFluidHandler acceptor : acceptors.values()) {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    target.addHandler(acceptor);
-                }
+        FluidHandlerTarget target = emitTarget;
+        target.reset(fluidToSend);
+        for (IFluidHandler acceptor : acceptorCache.getAcceptorSnapshot()) {
+            if (FluidUtils.canFill(acceptor, fluidToSend)) {
+                target.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        int sent = EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        //Don't hold onto references of the handlers or the stack between ticks
+        target.reset(FluidStack.EMPTY);
+        return sent;
     }
 
     @Override
@@ -1,11 +1,19 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.capabilities.heat.StagedHeatHandler;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
@@ -15,9 +23,28 @@ import org.jetbrains.annotations.NotNull;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
+    /**
+     * How close in kelvin a conductor's temperature has to be to the ambient temperature on all sides before it stops being simulated.
+     */
+    private static final double EQUILIBRIUM_THRESHOLD = 0.001;
+
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    private final List<StagedHeatHandler> stagedHandlers = new ArrayList<>();
+    /**
+     * Conductors that need to be simulated each tick.
+     */
+    private final Set<ThermodynamicConductor> activeConductors = new ObjectOpenHashSet<>();
+    /**
+     * Conductors that need to be added to the active conductors the next time they are iterated.
+     */
+    private final Set<ThermodynamicConductor> wokenConductors = new ObjectOpenHashSet<>();
+    /**
+     * Conductors that are close enough to equilibrium that they don't need to be simulated, and the temperature they had when they were put to sleep.
+     */
+    private final Object2DoubleMap<ThermodynamicConductor> sleepingConductors = new Object2DoubleOpenHashMap<>();
+    private double sleepingTempSum;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -47,22 +74,149 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
+        wakeConductors();
+        simulate();
+        updateTemperatures();
+    }
+
+    @Override
+    public boolean supportsParallelUpdate() {
+        return true;
+    }
+
+    @Override
+    public void prepareParallelUpdate() {
+        wakeConductors();
+        for (ThermodynamicConductor transmitter : activeConductors) {
+            transmitter.prepareParallelSimulation(stagedHandlers);
+        }
+    }
+
+    @Override
+    public void parallelUpdate() {
+        //Note: Heat handled by the conductors is buffered until their capacitors update, and any acceptors outside the network have been staged,
+        // so simulating only modifies this network's own transmitters
+        simulate();
+    }
+
+    @Override
+    public void applyParallelUpdate() {
+        for (StagedHeatHandler stagedHandler : stagedHandlers) {
+            stagedHandler.apply();
+        }
+        stagedHandlers.clear();
+        for (ThermodynamicConductor transmitter : activeConductors) {
+            transmitter.finishParallelSimulation();
+        }
+        updateTemperatures();
+    }
+
+    private void simulate() {
+        double newHeatLost = 0, newHeatTransferred = 0;
+        for (ThermodynamicConductor transmitter : activeConductors) {
             HeatTransfer transfer = transmitter.simulate();
             newHeatTransferred += transfer.adjacentTransfer();
             newHeatLost += transfer.environmentTransfer();
         }
+        heatLost = newHeatLost;
+        heatTransferred = newHeatTransferred;
+    }
+
+    private void updateTemperatures() {
+        //Wake any conductors that had heat transferred to them while simulating, so that their temperatures get updated as well
+        wakeConductors();
+        if (activeConductors.isEmpty()) {
+            //The network is fully asleep, so the mean temperature can't have changed
+            return;
+        }
         //After we updated the heat values of all the transmitters, we need to update the temperatures
         // we do this after instead of when iterating initially so that if heat is transferred from one
         // conductor to one we already updated then we want it to have the proper total temperature
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
+        for (ThermodynamicConductor transmitter : activeConductors) {
             transmitter.updateHeatCapacitors(null);
-            newSumTemp += transmitter.getTotalTemperature();
         }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmittersSize();
+        double newSumTemp = 0;
+        for (Iterator<ThermodynamicConductor> iterator = activeConductors.iterator(); iterator.hasNext(); ) {
+            ThermodynamicConductor transmitter = iterator.next();
+            double temperature = transmitter.getTotalTemperature();
+            if (transmitter.isAtEquilibrium(EQUILIBRIUM_THRESHOLD)) {
+                //Simulating the conductor would not transfer any meaningful amount of heat, so put it to sleep until heat is transferred to it
+                iterator.remove();
+                sleepingConductors.put(transmitter, temperature);
+                sleepingTempSum += temperature;
+            } else {
+                newSumTemp += temperature;
+            }
+        }
+        meanTemp = (newSumTemp + sleepingTempSum) / transmittersSize();
+    }
+
+    /**
+     * Marks the given conductor as needing to be simulated, for example because heat was transferred to it.
+     */
+    public void wake(ThermodynamicConductor transmitter) {
+        if (!isRemote()) {
+            wokenConductors.add(transmitter);
+        }
+    }
+
+    private void wakeConductors() {
+        if (!wokenConductors.isEmpty()) {
+            for (ThermodynamicConductor transmitter : wokenConductors) {
+                if (sleepingConductors.containsKey(transmitter)) {
+                    sleepingTempSum -= sleepingConductors.removeDouble(transmitter);
+                }
+                //Only wake conductors that are still part of this network
+                if (getTransmitter(transmitter.getBlockPos()) == transmitter) {
+                    activeConductors.add(transmitter);
+                }
+            }
+            wokenConductors.clear();
+        }
+    }
+
+    private void forget(ThermodynamicConductor transmitter) {
+        activeConductors.remove(transmitter);
+        wokenConductors.remove(transmitter);
+        if (sleepingConductors.containsKey(transmitter)) {
+            sleepingTempSum -= sleepingConductors.removeDouble(transmitter);
+        }
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(ThermodynamicConductor transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        wake(transmitter);
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        wake(transmitter);
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        forget(transmitter);
+        super.removeTransmitter(transmitter);
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        List<ThermodynamicConductor> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
+        for (ThermodynamicConductor transmitter : net.getTransmitters()) {
+            wake(transmitter);
+        }
+        return transmittersToUpdate;
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        activeConductors.clear();
+        wokenConductors.clear();
+        sleepingConductors.clear();
+        sleepingTempSum = 0;
     }
 
     @Override
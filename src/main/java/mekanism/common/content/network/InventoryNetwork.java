@@ -1,6 +1,8 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -32,6 +34,16 @@ import org.jetbrains.annotations.NotNull;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * Positions of transporters and acceptors that have changed since the last commit. Only cached paths that pass by these positions need to be invalidated.
+     */
+    private final LongSet changedPositions = new LongOpenHashSet();
+    /**
+     * Positions of transporters that have been added since the last commit. Cached paths that a path through these transporters could be cheaper than need to be
+     * invalidated.
+     */
+    private final LongSet addedTransporters = new LongOpenHashSet();
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -91,16 +103,50 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    @Override
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        //Note: New transporters may provide shorter paths that don't pass near any of our cached paths, so we can't just invalidate the paths near them
+        addedTransporters.add(transmitter.getBlockPos().asLong());
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        changedPositions.add(transmitter.getBlockPos().relative(side).asLong());
+    }
+
+    @Override
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        //Copy our transporter positions before adopting the other network's transporters
+        LongSet transporters = new LongOpenHashSet(positionedTransmitters.keySet());
+        List<LogisticalTransporterBase> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
+        changedPositions.addAll(net.changedPositions);
+        addedTransporters.addAll(net.addedTransporters);
+        PathfinderCache.onMerged(this, transporters, net, net.positionedTransmitters.keySet());
+        return transmittersToUpdate;
+    }
+
     @Override
     public void commit() {
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        if (!addedTransporters.isEmpty()) {
+            // update the cache when transmitters have been added to the network
+            PathfinderCache.onTransportersAdded(this, addedTransporters);
+            addedTransporters.clear();
+        }
+        if (!changedPositions.isEmpty()) {
+            // update the cache when the network has been changed (called when acceptors are added or changed)
+            PathfinderCache.onChanged(this, changedPositions);
+            changedPositions.clear();
+        }
     }
 
     @Override
     public void deregister() {
         super.deregister();
+        changedPositions.clear();
+        addedTransporters.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
@@ -6,7 +6,7 @@ import mekanism.api.chemical.IChemicalHandler;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 
-public class ChemicalHandlerTarget extends Target<IChemicalHandler, Long, ChemicalStack> {
+public class ChemicalHandlerTarget extends Target<IChemicalHandler, ChemicalStack> {
 
     public ChemicalHandlerTarget(ChemicalStack type) {
         this.extra = type;
@@ -17,13 +17,23 @@ public class ChemicalHandlerTarget extends Target<IChemicalHandler, Long, Chemic
         this.extra = type;
     }
 
+    /**
+     * Clears this target and sets the type it is going to be distributing, so that it can be reused.
+     *
+     * @param type Type of chemical to distribute.
+     */
+    public void reset(ChemicalStack type) {
+        reset();
+        this.extra = type;
+    }
+
     @Override
-    protected void acceptAmount(IChemicalHandler handler, SplitInfo<Long> splitInfo, Long amount) {
+    protected void acceptAmount(IChemicalHandler handler, SplitInfo splitInfo, long amount) {
         splitInfo.send(amount - handler.insertChemical(extra.copyWithAmount(amount), Action.EXECUTE).getAmount());
     }
 
     @Override
-    protected Long simulate(IChemicalHandler handler, ChemicalStack stack) {
+    protected long simulate(IChemicalHandler handler, ChemicalStack stack) {
         return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
     }
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull FluidStack> {
+public class FluidHandlerTarget extends Target<IFluidHandler, @NotNull FluidStack> {
 
     public FluidHandlerTarget(@NotNull FluidStack type) {
         this.extra = type;
@@ -24,13 +24,24 @@ public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull
         this.extra = type;
     }
 
+    /**
+     * Clears this target and sets the type it is going to be distributing, so that it can be reused.
+     *
+     * @param type Type of fluid to distribute.
+     */
+    public void reset(@NotNull FluidStack type) {
+        reset();
+        this.extra = type;
+    }
+
     @Override
-    protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handler.fill(extra.copyWithAmount(amount), FluidAction.EXECUTE));
+    protected void acceptAmount(IFluidHandler handler, SplitInfo splitInfo, long amount) {
+        //Note: Amounts offered to fluid handlers are always derived from an int amount, so they will fit in an int
+        splitInfo.send(handler.fill(extra.copyWithAmount((int) amount), FluidAction.EXECUTE));
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
+    protected long simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
 }
\ No newline at end of file
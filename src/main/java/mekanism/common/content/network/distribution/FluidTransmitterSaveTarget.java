@@ -9,7 +9,7 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
 //TODO: Improve handling for fluid storage as longs
-public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarget.SaveHandler, Integer, @NotNull FluidStack> {
+public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarget.SaveHandler, @NotNull FluidStack> {
 
     public FluidTransmitterSaveTarget(@NotNull FluidStack type, Collection<MechanicalPipe> transmitters) {
         super(transmitters.size());
@@ -20,12 +20,12 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
     }
 
     @Override
-    protected void acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
+    protected void acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, SplitInfo splitInfo, long amount) {
         handler.acceptAmount(splitInfo, amount);
     }
 
     @Override
-    protected Integer simulate(FluidTransmitterSaveTarget.SaveHandler handler, @NotNull FluidStack fluidStack) {
+    protected long simulate(FluidTransmitterSaveTarget.SaveHandler handler, @NotNull FluidStack fluidStack) {
         return handler.simulate(fluidStack);
     }
 
@@ -44,8 +44,8 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Integer> splitInfo, Integer amount) {
-            amount = Math.min(amount, MathUtils.clampToInt(transmitter.getCapacity() - currentStored.getAmount()));
+        protected void acceptAmount(SplitInfo splitInfo, long offered) {
+            int amount = Math.min((int) offered, MathUtils.clampToInt(transmitter.getCapacity() - currentStored.getAmount()));
             if (currentStored.isEmpty()) {
                 currentStored = extra.copyWithAmount(amount);
             } else {
@@ -54,7 +54,7 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
             splitInfo.send(amount);
         }
 
-        protected Integer simulate(@NotNull FluidStack fluidStack) {
+        protected int simulate(@NotNull FluidStack fluidStack) {
             if (!currentStored.isEmpty() && !FluidStack.isSameFluidSameComponents(currentStored, fluidStack)) {
                 return 0;
             }
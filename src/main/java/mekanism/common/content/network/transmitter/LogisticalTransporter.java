@@ -5,6 +5,7 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.attribute.Attribute;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -46,8 +47,13 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
 
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
-        setColor(TransporterUtils.increment(getColor()));
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        EnumColor previous = getColor();
+        setColor(TransporterUtils.increment(previous));
+        InventoryNetwork network = getTransmitterNetwork();
+        if (network != null) {
+            //Changing the color may allow stacks to pass through this transporter that couldn't before, which may provide shorter paths
+            PathfinderCache.onRecolored(network, getBlockPos(), previous, getColor());
+        }
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.displayClientMessage(MekanismLang.TOGGLE_COLOR.translateColored(EnumColor.GRAY, color == null ? MekanismLang.NONE.translateColored(EnumColor.WHITE) : color.getColoredName()), true);
@@ -255,8 +255,11 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
                 if (!deletes.isEmpty() || !needsSync.isEmpty()) {
                     //Notify clients, so that we send the information before we start clearing our lists
-                    //Note: We have to copy needsSync so that it still has values when we clear the pending sync packets
-                    PacketUtils.sendToAllTracking(PacketTransporterBatch.create(pos, deletes, new Int2ObjectOpenHashMap<>(needsSync)), getTransmitterTile());
+                    //Note: The packets copy the stacks out of needsSync when they are created, so it is safe to clear it afterward
+                    for (TransporterStack stack : needsSync.values()) {
+                        stack.updateForPos(pos);
+                    }
+                    PacketUtils.sendToAllTrackingPerPlayer(player -> PacketTransporterBatch.create(player, pos, deletes, needsSync), getTransmitterTile());
                     // Now remove any entries from transit that have been deleted
                     OfInt ofInt = deletes.iterator();
                     while (ofInt.hasNext()) {
@@ -444,7 +447,9 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             if (doEmit) {
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                PacketUtils.sendToAllTracking(PacketTransporterSync.create(getBlockPos(), stackId, stack), getTransmitterTile());
+                BlockPos pos = getBlockPos();
+                stack.updateForPos(pos);
+                PacketUtils.sendToAllTrackingPerPlayer(player -> PacketTransporterSync.create(player, pos, stackId, stack), getTransmitterTile());
                 getTransmitterTile().markForSave();
             }
         }
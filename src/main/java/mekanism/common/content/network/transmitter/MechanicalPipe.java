@@ -154,6 +154,12 @@ public class MechanicalPipe extends BufferedTransmitter<IFluidHandler, FluidNetw
         return new CompatibleFluidTransmitterValidator(this);
     }
 
+    @Override
+    public boolean supportsBatchOrphanAssignment() {
+        //The validator keeps track of the contents of the orphans it has seen
+        return false;
+    }
+
     @Override
     public boolean isValidTransmitter(TileEntityTransmitter transmitter, Direction side) {
         if (super.isValidTransmitter(transmitter, side) && transmitter.getTransmitter() instanceof MechanicalPipe other) {
@@ -178,6 +178,12 @@ public class PressurizedTube extends BufferedTransmitter<IChemicalHandler, Chemi
         return new CompatibleChemicalTransmitterValidator(this);
     }
 
+    @Override
+    public boolean supportsBatchOrphanAssignment() {
+        //The validator keeps track of the contents of the orphans it has seen
+        return false;
+    }
+
     @Override
     public boolean isValidTransmitter(TileEntityTransmitter transmitter, Direction side) {
         if (super.isValidTransmitter(transmitter, side) && transmitter.getTransmitter() instanceof PressurizedTube other) {
@@ -13,6 +13,7 @@ import mekanism.common.block.attribute.Attribute;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.heat.CachedAmbientTemperature;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
+import mekanism.common.capabilities.heat.StagedHeatHandler;
 import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.content.network.HeatNetwork;
 import mekanism.common.lib.Color;
@@ -23,6 +24,7 @@ import mekanism.common.tier.ConductorTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.upgrade.transmitter.ThermodynamicConductorUpgradeData;
 import mekanism.common.upgrade.transmitter.TransmitterUpgradeData;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -40,11 +42,24 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
     private double clientTemperature = -1;
     private final List<IHeatCapacitor> capacitors;
     public final VariableHeatCapacitor buffer;
+    /**
+     * Adjacent handlers resolved on the server thread by {@link #prepareParallelSimulation(List)}, or {@code null} if they should be looked up from the acceptor cache.
+     */
+    @Nullable
+    private IHeatHandler[] preparedAdjacent;
 
     public ThermodynamicConductor(IBlockProvider blockProvider, TileEntityTransmitter tile) {
         super(tile, TransmissionType.HEAT);
         this.tier = Attribute.getTier(blockProvider, ConductorTier.class);
-        buffer = VariableHeatCapacitor.create(tier.getHeatCapacity(), tier::getInverseConduction, tier::getInverseConductionInsulation, ambientTemperature, this);
+        buffer = new VariableHeatCapacitor(tier.getHeatCapacity(), tier::getInverseConduction, tier::getInverseConductionInsulation, ambientTemperature, this) {
+            @Override
+            public void handleHeat(double transfer) {
+                super.handleHeat(transfer);
+                if (transfer != 0) {
+                    wakeInNetwork();
+                }
+            }
+        };
         capacitors = Collections.singletonList(buffer);
     }
 
@@ -100,6 +115,7 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
         redstoneReactive = data.redstoneReactive;
         setConnectionTypesRaw(data.connectionTypes);
         buffer.setHeat(data.heat);
+        wakeInNetwork();
     }
 
     @NotNull
@@ -159,10 +175,59 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
         return ambientTemperature.getTemperature(side);
     }
 
+    /**
+     * Looks up everything simulating this conductor needs from the world, so that {@link #simulate()} can be called off the server thread. Any adjacent handlers that
+     * aren't part of this conductor's network are replaced by a {@link StagedHeatHandler}, which gets added to the given list and must be applied on the server thread
+     * once the simulation is done.
+     */
+    public void prepareParallelSimulation(List<StagedHeatHandler> stagedHandlers) {
+        IHeatHandler[] adjacent = new IHeatHandler[EnumUtils.DIRECTIONS.length];
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            //Make sure the ambient temperature has been cached, as calculating it requires looking at the world
+            ambientTemperature.getTemperature(side);
+            IHeatHandler sink = getAdjacent(side);
+            if (sink != null && (!hasTransmitterNetwork() || getTransmitterNetwork().getTransmitter(getBlockPos().relative(side)) == null)) {
+                StagedHeatHandler stagedHandler = new StagedHeatHandler(sink);
+                stagedHandlers.add(stagedHandler);
+                sink = stagedHandler;
+            }
+            adjacent[side.ordinal()] = sink;
+        }
+        //Also cache the ambient temperature the buffer falls back to if it hasn't been initialized yet
+        ambientTemperature.getAsDouble();
+        preparedAdjacent = adjacent;
+    }
+
+    public void finishParallelSimulation() {
+        preparedAdjacent = null;
+    }
+
+    /**
+     * {@return true if this conductor's temperature is within the given threshold of the ambient temperature on all sides, meaning simulating it would not transfer any
+     * meaningful amount of heat}
+     */
+    public boolean isAtEquilibrium(double threshold) {
+        double temperature = buffer.getTemperature();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (Math.abs(temperature - getAmbientTemperature(side)) > threshold) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void wakeInNetwork() {
+        if (hasTransmitterNetwork()) {
+            getTransmitterNetwork().wake(this);
+        }
+    }
+
     @Nullable
     @Override
     public IHeatHandler getAdjacent(@NotNull Direction side) {
-        if (connectionMapContainsSide(getAllCurrentConnections(), side)) {
+        if (preparedAdjacent != null) {
+            return preparedAdjacent[side.ordinal()];
+        } else if (connectionMapContainsSide(getAllCurrentConnections(), side)) {
             //Note: We use the acceptor cache as the heat network is different and the transmitters count the other transmitters in the
             // network as valid acceptors, which means we don't have to differentiate between acceptors and other transmitters here
             return getAcceptorCache().getConnectedAcceptor(side);
@@ -213,6 +213,16 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
         return new CompatibleTransmitterValidator<>();
     }
 
+    /**
+     * {@return true if orphans of this type can be assigned to networks all at once, rather than by flood filling from each orphan}
+     *
+     * @implNote This should return false if the {@link #getNewOrphanValidator() orphan validator} keeps track of the transmitters it has seen, as then which orphans can
+     * connect depends on the order they get visited in.
+     */
+    public boolean supportsBatchOrphanAssignment() {
+        return true;
+    }
+
     public boolean isOrphan() {
         return orphaned;
     }
@@ -23,7 +23,7 @@ import mekanism.common.inventory.container.slot.MainInventorySlot;
 import mekanism.common.inventory.slot.CraftingWindowInventorySlot;
 import mekanism.common.inventory.slot.CraftingWindowOutputInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
@@ -38,7 +38,6 @@ import net.minecraft.world.item.crafting.CraftingInput;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
@@ -165,7 +164,7 @@ public class QIOCraftingWindow implements IContentsListener {
                 outputSlot.setStack(assembleRecipe(craftingInput, lastRecipe.value(), world.registryAccess()));
             } else {
                 //If we don't have a cached recipe, or our cached recipe doesn't match our inventory contents, lookup the recipe
-                RecipeHolder<CraftingRecipe> recipe = MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, craftingInput, world).orElse(null);
+                RecipeHolder<CraftingRecipe> recipe = CraftingRecipeCache.getRecipeFor(craftingInput, world).orElse(null);
                 if (!Objects.equals(recipe, lastRecipe)) {
                     if (recipe == null) {
                         //If there is no found recipe, clear the output, but don't update our last recipe
@@ -1,7 +1,5 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
@@ -9,13 +7,10 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SequencedMap;
@@ -23,7 +18,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
-import java.util.function.Supplier;
 import java.util.function.ToLongFunction;
 import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
@@ -34,20 +28,16 @@ import mekanism.api.security.SecurityMode;
 import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
-import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.storage.QIOItemStorage;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
-import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
-import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -56,7 +46,6 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.common.util.Lazy;
 import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
 
@@ -88,32 +77,27 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     );
 
     private final SequencedMap<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
-    private final SequencedMap<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
-    // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
-    // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
-    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
-    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
-    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardTags = new HashSet<>();
-    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
-    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardModIDs = new HashSet<>();
-
-    private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    /**
+     * Core item data, tracking item types + their respective counts and containing drives, as well as the lookups for the stored types. Lazily initialized so that it
+     * is only created on the server, after the config has been loaded.
+     */
+    @Nullable
+    private QIOItemStorage itemStorage;
+
+    private final Set<HashedItem> updatedItems = new HashSet<>();
+    private final Map<ServerPlayer, QIOItemViewerSyncState> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
+    /** Number of ticks until changes can be synced to viewing clients again. */
+    private int viewerSyncCooldown;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
-    // only used on client side, for server side we can just look at itemDataMap.size()
+    // only used on client side, for server side we can just look at the item storage's type count
     private int clientTypes;
 
     private EnumColor color = EnumColor.INDIGO;
@@ -129,27 +113,30 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         super(FrequencyType.QIO, name, owner, ownerName, securityMode);
     }
 
+    private QIOItemStorage getItemStorage() {
+        if (itemStorage == null) {
+            itemStorage = MekanismConfig.general.qioStorageType.get().create();
+        }
+        return itemStorage;
+    }
+
     /**
-     * Dangerous function. Don't mess with this map.
+     * {@return a view of all the stored item types}
      *
-     * @return core item data map, tracking item types + their respective counts and containing drives
+     * @apiNote Do not add or remove items from the frequency while iterating the returned collection.
      */
-    public Map<HashedItem, QIOItemTypeData> getItemDataMap() {
-        return itemDataMap;
+    public Collection<HashedItem> getItemTypes() {
+        return getItemStorage().getTypes();
     }
 
     @Override
     public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
-        for (Entry<HashedItem, QIOItemTypeData> entry : itemDataMap.entrySet()) {
-            consumer.accept(entry.getKey().createStack(1), entry.getValue().getCount());
-        }
+        getItemStorage().forEach((type, count) -> consumer.accept(type.createStack(1), count));
     }
 
     @Override
     public void forAllHashedStored(ObjLongConsumer<IHashedItem> consumer) {
-        for (Entry<HashedItem, QIOItemTypeData> entry : itemDataMap.entrySet()) {
-            consumer.accept(entry.getKey(), entry.getValue().getCount());
-        }
+        getItemStorage().forEach(consumer::accept);
     }
 
     @Override
@@ -157,96 +144,76 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (stack.isEmpty() || amount <= 0) {
             return 0;
         }
-        HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        QIOItemStorage storage = getItemStorage();
+        HashedItem type = HashedItem.raw(stack);
+        HashedItem storedType = storage.getStoredType(type);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the item storage if nothing is inserted
+        if (totalCount == totalCountCapacity || (storedType == null && storage.getTypeCount() == totalTypeCapacity)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data;
-        if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
-        } else {
-            //If we are simulating, look it up
-            data = itemDataMap.get(type);
-            if (data == null) {
-                // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
+        if (storedType == null) {
+            if (action.execute()) {
+                storedType = createTypeForAbsent(HashedItem.create(stack));
+            } else {
+                // if it doesn't already have that type, just simulate with the raw type as it doesn't actually get added
+                storedType = type;
             }
         }
-        return amount - data.add(amount, action);
+        return amount - add(storedType, amount, action);
     }
 
     public ItemStack addItem(ItemStack stack) {
         if (stack.isEmpty()) {
             return ItemStack.EMPTY;
         } else if (totalCount == totalCountCapacity) {
-            //This check and the pre-check in the computeIfAbsent are extremely important; they prevent us from wasting CPU searching for
-            // a place to put the new items, and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
+            //This check and the type capacity check below are extremely important; they prevent us from wasting CPU searching for
+            // a place to put the new items, and they also prevent us from adding a ghost type to the item storage if nothing is inserted
             return stack;
         }
-        HashedItem type = HashedItem.create(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
-        if (data == null) {
-            if (itemDataMap.size() == totalTypeCapacity) {
-                //Don't add any ghost item types if there is no room for new ones. We do this inside of a computeIfAbsent
-                // so that we don't have to check if the map contains it twice
+        QIOItemStorage storage = getItemStorage();
+        HashedItem type = storage.getStoredType(HashedItem.raw(stack));
+        if (type == null) {
+            if (storage.getTypeCount() == totalTypeCapacity) {
+                //Don't add any ghost item types if there is no room for new ones
                 //Failed to insert
                 return stack;
-            } else {
-                // at this point we're guaranteed at least part of the input stack will be inserted
-                data = createTypeDataForAbsent(type);
-                itemDataMap.put(type, data);
             }
+            // at this point we're guaranteed at least part of the input stack will be inserted
+            type = createTypeForAbsent(HashedItem.create(stack));
         }
-        return type.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
+        return type.createStack(MathUtils.clampToInt(add(type, stack.getCount(), Action.EXECUTE)));
     }
 
-    private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
-        ItemStack stack = type.getInternalStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
-            }
-        }
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> modItems = modIDLookupMap.get(modID);
-        if (modItems == null) {
-            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
-            // as our new modid may be valid for some of our wildcards
-            modIDWildcardCache.clear();
-            failedWildcardModIDs.clear();
-            modItems = new HashSet<>();
-            modIDLookupMap.put(modID, modItems);
-        }
-        modItems.add(type);
-        //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
+    /**
+     * Starts tracking a type that is not currently stored.
+     *
+     * @param type Non-raw type to track.
+     *
+     * @return the type
+     */
+    private HashedItem createTypeForAbsent(HashedItem type) {
+        getItemStorage().addType(type);
         //Ensure we have a matching uuid for this item
         QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        return type;
     }
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        QIOItemStorage storage = getItemStorage();
+        if (amount <= 0 || stack.isEmpty() || storage.isEmpty()) {
             return 0;
         }
-        HashedItem type = HashedItem.raw(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
-        if (data == null) {
+        HashedItem type = storage.getStoredType(HashedItem.raw(stack));
+        if (type == null) {
             return 0;
         }
-        long removed = data.remove(amount, action);
+        long removed = remove(type, amount, action);
         // remove this item type if it's now empty
-        if (action.execute() && data.count == 0) {
-            removeItemData(data.itemType);
+        if (action.execute() && storage.getCount(type) == 0) {
+            storage.removeType(type);
         }
         return removed;
     }
@@ -263,83 +230,42 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public ItemStack removeByType(@Nullable HashedItem itemType, int amount) {
-        if (itemDataMap.isEmpty() || amount <= 0) {
+        QIOItemStorage storage = getItemStorage();
+        if (storage.isEmpty() || amount <= 0) {
             return ItemStack.EMPTY;
         }
 
-        QIOItemTypeData data;
-        if (itemType == null) {
-            Map.Entry<HashedItem, QIOItemTypeData> entry = itemDataMap.firstEntry();
-            itemType = entry.getKey();
-            data = entry.getValue();
-        } else {
-            data = itemDataMap.get(itemType);
-            if (data == null) {
-                return ItemStack.EMPTY;
-            }
+        HashedItem type = itemType == null ? storage.getFirstType() : storage.getStoredType(itemType);
+        if (type == null) {
+            return ItemStack.EMPTY;
         }
 
-        ItemStack removed = data.remove(amount);
+        int removed = MathUtils.clampToInt(remove(type, amount, Action.EXECUTE));
         // remove this item type if it's now empty
-        if (data.count == 0) {
-            removeItemData(data.itemType);
+        if (storage.getCount(type) == 0) {
+            storage.removeType(type);
         }
-        return removed;
+        return removed == 0 ? ItemStack.EMPTY : type.createStack(removed);
     }
 
-    private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
-            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
-            // matching a tag that is no longer stored
-            tagWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
-        }
-        ItemStack stack = type.getInternalStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
-            modIDWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
-        }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
-    }
-
-    public Set<HashedItem> getTypesForItem(Item item) {
-        return fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet());
+    public Collection<HashedItem> getTypesForItem(Item item) {
+        return getItemStorage().getTypesForItem(item);
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
-        return getStacksWithCounts(fuzzyItemLookupMap.get(item));
+        return getStacksWithCounts(getItemStorage().getTypesForItem(item));
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return getStacksWithCounts(getItemStorage().getTypesForTag(tag));
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
-        return getStacksWithCounts(modIDLookupMap.get(modID));
+        return getStacksWithCounts(getItemStorage().getTypesForModID(modID));
     }
 
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
+    private Object2LongMap<HashedItem> getStacksWithCounts(Collection<HashedItem> items) {
+        if (items.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
         Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
@@ -350,72 +276,49 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, storedFunction);
-                }
-            }
-            return ret;
+        QIOItemStorage storage = getItemStorage();
+        Set<String> matches = storage.getMatchingTags(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
         }
-        return Object2LongMaps.emptyMap();
-    }
-
-    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStoredByHash(item));
-                }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
+        for (String match : matches) {
+            for (HashedItem item : storage.getTypesForTag(match)) {
+                //If our return map doesn't already have the stored value in it, calculate it.
+                // The case where it may have the stored value in it is if an item has multiple
+                // tags that all match the wildcard
+                ret.computeIfAbsent(item, storedFunction);
             }
-            return ret;
         }
-        return Object2LongMaps.emptyMap();
+        return ret;
     }
 
-    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
-        if (failedWildcards.contains(wildcard)) {
-            //If we already know this wildcard has no matching things, fail fast
-            return false;
-        }
-        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
-        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
-            // If we don't actually have any matches, mark that the wildcard failed, and return false
-            failedWildcards.add(wildcard);
-            return false;
+    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
+        QIOItemStorage storage = getItemStorage();
+        Set<String> matches = storage.getMatchingModIDs(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
         }
-        return true;
-    }
-
-    /**
-     * @return {@code true} if any wildcards were added.
-     */
-    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
-        boolean added = false;
-        for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
-                added |= wildcardCache.put(wildcard, entry);
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (String match : matches) {
+            for (HashedItem item : storage.getTypesForModID(match)) {
+                //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
+                // each stack only has one modid, so while we may have multiple modids that match our
+                // wildcard, the stacks that correspond to said modids will be unique
+                ret.put(item, getStoredByHash(item));
             }
         }
-        return added;
+        return ret;
     }
 
     public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
-        }
-        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, map));
+        QIOItemViewerSyncState syncState = new QIOItemViewerSyncState();
+        playersViewingItems.put(player, syncState);
+        QIOItemStorage storage = getItemStorage();
+        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>(storage.getTypeCount());
+        storage.forEach(map::put);
+        PacketDistributor.sendToPlayer(player, syncState.createBatch(map, totalCountCapacity, totalTypeCapacity));
     }
 
     public void closeItemViewer(ServerPlayer player) {
@@ -445,7 +348,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public int getTotalItemTypes(boolean remote) {
-        return remote ? clientTypes : itemDataMap.size();
+        return remote ? clientTypes : getItemStorage().getTypeCount();
     }
 
     public int getTotalItemTypeCapacity() {
@@ -458,8 +361,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public long getStoredByHash(HashedItem itemType) {
-        QIOItemTypeData data = itemDataMap.get(itemType);
-        return data == null ? 0 : data.count;
+        return getItemStorage().getCount(itemType);
     }
 
     public boolean isStoring(HashedItem itemType) {
@@ -485,7 +387,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             //TODO - 1.20.4: Only perform every so often?
             SecurityFrequency security = FrequencyType.SECURITY.getManager(null, SecurityMode.PUBLIC).getFrequency(getOwner());
             if (security != null) {
-                for (ServerPlayer player : new HashSet<>(playersViewingItems)) {
+                for (ServerPlayer player : new HashSet<>(playersViewingItems.keySet())) {
                     if (!ownerMatches(player.getUUID()) && !security.isTrusted(player.getUUID()) && player.containerMenu instanceof QIOItemViewerContainer) {
                         player.closeContainer();
                         closeItemViewer(player);
@@ -494,24 +396,24 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                for (UUID uuid : updatedItems) {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
-                    }
-                }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
-            });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
+        if (viewerSyncCooldown > 0) {
+            viewerSyncCooldown--;
+        }
+        //Coalesce any changes that happen while we are cooling down from the last sync, so that rapidly changing items don't cause a packet every tick
+        if ((!updatedItems.isEmpty() || needsUpdate) && viewerSyncCooldown == 0) {
+            //Look up the current counts once, and then let each viewer figure out which of them actually differ from what it has been sent
+            Object2LongMap<HashedItem> changedItems = new Object2LongOpenHashMap<>(updatedItems.size());
+            for (HashedItem type : updatedItems) {
+                changedItems.put(type, getStoredByHash(type));
+            }
+            for (Iterator<Entry<ServerPlayer, QIOItemViewerSyncState>> viewingIterator = playersViewingItems.entrySet().iterator(); viewingIterator.hasNext(); ) {
+                Entry<ServerPlayer, QIOItemViewerSyncState> entry = viewingIterator.next();
+                ServerPlayer player = entry.getKey();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    PacketUpdateItemViewer packet = entry.getValue().createUpdate(changedItems, totalCountCapacity, totalTypeCapacity);
+                    if (packet != null) {
+                        PacketDistributor.sendToPlayer(player, packet);
+                    }
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
@@ -519,6 +421,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
             updatedItems.clear();
             needsUpdate = false;
+            viewerSyncCooldown = MekanismConfig.general.qioViewerSyncRate.get();
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
@@ -532,12 +435,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
-            tagLookupMap.clear();
-            tagWildcardCache.clear();
-            for (QIOItemTypeData item : itemDataMap.values()) {
-                tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
-            }
+            getItemStorage().rebuildTags();
         }
         return superDirty;
     }
@@ -576,7 +474,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             removeDrive(key, false);
         }
         driveMap.clear();
-        for (ServerPlayer player : playersViewingItems) {
+        for (ServerPlayer player : playersViewingItems.keySet()) {
             Mekanism.packetHandler().killItemViewer(player);
         }
     }
@@ -586,7 +484,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         int code = super.getSyncHash();
         code = 31 * code + Long.hashCode(totalCount);
         code = 31 * code + Long.hashCode(totalCountCapacity);
-        code = 31 * code + itemDataMap.size();
+        code = 31 * code + getItemStorage().getTypeCount();
         code = 31 * code + totalTypeCapacity;
         code = 31 * code + color.ordinal();
         return code;
@@ -603,9 +501,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            QIOItemStorage storage = getItemStorage();
+            storage.onDriveAdded(key);
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
+                if (!storage.contains(storedKey)) {
+                    createTypeForAbsent(storedKey);
+                }
+                long toAdd = entry.getLongValue();
+                storage.addCount(storedKey, toAdd);
+                storage.addContainingDrive(storedKey, key);
+                totalCount += toAdd;
                 markForUpdate(storedKey);
             }
             setNeedsUpdate();
@@ -617,19 +523,19 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return;
         }
         QIODriveData data = driveMap.get(key);
+        QIOItemStorage storage = getItemStorage();
         if (updateItemMap) {
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
                 long value = entry.getLongValue();
-                QIOItemTypeData itemData = itemDataMap.get(storedKey);
-                if (itemData != null) {
-                    itemData.containingDrives.remove(key);
-                    itemData.count -= value;
+                if (storage.contains(storedKey)) {
+                    storage.removeContainingDrive(storedKey, key);
+                    storage.addCount(storedKey, -value);
                     totalCount -= value;
                     markForUpdate(storedKey);
-                    // remove this entry from the item data map if it's now empty
-                    if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
-                        removeItemData(storedKey);
+                    // remove this entry from the item storage if it's now empty
+                    if (!storage.hasContainingDrives(storedKey) || storage.getCount(storedKey) == 0) {
+                        storage.removeType(storedKey);
                     }
                 }
             }
@@ -639,6 +545,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        storage.onDriveRemoved(key);
         // save the item list onto the physical drive
         key.updateMetadata(data);
         key.save(data);
@@ -658,14 +565,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+                updatedItems.add(changedItem);
             }
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+            updatedItems.add(changedItem);
         }
     }
 
@@ -673,89 +580,64 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         setNeedsUpdate(null);
     }
 
-    public class QIOItemTypeData {
-
-        private final HashedItem itemType;
-        private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
-
-        public QIOItemTypeData(HashedItem itemType) {
-            this.itemType = itemType;
-        }
-
-        private void addFromDrive(QIODriveData data, long toAdd) {
-            count += toAdd;
-            totalCount += toAdd;
-            containingDrives.add(data.getKey());
-            setNeedsUpdate();
-        }
-
-        private long add(long amount, Action action) {
-            long toAdd = amount;
-            // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
-                if (toAdd == 0) {
-                    break;
-                }
+    private long add(HashedItem type, long amount, Action action) {
+        QIOItemStorage storage = getItemStorage();
+        long toAdd = amount;
+        // first we try to add the items to an already-containing drive
+        for (Iterator<QIODriveKey> iter = storage.getContainingDrives(type); iter.hasNext(); ) {
+            toAdd = addItemsToDrive(type, toAdd, driveMap.get(iter.next()), action);
+            if (toAdd == 0) {
+                break;
             }
-            // next, we add the items to any drive that will take it
-            if (toAdd > 0) {
-                for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
-                        toAdd = addItemsToDrive(toAdd, data, action);
-                        if (toAdd == 0) {
-                            break;
-                        }
+        }
+        // next, we add the items to any drive that will take it
+        if (toAdd > 0) {
+            for (QIODriveData data : driveMap.values()) {
+                if (!storage.isContainedIn(type, data.getKey())) {
+                    toAdd = addItemsToDrive(type, toAdd, data, action);
+                    if (toAdd == 0) {
+                        break;
                     }
                 }
             }
-            if (action.execute()) {
-                // update internal/core values
-                count += amount - toAdd;
-                totalCount += amount - toAdd;
-                setNeedsUpdate(itemType);
-            }
-            return toAdd;
         }
+        if (action.execute()) {
+            // update internal/core values
+            storage.addCount(type, amount - toAdd);
+            totalCount += amount - toAdd;
+            setNeedsUpdate(type);
+        }
+        return toAdd;
+    }
 
-        private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
-            long rejects = data.add(itemType, toAdd, action);
-            if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
-            }
-            return rejects;
+    private long addItemsToDrive(HashedItem type, long toAdd, QIODriveData data, Action action) {
+        long rejects = data.add(type, toAdd, action);
+        if (action.execute() && rejects < toAdd) {
+            getItemStorage().addContainingDrive(type, data.getKey());
         }
+        return rejects;
+    }
 
-        private long remove(long amount, Action action) {
-            long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
-                removed += data.remove(itemType, amount - removed, action);
-                // remove this drive from containingDrives if it doesn't have this item anymore
-                if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
-                }
-                // break early if we found enough items
-                if (removed == amount) {
-                    break;
-                }
+    private long remove(HashedItem type, long amount, Action action) {
+        QIOItemStorage storage = getItemStorage();
+        long removed = 0;
+        for (Iterator<QIODriveKey> iter = storage.getContainingDrives(type); iter.hasNext(); ) {
+            QIODriveData data = driveMap.get(iter.next());
+            removed += data.remove(type, amount - removed, action);
+            // remove this drive from containingDrives if it doesn't have this item anymore
+            if (action.execute() && data.getStored(type) == 0) {
+                iter.remove();
             }
-            if (action.execute()) {
-                count -= removed;
-                totalCount -= removed;
-                setNeedsUpdate(itemType);
+            // break early if we found enough items
+            if (removed == amount) {
+                break;
             }
-            return removed;
         }
-
-        private ItemStack remove(int amount) {
-            int removed = MathUtils.clampToInt(remove(amount, Action.EXECUTE));
-            return removed == 0 ? ItemStack.EMPTY : itemType.createStack(removed);
-        }
-
-        public long getCount() {
-            return count;
+        if (action.execute()) {
+            storage.addCount(type, -removed);
+            totalCount -= removed;
+            setNeedsUpdate(type);
         }
+        return removed;
     }
 }
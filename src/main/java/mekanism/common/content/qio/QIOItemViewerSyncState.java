@@ -0,0 +1,118 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
+import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of what a single player viewing a QIO frequency's items has been sent, so that updates only contain the item types whose counts actually differ from what
+ * the player knows about, and so that each item type only has to be sent in full to the player once.
+ */
+public class QIOItemViewerSyncState {
+
+    private static final int UNKNOWN_TYPE = -1;
+
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    /**
+     * Counts of each item type, by id, that the player has been sent and has not been told are now empty.
+     */
+    private final Int2LongMap knownCounts = new Int2LongOpenHashMap();
+    private long countCapacity;
+    private int typeCapacity;
+    private int nextId;
+
+    public QIOItemViewerSyncState() {
+        typeIds.defaultReturnValue(UNKNOWN_TYPE);
+    }
+
+    /**
+     * Creates a packet containing the full contents of the frequency, and resets what this player is known to have been sent to match.
+     *
+     * @param items         All the stored item types and their counts.
+     * @param countCapacity Item count capacity of the frequency.
+     * @param typeCapacity  Item type capacity of the frequency.
+     */
+    public PacketBatchItemViewerSync createBatch(Object2LongMap<HashedItem> items, long countCapacity, int typeCapacity) {
+        typeIds.clear();
+        knownCounts.clear();
+        nextId = 0;
+        this.countCapacity = countCapacity;
+        this.typeCapacity = typeCapacity;
+        Int2ObjectMap<UUIDAwareHashedItem> itemTypes = new Int2ObjectOpenHashMap<>(items.size());
+        Int2LongMap itemCounts = new Int2LongOpenHashMap(items.size());
+        for (Object2LongMap.Entry<HashedItem> entry : items.object2LongEntrySet()) {
+            long count = entry.getLongValue();
+            if (count > 0) {
+                int id = register(entry.getKey(), itemTypes);
+                itemCounts.put(id, count);
+                knownCounts.put(id, count);
+            }
+        }
+        return new PacketBatchItemViewerSync(countCapacity, typeCapacity, itemTypes, itemCounts);
+    }
+
+    /**
+     * Creates a packet containing only the changes that this player has not been sent yet.
+     *
+     * @param changedItems  The item types that may have changed since the last update, and their current counts.
+     * @param countCapacity Item count capacity of the frequency.
+     * @param typeCapacity  Item type capacity of the frequency.
+     *
+     * @return The update packet, or {@code null} if nothing the player knows about has changed.
+     */
+    @Nullable
+    public PacketUpdateItemViewer createUpdate(Object2LongMap<HashedItem> changedItems, long countCapacity, int typeCapacity) {
+        Int2ObjectMap<UUIDAwareHashedItem> itemTypes = null;
+        Int2LongMap itemCounts = null;
+        for (Object2LongMap.Entry<HashedItem> entry : changedItems.object2LongEntrySet()) {
+            HashedItem type = entry.getKey();
+            long count = entry.getLongValue();
+            int id = typeIds.getInt(type);
+            if (id == UNKNOWN_TYPE) {
+                if (count == 0) {
+                    //The player was never told about this type, and it has already been removed again
+                    continue;
+                }
+                if (itemTypes == null) {
+                    itemTypes = new Int2ObjectOpenHashMap<>();
+                }
+                id = register(type, itemTypes);
+            } else if (knownCounts.get(id) == count) {
+                //The count ended up back at the value the player already knows about
+                continue;
+            }
+            if (count == 0) {
+                knownCounts.remove(id);
+            } else {
+                knownCounts.put(id, count);
+            }
+            if (itemCounts == null) {
+                itemCounts = new Int2LongOpenHashMap();
+            }
+            itemCounts.put(id, count);
+        }
+        if (itemCounts == null && this.countCapacity == countCapacity && this.typeCapacity == typeCapacity) {
+            return null;
+        }
+        this.countCapacity = countCapacity;
+        this.typeCapacity = typeCapacity;
+        return new PacketUpdateItemViewer(countCapacity, typeCapacity, itemTypes == null ? new Int2ObjectOpenHashMap<>() : itemTypes,
+              itemCounts == null ? new Int2LongOpenHashMap() : itemCounts);
+    }
+
+    private int register(HashedItem type, Int2ObjectMap<UUIDAwareHashedItem> itemTypes) {
+        int id = nextId++;
+        typeIds.put(type, id);
+        itemTypes.put(id, new UUIDAwareHashedItem(type, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type)));
+        return id;
+    }
+}
@@ -0,0 +1,237 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Inverted index of the item types known to a QIO Item Viewer, that allows evaluating {@link SearchQueryParser} queries without having to recalculate the name, tags,
+ * and tooltips of every item type each time the query changes. Only use on client-side.
+ * <p>
+ * The searchable text of each {@link QueryType} is split into trigrams, which map to the ids of the item types containing them. Keys are then matched by intersecting
+ * the posting lists of their trigrams, and only the remaining candidates are checked against the cached text. The text for a query type is only calculated the first
+ * time a query of that type is evaluated, after which it is kept up to date as item types are added and removed.
+ */
+public class QIOSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int UNKNOWN_TYPE = -1;
+    private static final IntSet[] NO_POSTINGS = new IntSet[0];
+
+    private final Int2ObjectMap<HashedItem> itemTypes = new Int2ObjectOpenHashMap<>();
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    private final Map<QueryType, FieldIndex> fields = new EnumMap<>(QueryType.class);
+
+    public QIOSearchIndex() {
+        typeIds.defaultReturnValue(UNKNOWN_TYPE);
+    }
+
+    /**
+     * Adds an item type to the index if it is not already indexed.
+     *
+     * @param level Level to use when calculating tooltips.
+     * @param id    Id of the item type.
+     * @param type  Item type.
+     */
+    public void add(@Nullable Level level, int id, HashedItem type) {
+        if (itemTypes.putIfAbsent(id, type) == null) {
+            typeIds.put(type, id);
+            for (FieldIndex field : fields.values()) {
+                field.add(level, id, type.getInternalStack());
+            }
+        }
+    }
+
+    public void remove(int id) {
+        HashedItem type = itemTypes.remove(id);
+        if (type != null) {
+            typeIds.removeInt(type);
+            for (FieldIndex field : fields.values()) {
+                field.remove(id);
+            }
+        }
+    }
+
+    public void clear() {
+        itemTypes.clear();
+        typeIds.clear();
+        fields.clear();
+    }
+
+    /**
+     * {@return the id of the given item type, or {@code -1} if it is not indexed}
+     */
+    public int getId(HashedItem type) {
+        return typeIds.getInt(type);
+    }
+
+    /**
+     * Finds all indexed item types that match the given query.
+     *
+     * @param level Level to use when calculating tooltips.
+     * @param query Query to evaluate.
+     *
+     * @return Set of ids of the matching item types.
+     */
+    public IntSet search(@Nullable Level level, ISearchQuery query) {
+        if (query.isInvalid()) {
+            return IntSets.EMPTY_SET;
+        } else if (query instanceof SearchQueryList queryList) {
+            List<SearchQuery> queries = queryList.getQueries();
+            // allow empty query lists to match all stacks
+            if (queries.isEmpty()) {
+                return itemTypes.keySet();
+            }
+            IntSet matches = new IntOpenHashSet();
+            for (SearchQuery subQuery : queries) {
+                matches.addAll(search(level, subQuery));
+            }
+            return matches;
+        }
+        //Fallback for any unknown query implementations
+        IntSet matches = new IntOpenHashSet();
+        for (Int2ObjectMap.Entry<HashedItem> entry : itemTypes.int2ObjectEntrySet()) {
+            if (query.test(level, entry.getValue().getInternalStack())) {
+                matches.add(entry.getIntKey());
+            }
+        }
+        return matches;
+    }
+
+    private IntSet search(@Nullable Level level, SearchQuery query) {
+        //Each query type must match at least one of its keys, so we narrow down the candidates with each query type
+        IntSet candidates = null;
+        for (Entry<QueryType, List<String>> entry : query.getQueryMap().entrySet()) {
+            FieldIndex field = fields.computeIfAbsent(entry.getKey(), type -> new FieldIndex(type, level, itemTypes));
+            IntSet matches = new IntOpenHashSet();
+            for (String key : entry.getValue()) {
+                field.collectMatches(key.toLowerCase(Locale.ROOT), candidates, matches);
+            }
+            if (matches.isEmpty()) {
+                return IntSets.EMPTY_SET;
+            }
+            candidates = matches;
+        }
+        return candidates == null ? itemTypes.keySet() : candidates;
+    }
+
+    private static class FieldIndex {
+
+        private final QueryType type;
+        private final Int2ObjectMap<List<String>> texts = new Int2ObjectOpenHashMap<>();
+        private final Map<String, IntSet> postings = new Object2ObjectOpenHashMap<>();
+
+        private FieldIndex(QueryType type, @Nullable Level level, Int2ObjectMap<HashedItem> itemTypes) {
+            this.type = type;
+            for (Int2ObjectMap.Entry<HashedItem> entry : itemTypes.int2ObjectEntrySet()) {
+                add(level, entry.getIntKey(), entry.getValue().getInternalStack());
+            }
+        }
+
+        private void add(@Nullable Level level, int id, ItemStack stack) {
+            List<String> text = type.getSearchableText(level, stack);
+            texts.put(id, text);
+            for (String value : text) {
+                for (int i = 0, end = value.length() - GRAM_LENGTH; i <= end; i++) {
+                    postings.computeIfAbsent(value.substring(i, i + GRAM_LENGTH), gram -> new IntOpenHashSet()).add(id);
+                }
+            }
+        }
+
+        private void remove(int id) {
+            List<String> text = texts.remove(id);
+            if (text != null) {
+                for (String value : text) {
+                    for (int i = 0, end = value.length() - GRAM_LENGTH; i <= end; i++) {
+                        String gram = value.substring(i, i + GRAM_LENGTH);
+                        IntSet posting = postings.get(gram);
+                        if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param key        Lowercase key to match.
+         * @param candidates Ids to restrict the matches to, or {@code null} to check all ids.
+         * @param matches    Set to add the ids of any matches to.
+         */
+        private void collectMatches(String key, @Nullable IntSet candidates, IntSet matches) {
+            int grams = key.length() - GRAM_LENGTH + 1;
+            if (grams <= 0) {
+                //Key is too short to have any grams, check it against all the candidates
+                verify(key, candidates == null ? texts.keySet() : candidates, NO_POSTINGS, candidates, matches);
+                return;
+            }
+            IntSet[] keyPostings = new IntSet[grams];
+            int smallest = 0;
+            for (int i = 0; i < grams; i++) {
+                IntSet posting = postings.get(key.substring(i, i + GRAM_LENGTH));
+                if (posting == null) {
+                    //No item types contain this gram, so none can contain the key
+                    return;
+                }
+                keyPostings[i] = posting;
+                if (posting.size() < keyPostings[smallest].size()) {
+                    smallest = i;
+                }
+            }
+            IntSet toCheck = keyPostings[smallest];
+            if (candidates != null && candidates.size() < toCheck.size()) {
+                toCheck = candidates;
+            }
+            verify(key, toCheck, keyPostings, candidates, matches);
+        }
+
+        private void verify(String key, IntSet toCheck, IntSet[] keyPostings, @Nullable IntSet candidates, IntSet matches) {
+            for (IntIterator iterator = toCheck.iterator(); iterator.hasNext(); ) {
+                int id = iterator.nextInt();
+                if (!matches.contains(id) && (candidates == null || candidates.contains(id)) && isInAll(id, keyPostings) && contains(texts.get(id), key)) {
+                    matches.add(id);
+                }
+            }
+        }
+
+        private static boolean isInAll(int id, IntSet[] keyPostings) {
+            for (IntSet posting : keyPostings) {
+                if (!posting.contains(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean contains(@Nullable List<String> text, String key) {
+            if (text != null) {
+                //Note: As grams may span multiple lines of text, we need to validate the key is contained in one of them
+                for (String value : text) {
+                    if (value.contains(key)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
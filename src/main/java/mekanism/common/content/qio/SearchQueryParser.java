@@ -11,8 +11,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
-import java.util.function.Predicate;
 import mekanism.common.base.TagCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.network.chat.Component;
@@ -20,7 +20,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag.Default;
 import net.minecraft.world.level.Level;
-import net.neoforged.neoforge.common.util.TriPredicate;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -185,32 +184,29 @@ public class SearchQueryParser {
 
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (level, key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (level, key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        TOOLTIP('$', (level, key, stack) -> {
+        NAME('~', (level, stack) -> List.of(stack.getHoverName().getString().toLowerCase(Locale.ROOT))),
+        MOD_ID('@', (level, stack) -> List.of(MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT))),
+        TOOLTIP('$', (level, stack) -> {
             List<Component> tooltipLines = stack.getTooltipLines(Item.TooltipContext.of(level), null, Default.NORMAL);
-            if (!tooltipLines.isEmpty()) {
-                String lowerKey = key.toLowerCase(Locale.ROOT);
-                for (Component tooltipLine : tooltipLines) {
-                    String tooltip = tooltipLine.getString().toLowerCase(Locale.ROOT);
-                    if (tooltip.contains(lowerKey)) {
-                        return true;
-                    }
-                }
+            if (tooltipLines.isEmpty()) {
+                return Collections.emptyList();
             }
-            return false;
+            List<String> tooltips = new ArrayList<>(tooltipLines.size());
+            for (Component tooltipLine : tooltipLines) {
+                tooltips.add(tooltipLine.getString().toLowerCase(Locale.ROOT));
+            }
+            return tooltips;
         }),
-        TAG('#', (level, key, stack) -> {
+        TAG('#', (level, stack) -> {
             List<String> itemTags = TagCache.getItemTags(stack);
-            if (!itemTags.isEmpty()) {
-                String lowerKey = key.toLowerCase(Locale.ROOT);
-                for (String tag : itemTags) {
-                    if (tag.toLowerCase(Locale.ROOT).contains(lowerKey)) {
-                        return true;
-                    }
-                }
+            if (itemTags.isEmpty()) {
+                return Collections.emptyList();
             }
-            return false;
+            List<String> tags = new ArrayList<>(itemTags.size());
+            for (String tag : itemTags) {
+                tags.add(tag.toLowerCase(Locale.ROOT));
+            }
+            return tags;
         });
 
         private static final Char2ObjectMap<QueryType> charLookupMap;
@@ -232,15 +228,28 @@ public class SearchQueryParser {
         }
 
         private final char prefix;
-        private final TriPredicate<@Nullable Level, String, ItemStack> checker;
+        private final BiFunction<@Nullable Level, ItemStack, List<String>> textGetter;
 
-        QueryType(char prefix, TriPredicate<@Nullable Level, String, ItemStack> checker) {
+        QueryType(char prefix, BiFunction<@Nullable Level, ItemStack, List<String>> textGetter) {
             this.prefix = prefix;
-            this.checker = checker;
+            this.textGetter = textGetter;
+        }
+
+        /**
+         * {@return the lowercase text of the given stack that keys of this type are matched against}
+         */
+        public List<String> getSearchableText(@Nullable Level level, ItemStack stack) {
+            return textGetter.apply(level, stack);
         }
 
         public boolean matches(@Nullable Level level, String key, ItemStack stack) {
-            return checker.test(level, key, stack);
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            for (String text : getSearchableText(level, stack)) {
+                if (text.contains(lowerKey)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
@@ -0,0 +1,462 @@
+package mekanism.common.content.qio.storage;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Item storage that interns each stored type into a dense int id, and stores the data for each type in primitive arrays indexed by that id. The lookups by item, tag,
+ * and modid are stored as posting lists of type ids, and the drives each type is contained in are stored as a bitset per type.
+ */
+public class ColumnarItemStorage extends QIOItemStorage {
+
+    private static final int NOT_FOUND = -1;
+    private static final int[] NO_TAGS = new int[0];
+
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    private final IntArrayList freeTypeIds = new IntArrayList();
+    /**
+     * Number of type ids that have been handed out, any ids at or above this are guaranteed to not be in use.
+     */
+    private int typeIdLimit;
+    private HashedItem[] types = new HashedItem[16];
+    private long[] counts = new long[16];
+    private int[][] typeTags = new int[16][];
+
+    private final Object2IntMap<QIODriveKey> driveIds = new Object2IntOpenHashMap<>();
+    private final IntArrayList freeDriveIds = new IntArrayList();
+    private int driveIdLimit;
+    private QIODriveKey[] drives = new QIODriveKey[Long.SIZE];
+    /**
+     * Bitset of the drives each type is contained in, each type has {@link #driveWords} consecutive words starting at {@code typeId * driveWords}.
+     */
+    private long[] driveBits = new long[16];
+    private int driveWords = 1;
+
+    private final Object2IntMap<String> tagIds = new Object2IntOpenHashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<IntSet> tagPostings = new ArrayList<>();
+    private final Set<String> storedTags = new ObjectOpenHashSet<>();
+    private final Map<String, IntSet> modIDPostings = new Object2ObjectOpenHashMap<>();
+    private final Map<Item, IntSet> itemPostings = new Reference2ObjectOpenHashMap<>();
+
+    public ColumnarItemStorage() {
+        typeIds.defaultReturnValue(NOT_FOUND);
+        driveIds.defaultReturnValue(NOT_FOUND);
+        tagIds.defaultReturnValue(NOT_FOUND);
+    }
+
+    @Override
+    public int getTypeCount() {
+        return typeIds.size();
+    }
+
+    @Override
+    public boolean contains(HashedItem type) {
+        return typeIds.containsKey(type);
+    }
+
+    @Nullable
+    @Override
+    public HashedItem getStoredType(HashedItem type) {
+        int id = typeIds.getInt(type);
+        return id == NOT_FOUND ? null : types[id];
+    }
+
+    @Override
+    public long getCount(HashedItem type) {
+        int id = typeIds.getInt(type);
+        return id == NOT_FOUND ? 0 : counts[id];
+    }
+
+    @Nullable
+    @Override
+    public HashedItem getFirstType() {
+        for (int id = 0; id < typeIdLimit; id++) {
+            if (types[id] != null) {
+                return types[id];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<HashedItem> getTypes() {
+        return new AbstractCollection<>() {
+            @NotNull
+            @Override
+            public Iterator<HashedItem> iterator() {
+                return new TypeIterator();
+            }
+
+            @Override
+            public int size() {
+                return getTypeCount();
+            }
+        };
+    }
+
+    @Override
+    public void forEach(ObjLongConsumer<HashedItem> consumer) {
+        for (int id = 0; id < typeIdLimit; id++) {
+            HashedItem type = types[id];
+            if (type != null) {
+                consumer.accept(type, counts[id]);
+            }
+        }
+    }
+
+    @Override
+    public void addType(HashedItem type) {
+        int id;
+        if (freeTypeIds.isEmpty()) {
+            id = typeIdLimit++;
+            if (id == types.length) {
+                int newSize = types.length * 2;
+                types = Arrays.copyOf(types, newSize);
+                counts = Arrays.copyOf(counts, newSize);
+                typeTags = Arrays.copyOf(typeTags, newSize);
+                driveBits = Arrays.copyOf(driveBits, newSize * driveWords);
+            }
+        } else {
+            id = freeTypeIds.popInt();
+        }
+        typeIds.put(type, id);
+        types[id] = type;
+        counts[id] = 0;
+        ItemStack stack = type.getInternalStack();
+        typeTags[id] = addTags(id, TagCache.getItemTags(stack));
+        String modID = MekanismUtils.getModId(stack);
+        IntSet modItems = modIDPostings.get(modID);
+        if (modItems == null) {
+            //If we added a new modid we want to make sure that we clear our modid wildcard cache as our new modid may be valid for some of our wildcards
+            onModIDAdded();
+            modItems = new IntOpenHashSet();
+            modIDPostings.put(modID, modItems);
+        }
+        modItems.add(id);
+        itemPostings.computeIfAbsent(stack.getItem(), item -> new IntOpenHashSet()).add(id);
+    }
+
+    private int[] addTags(int id, List<String> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        boolean addedTag = false;
+        int[] ids = new int[tags.size()];
+        for (int i = 0; i < ids.length; i++) {
+            String tag = tags.get(i);
+            int tagId = tagIds.getInt(tag);
+            if (tagId == NOT_FOUND) {
+                tagId = tagNames.size();
+                tagIds.put(tag, tagId);
+                tagNames.add(tag);
+                tagPostings.add(new IntOpenHashSet());
+            }
+            ids[i] = tagId;
+            IntSet posting = tagPostings.get(tagId);
+            if (posting.isEmpty()) {
+                storedTags.add(tagNames.get(tagId));
+                addedTag = true;
+            }
+            posting.add(id);
+        }
+        if (addedTag) {
+            //If we didn't have all the tags this item has, then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
+            onTagAdded();
+        }
+        return ids;
+    }
+
+    private void removeTags(int id) {
+        boolean removedTag = false;
+        for (int tagId : typeTags[id]) {
+            IntSet posting = tagPostings.get(tagId);
+            if (posting.remove(id) && posting.isEmpty()) {
+                storedTags.remove(tagNames.get(tagId));
+                removedTag = true;
+            }
+        }
+        typeTags[id] = null;
+        if (removedTag) {
+            onTagRemoved();
+        }
+    }
+
+    @Override
+    public void removeType(HashedItem type) {
+        int id = typeIds.removeInt(type);
+        if (id == NOT_FOUND) {
+            return;
+        }
+        removeTags(id);
+        ItemStack stack = type.getInternalStack();
+        String modID = MekanismUtils.getModId(stack);
+        IntSet itemsForMod = modIDPostings.get(modID);
+        if (itemsForMod != null && itemsForMod.remove(id) && itemsForMod.isEmpty()) {
+            modIDPostings.remove(modID);
+            onModIDRemoved();
+        }
+        Item item = stack.getItem();
+        IntSet itemsByFuzzy = itemPostings.get(item);
+        if (itemsByFuzzy != null && itemsByFuzzy.remove(id) && itemsByFuzzy.isEmpty()) {
+            itemPostings.remove(item);
+        }
+        types[id] = null;
+        counts[id] = 0;
+        Arrays.fill(driveBits, id * driveWords, (id + 1) * driveWords, 0);
+        freeTypeIds.add(id);
+    }
+
+    @Override
+    public void addCount(HashedItem type, long amount) {
+        int id = typeIds.getInt(type);
+        if (id != NOT_FOUND) {
+            counts[id] += amount;
+        }
+    }
+
+    @Override
+    public void onDriveAdded(QIODriveKey key) {
+        if (driveIds.containsKey(key)) {
+            return;
+        }
+        int driveId;
+        if (freeDriveIds.isEmpty()) {
+            driveId = driveIdLimit++;
+            if (driveId == drives.length) {
+                drives = Arrays.copyOf(drives, drives.length + Long.SIZE);
+                growDriveWords(driveWords + 1);
+            }
+        } else {
+            driveId = freeDriveIds.popInt();
+        }
+        driveIds.put(key, driveId);
+        drives[driveId] = key;
+    }
+
+    private void growDriveWords(int newWords) {
+        long[] newBits = new long[types.length * newWords];
+        for (int id = 0; id < typeIdLimit; id++) {
+            System.arraycopy(driveBits, id * driveWords, newBits, id * newWords, driveWords);
+        }
+        driveBits = newBits;
+        driveWords = newWords;
+    }
+
+    @Override
+    public void onDriveRemoved(QIODriveKey key) {
+        int driveId = driveIds.removeInt(key);
+        if (driveId == NOT_FOUND) {
+            return;
+        }
+        //Clear the drive from all types, in case any types were not removed from it
+        int word = driveId >> 6;
+        long mask = ~(1L << driveId);
+        for (int id = 0; id < typeIdLimit; id++) {
+            driveBits[id * driveWords + word] &= mask;
+        }
+        drives[driveId] = null;
+        freeDriveIds.add(driveId);
+    }
+
+    @Override
+    public void addContainingDrive(HashedItem type, QIODriveKey key) {
+        int id = typeIds.getInt(type);
+        int driveId = driveIds.getInt(key);
+        if (id != NOT_FOUND && driveId != NOT_FOUND) {
+            driveBits[id * driveWords + (driveId >> 6)] |= 1L << driveId;
+        }
+    }
+
+    @Override
+    public void removeContainingDrive(HashedItem type, QIODriveKey key) {
+        int id = typeIds.getInt(type);
+        int driveId = driveIds.getInt(key);
+        if (id != NOT_FOUND && driveId != NOT_FOUND) {
+            driveBits[id * driveWords + (driveId >> 6)] &= ~(1L << driveId);
+        }
+    }
+
+    @Override
+    public boolean hasContainingDrives(HashedItem type) {
+        int id = typeIds.getInt(type);
+        if (id != NOT_FOUND) {
+            for (int i = id * driveWords, end = i + driveWords; i < end; i++) {
+                if (driveBits[i] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isContainedIn(HashedItem type, QIODriveKey key) {
+        int id = typeIds.getInt(type);
+        int driveId = driveIds.getInt(key);
+        return id != NOT_FOUND && driveId != NOT_FOUND && (driveBits[id * driveWords + (driveId >> 6)] & (1L << driveId)) != 0;
+    }
+
+    @Override
+    public Iterator<QIODriveKey> getContainingDrives(HashedItem type) {
+        int id = typeIds.getInt(type);
+        return id == NOT_FOUND ? Collections.emptyIterator() : new DriveIterator(id);
+    }
+
+    @Override
+    public Collection<HashedItem> getTypesForItem(Item item) {
+        return resolve(itemPostings.get(item));
+    }
+
+    @Override
+    public Collection<HashedItem> getTypesForTag(String tag) {
+        int tagId = tagIds.getInt(tag);
+        return tagId == NOT_FOUND ? Collections.emptyList() : resolve(tagPostings.get(tagId));
+    }
+
+    @Override
+    public Collection<HashedItem> getTypesForModID(String modID) {
+        return resolve(modIDPostings.get(modID));
+    }
+
+    private Collection<HashedItem> resolve(@Nullable IntSet posting) {
+        if (posting == null || posting.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<HashedItem> resolved = new ArrayList<>(posting.size());
+        for (IntIterator iterator = posting.iterator(); iterator.hasNext(); ) {
+            resolved.add(types[iterator.nextInt()]);
+        }
+        return resolved;
+    }
+
+    @Override
+    protected Set<String> getStoredTags() {
+        return storedTags;
+    }
+
+    @Override
+    protected Set<String> getStoredModIDs() {
+        return modIDPostings.keySet();
+    }
+
+    @Override
+    public void rebuildTags() {
+        //Note: We only need to clear tags here as the modids cannot change just because a reload happened
+        for (IntSet posting : tagPostings) {
+            posting.clear();
+        }
+        storedTags.clear();
+        onTagRemoved();
+        for (int id = 0; id < typeIdLimit; id++) {
+            HashedItem type = types[id];
+            if (type != null) {
+                typeTags[id] = addTags(id, TagCache.getItemTags(type.getInternalStack()));
+            }
+        }
+    }
+
+    private class TypeIterator implements Iterator<HashedItem> {
+
+        private int next = advance(0);
+
+        private int advance(int from) {
+            while (from < typeIdLimit && types[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < typeIdLimit;
+        }
+
+        @Override
+        public HashedItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            HashedItem type = types[next];
+            next = advance(next + 1);
+            return type;
+        }
+    }
+
+    private class DriveIterator implements Iterator<QIODriveKey> {
+
+        private final int typeId;
+        private int current = NOT_FOUND;
+        private int next;
+
+        private DriveIterator(int typeId) {
+            this.typeId = typeId;
+            this.next = advance(0);
+        }
+
+        private int advance(int from) {
+            int offset = typeId * driveWords;
+            for (int word = from >> 6; word < driveWords; word++) {
+                long bits = driveBits[offset + word];
+                if (word == from >> 6) {
+                    //Mask out any bits before where we are starting from
+                    bits &= -1L << from;
+                }
+                if (bits != 0) {
+                    return (word << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != NOT_FOUND;
+        }
+
+        @Override
+        public QIODriveKey next() {
+            if (next == NOT_FOUND) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = advance(current + 1);
+            return drives[current];
+        }
+
+        @Override
+        public void remove() {
+            if (current == NOT_FOUND) {
+                throw new IllegalStateException();
+            }
+            driveBits[typeId * driveWords + (current >> 6)] &= ~(1L << current);
+            current = NOT_FOUND;
+        }
+    }
+}
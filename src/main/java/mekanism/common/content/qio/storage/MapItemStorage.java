@@ -0,0 +1,227 @@
+package mekanism.common.content.qio.storage;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.lib.collection.BiMultimap;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Item storage that keeps track of each type's data in hash maps.
+ */
+public class MapItemStorage extends QIOItemStorage {
+
+    private final SequencedMap<HashedItem, TypeData> itemDataMap = new LinkedHashMap<>();
+    // efficiently keep track of the tags utilized by the items stored
+    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
+    // efficiently keep track of the modids utilized by the items stored
+    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
+    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
+    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
+
+    @Override
+    public int getTypeCount() {
+        return itemDataMap.size();
+    }
+
+    @Override
+    public boolean contains(HashedItem type) {
+        return itemDataMap.containsKey(type);
+    }
+
+    @Nullable
+    @Override
+    public HashedItem getStoredType(HashedItem type) {
+        TypeData data = itemDataMap.get(type);
+        return data == null ? null : data.itemType;
+    }
+
+    @Override
+    public long getCount(HashedItem type) {
+        TypeData data = itemDataMap.get(type);
+        return data == null ? 0 : data.count;
+    }
+
+    @Nullable
+    @Override
+    public HashedItem getFirstType() {
+        Map.Entry<HashedItem, TypeData> entry = itemDataMap.firstEntry();
+        return entry == null ? null : entry.getValue().itemType;
+    }
+
+    @Override
+    public Collection<HashedItem> getTypes() {
+        return Collections.unmodifiableSet(itemDataMap.keySet());
+    }
+
+    @Override
+    public void forEach(ObjLongConsumer<HashedItem> consumer) {
+        for (TypeData data : itemDataMap.values()) {
+            consumer.accept(data.itemType, data.count);
+        }
+    }
+
+    @Override
+    public void addType(HashedItem type) {
+        ItemStack stack = type.getInternalStack();
+        List<String> tags = TagCache.getItemTags(stack);
+        if (!tags.isEmpty()) {
+            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
+            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
+                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
+                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
+                onTagAdded();
+            }
+        }
+        String modID = MekanismUtils.getModId(stack);
+        Set<HashedItem> modItems = modIDLookupMap.get(modID);
+        if (modItems == null) {
+            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
+            // as our new modid may be valid for some of our wildcards
+            onModIDAdded();
+            modItems = new HashSet<>();
+            modIDLookupMap.put(modID, modItems);
+        }
+        modItems.add(type);
+        //Fuzzy item lookup has no wildcard cache related to it
+        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
+        itemDataMap.put(type, new TypeData(type));
+    }
+
+    @Override
+    public void removeType(HashedItem type) {
+        itemDataMap.remove(type);
+        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
+        // they will also get removed from this view
+        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
+        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
+            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
+            // matching a tag that is no longer stored
+            onTagRemoved();
+        }
+        ItemStack stack = type.getInternalStack();
+        String modID = MekanismUtils.getModId(stack);
+        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
+        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
+        // but double check that it is not null just in case
+        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
+        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
+        // matching a modid that is no longer stored
+        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
+            modIDLookupMap.remove(modID);
+            onModIDRemoved();
+        }
+        Item item = stack.getItem();
+        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
+        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
+        // but double check that it is not null just in case
+        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
+        // remove the item completely from the lookup map
+        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
+            fuzzyItemLookupMap.remove(item);
+        }
+    }
+
+    @Override
+    public void addCount(HashedItem type, long amount) {
+        TypeData data = itemDataMap.get(type);
+        if (data != null) {
+            data.count += amount;
+        }
+    }
+
+    @Override
+    public void addContainingDrive(HashedItem type, QIODriveKey key) {
+        TypeData data = itemDataMap.get(type);
+        if (data != null) {
+            data.containingDrives.add(key);
+        }
+    }
+
+    @Override
+    public void removeContainingDrive(HashedItem type, QIODriveKey key) {
+        TypeData data = itemDataMap.get(type);
+        if (data != null) {
+            data.containingDrives.remove(key);
+        }
+    }
+
+    @Override
+    public boolean hasContainingDrives(HashedItem type) {
+        TypeData data = itemDataMap.get(type);
+        return data != null && !data.containingDrives.isEmpty();
+    }
+
+    @Override
+    public boolean isContainedIn(HashedItem type, QIODriveKey key) {
+        TypeData data = itemDataMap.get(type);
+        return data != null && data.containingDrives.contains(key);
+    }
+
+    @Override
+    public Iterator<QIODriveKey> getContainingDrives(HashedItem type) {
+        TypeData data = itemDataMap.get(type);
+        return data == null ? Collections.emptyIterator() : data.containingDrives.iterator();
+    }
+
+    @Override
+    public Collection<HashedItem> getTypesForItem(Item item) {
+        return fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet());
+    }
+
+    @Override
+    public Collection<HashedItem> getTypesForTag(String tag) {
+        return tagLookupMap.getValues(tag);
+    }
+
+    @Override
+    public Collection<HashedItem> getTypesForModID(String modID) {
+        return modIDLookupMap.getOrDefault(modID, Collections.emptySet());
+    }
+
+    @Override
+    protected Set<String> getStoredTags() {
+        return tagLookupMap.getAllKeys();
+    }
+
+    @Override
+    protected Set<String> getStoredModIDs() {
+        return modIDLookupMap.keySet();
+    }
+
+    @Override
+    public void rebuildTags() {
+        //Note: We only need to clear tags here as the modids cannot change just because a reload happened
+        tagLookupMap.clear();
+        onTagRemoved();
+        for (HashedItem type : itemDataMap.keySet()) {
+            tagLookupMap.putAll(TagCache.getItemTags(type.getInternalStack()), type);
+        }
+    }
+
+    private static class TypeData {
+
+        private final HashedItem itemType;
+        private final Set<QIODriveKey> containingDrives = new HashSet<>();
+        private long count;
+
+        private TypeData(HashedItem itemType) {
+            this.itemType = itemType;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package mekanism.common.content.qio.storage;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the item types stored in a QIO frequency, how many of each type are stored, which drives each type is stored in, and the lookups for finding stored
+ * types by item, tag, or modid.
+ */
+public abstract class QIOItemStorage {
+
+    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
+    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
+    private final Set<String> failedWildcardTags = new HashSet<>();
+    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
+    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
+    private final Set<String> failedWildcardModIDs = new HashSet<>();
+
+    /**
+     * {@return the number of item types that are stored}
+     */
+    public abstract int getTypeCount();
+
+    public boolean isEmpty() {
+        return getTypeCount() == 0;
+    }
+
+    public boolean contains(HashedItem type) {
+        return getStoredType(type) != null;
+    }
+
+    /**
+     * Gets the instance of the given type that is stored, this is useful for looking up a non-raw hashed item that is safe to store from a raw hashed item.
+     *
+     * @return the stored type, or {@code null} if the type is not stored.
+     */
+    @Nullable
+    public abstract HashedItem getStoredType(HashedItem type);
+
+    /**
+     * {@return the amount of the given type that is stored, or zero if the type is not stored}
+     */
+    public abstract long getCount(HashedItem type);
+
+    /**
+     * {@return the first stored type, or {@code null} if nothing is stored}
+     */
+    @Nullable
+    public abstract HashedItem getFirstType();
+
+    /**
+     * {@return a view of all the stored types}
+     *
+     * @apiNote The returned collection should not be iterated while adding or removing types.
+     */
+    public abstract Collection<HashedItem> getTypes();
+
+    public abstract void forEach(ObjLongConsumer<HashedItem> consumer);
+
+    /**
+     * Starts tracking the given type with a count of zero, and adds it to the lookups.
+     *
+     * @param type Type to add, must not be raw, and must not already be stored.
+     */
+    public abstract void addType(HashedItem type);
+
+    /**
+     * Stops tracking the given type, and removes it from the lookups.
+     */
+    public abstract void removeType(HashedItem type);
+
+    /**
+     * Adjusts the amount of a stored type.
+     *
+     * @param type   Stored type.
+     * @param amount Amount to add, negative to remove.
+     */
+    public abstract void addCount(HashedItem type, long amount);
+
+    /**
+     * Called when a drive is added to the frequency, before any types are marked as being contained in it.
+     */
+    public void onDriveAdded(QIODriveKey key) {
+    }
+
+    /**
+     * Called after a drive has been removed from the frequency.
+     */
+    public void onDriveRemoved(QIODriveKey key) {
+    }
+
+    public abstract void addContainingDrive(HashedItem type, QIODriveKey key);
+
+    public abstract void removeContainingDrive(HashedItem type, QIODriveKey key);
+
+    public abstract boolean hasContainingDrives(HashedItem type);
+
+    public abstract boolean isContainedIn(HashedItem type, QIODriveKey key);
+
+    /**
+     * Gets the drives that the given type is stored in.
+     *
+     * @return an iterator over the drives, that supports removing the current drive from the type's containing drives.
+     */
+    public abstract Iterator<QIODriveKey> getContainingDrives(HashedItem type);
+
+    public abstract Collection<HashedItem> getTypesForItem(Item item);
+
+    public abstract Collection<HashedItem> getTypesForTag(String tag);
+
+    public abstract Collection<HashedItem> getTypesForModID(String modID);
+
+    protected abstract Set<String> getStoredTags();
+
+    protected abstract Set<String> getStoredModIDs();
+
+    /**
+     * Recalculates the tags of all stored types, for use when tags have been reloaded.
+     */
+    public abstract void rebuildTags();
+
+    /**
+     * {@return all the stored tags that match the given wildcard}
+     */
+    public Set<String> getMatchingTags(String wildcard) {
+        return getMatching(tagWildcardCache, failedWildcardTags, wildcard, this::getStoredTags);
+    }
+
+    /**
+     * {@return all the stored modids that match the given wildcard}
+     */
+    public Set<String> getMatchingModIDs(String wildcard) {
+        return getMatching(modIDWildcardCache, failedWildcardModIDs, wildcard, this::getStoredModIDs);
+    }
+
+    /**
+     * Should be called when a tag that was not stored before is now stored, as our new tag may be valid for some of our wildcards.
+     */
+    protected void onTagAdded() {
+        tagWildcardCache.clear();
+        failedWildcardTags.clear();
+    }
+
+    /**
+     * Should be called when a tag is no longer stored, as the wildcard cache may have some wildcards that are matching the tag.
+     *
+     * @implNote We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
+     */
+    protected void onTagRemoved() {
+        tagWildcardCache.clear();
+    }
+
+    /**
+     * Should be called when a modid that was not stored before is now stored, as our new modid may be valid for some of our wildcards.
+     */
+    protected void onModIDAdded() {
+        modIDWildcardCache.clear();
+        failedWildcardModIDs.clear();
+    }
+
+    /**
+     * Should be called when a modid is no longer stored, as the wildcard cache may have some wildcards that are matching the modid.
+     *
+     * @implNote We don't need to clear the failed wildcard modids as if we are removing modids they still won't have any matches
+     */
+    protected void onModIDRemoved() {
+        modIDWildcardCache.clear();
+    }
+
+    private Set<String> getMatching(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
+        if (failedWildcards.contains(wildcard)) {
+            //If we already know this wildcard has no matching things, fail fast
+            return Collections.emptySet();
+        }
+        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
+        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
+            // If we don't actually have any matches, mark that the wildcard failed, and return that there are no matches
+            failedWildcards.add(wildcard);
+            return Collections.emptySet();
+        }
+        return wildcardCache.get(wildcard);
+    }
+
+    /**
+     * @return {@code true} if any wildcards were added.
+     */
+    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
+        boolean added = false;
+        for (String entry : entries) {
+            if (WildcardMatcher.matches(wildcard, entry)) {
+                added |= wildcardCache.put(wildcard, entry);
+            }
+        }
+        return added;
+    }
+
+    public enum StorageType {
+        /**
+         * Stores each type's data in hash maps. Fastest for small frequencies.
+         */
+        MAP,
+        /**
+         * Interns types into dense ids and stores their data in primitive arrays, and the lookups as int posting lists. Uses significantly less memory for frequencies
+         * with a large number of types.
+         */
+        COLUMNAR;
+
+        public QIOItemStorage create() {
+            return switch (this) {
+                case MAP -> new MapItemStorage();
+                case COLUMNAR -> new ColumnarItemStorage();
+            };
+        }
+    }
+}
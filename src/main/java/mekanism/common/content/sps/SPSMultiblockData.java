@@ -38,7 +38,6 @@ import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 
 public class SPSMultiblockData extends MultiblockData implements IValveHandler {
 
@@ -66,7 +65,6 @@ public class SPSMultiblockData extends MultiblockData implements IValveHandler {
     public double lastProcessed;
 
     public boolean couldOperate;
-    private AABB deathZone;
 
     public SPSMultiblockData(TileEntitySPSCasing tile) {
         super(tile);
@@ -79,7 +77,7 @@ public class SPSMultiblockData extends MultiblockData implements IValveHandler {
     @Override
     public void onCreated(Level world) {
         super.onCreated(world);
-        deathZone = AABB.encapsulatingFullBlocks(getMinPos().offset(1, 1, 1), getMaxPos().offset(-1, -1, -1));
+        trackInnerEntities(world);
     }
 
     private long getMaxInputGas() {
@@ -187,7 +185,7 @@ public class SPSMultiblockData extends MultiblockData implements IValveHandler {
 
     private void kill(Level world) {
         if (lastReceivedEnergy > 0L && couldOperate && world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND == 0) {
-            List<Entity> entitiesToDie = getLevel().getEntitiesOfClass(Entity.class, deathZone);
+            List<Entity> entitiesToDie = getInnerEntities(Entity.class);
             for (Entity entity : entitiesToDie) {
                 entity.hurt(entity.damageSources().magic(), lastReceivedEnergy / 1_000F);
             }
@@ -1,17 +1,29 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.lib.collection.LRU;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import org.jetbrains.annotations.Nullable;
 
 public class PathfinderCache {
@@ -19,47 +31,390 @@ public class PathfinderCache {
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPathCache> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long invalidations;
 
+    /**
+     * Removes all the cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            NetworkPathCache cache = cachedPaths.remove(network.getUUID());
+            if (cache != null) {
+                invalidations += cache.size();
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths that pass through or next to any of the given positions. A path that doesn't touch any of the changed positions can't have been made
+     * invalid by the change, so only paths that are close to the changes need to be recalculated.
+     *
+     * @param network          Network the positions are part of.
+     * @param changedPositions Positions of acceptors that were added, removed, or changed.
+     *
+     * @apiNote This should not be used when transporters are added or become able to be passed through, as that may create a shorter path that doesn't pass near any of
+     * the cached paths. In that case {@link #onTransportersAdded(InventoryNetwork, LongCollection)} or
+     * {@link #onRecolored(InventoryNetwork, BlockPos, EnumColor, EnumColor)} should be used instead.
+     */
+    public static void onChanged(InventoryNetwork network, LongCollection changedPositions) {
+        NetworkPathCache cache = cachedPaths.get(network.getUUID());
+        if (cache != null) {
+            for (LongIterator iterator = changedPositions.iterator(); iterator.hasNext(); ) {
+                invalidateAround(cache, iterator.nextLong());
+                if (cache.isEmpty()) {
+                    break;
+                }
+            }
+            cache.removeIfEmpty(network.getUUID());
+        }
+    }
+
+    private static void invalidateAround(NetworkPathCache cache, long pos) {
+        invalidations += cache.invalidate(pos);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            invalidations += cache.invalidate(BlockPos.offset(pos, side));
+        }
+    }
+
+    /**
+     * Removes any cached paths that a path through the given transporters could be cheaper than. Entering a transporter costs at least one, so a path through a
+     * transporter costs at least the manhattan distance from the start to the transporter plus the distance from the transporter to the destination. Paths that are
+     * already no more expensive than that can't be improved upon by the new transporters, and are kept.
+     *
+     * @param network           Network the transporters were added to.
+     * @param addedTransporters Positions of the transporters that were added.
+     */
+    public static void onTransportersAdded(InventoryNetwork network, LongCollection addedTransporters) {
+        NetworkPathCache cache = cachedPaths.get(network.getUUID());
+        if (cache != null) {
+            BoundingBox bounds = getBounds(addedTransporters);
+            if (bounds != null) {
+                invalidations += cache.invalidateIf((data, path) -> mayBeCheaperThrough(data, path, bounds));
+                cache.removeIfEmpty(network.getUUID());
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths that pass through a transporter that changed color and can no longer be passed through, and any paths for stacks that can now pass
+     * through the transporter which a path through it could be cheaper than.
+     *
+     * @param network  Network the transporter is part of.
+     * @param pos      Position of the transporter.
+     * @param previous Color the transporter used to be.
+     * @param color    Color the transporter is now.
+     */
+    public static void onRecolored(InventoryNetwork network, BlockPos pos, @Nullable EnumColor previous, @Nullable EnumColor color) {
+        NetworkPathCache cache = cachedPaths.get(network.getUUID());
+        if (cache != null) {
+            invalidations += cache.invalidate(pos.asLong(), data -> !canPass(color, data.color()));
+            BoundingBox bounds = new BoundingBox(pos);
+            invalidations += cache.invalidateIf((data, path) -> !canPass(previous, data.color()) && canPass(color, data.color()) && mayBeCheaperThrough(data, path, bounds));
+            cache.removeIfEmpty(network.getUUID());
+        }
+    }
+
+    /**
+     * Moves the cached paths of a network that is being merged into another network, and removes any paths of either network that a path through the transporters of
+     * the other network could be cheaper than.
+     *
+     * @param target             Network that is adopting the other network.
+     * @param targetTransporters Positions of the transporters that were in the target network before adopting the other network.
+     * @param source             Network being adopted.
+     * @param sourceTransporters Positions of the transporters in the network being adopted.
+     */
+    public static void onMerged(InventoryNetwork target, LongCollection targetTransporters, InventoryNetwork source, LongCollection sourceTransporters) {
+        NetworkPathCache sourceCache = cachedPaths.remove(source.getUUID());
+        onTransportersAdded(target, sourceTransporters);
+        if (sourceCache != null) {
+            BoundingBox targetBounds = getBounds(targetTransporters);
+            NetworkPathCache targetCache = cachedPaths.computeIfAbsent(target.getUUID(), uuid -> new NetworkPathCache());
+            int maxSize = getMaxSize();
+            //Add the paths from least to most recently used so that they keep their order
+            sourceCache.recentlyUsed.reverseIterate(data -> {
+                CachedPath path = sourceCache.paths.get(data);
+                if (targetBounds != null && mayBeCheaperThrough(data, path, targetBounds)) {
+                    invalidations++;
+                } else {
+                    evictions += targetCache.put(data, path, maxSize);
+                }
+            });
+            targetCache.removeIfEmpty(target.getUUID());
+        }
+    }
+
+    private static boolean canPass(@Nullable EnumColor transporterColor, @Nullable EnumColor stackColor) {
+        return transporterColor == null || transporterColor == stackColor;
+    }
+
+    /**
+     * Checks if a path from the path's start to its destination that passes through a transporter within the given bounds could be cheaper than the cached path.
+     */
+    private static boolean mayBeCheaperThrough(PathData data, CachedPath path, BoundingBox bounds) {
+        BlockPos start = data.startTransporter();
+        BlockPos end = data.end();
+        int minDistance = minDistanceThrough(start.getX(), end.getX(), bounds.minX(), bounds.maxX())
+                          + minDistanceThrough(start.getY(), end.getY(), bounds.minY(), bounds.maxY())
+                          + minDistanceThrough(start.getZ(), end.getZ(), bounds.minZ(), bounds.maxZ());
+        return minDistance < path.cost();
+    }
+
+    /**
+     * Gets the shortest distance along an axis from the start to the end that passes through a coordinate between min and max.
+     */
+    private static int minDistanceThrough(int start, int end, int min, int max) {
+        int low = Math.min(start, end);
+        int high = Math.max(start, end);
+        if (max < low) {
+            return high - low + 2 * (low - max);
+        } else if (min > high) {
+            return high - low + 2 * (min - high);
+        }
+        return high - low;
+    }
+
+    @Nullable
+    private static BoundingBox getBounds(LongCollection positions) {
+        if (positions.isEmpty()) {
+            return null;
+        }
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
         }
+        return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
     }
 
-    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
-        CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, @Nullable EnumColor color, Pathfinder pathfinder) {
+        return addCachedPath(start, destination, color, pathfinder.getSide(), pathfinder.getPath(), pathfinder.getFinalScore());
+    }
+
+    /**
+     * @param color Color of the stacks the path was found for, as stacks of different colors may not be able to pass through the same transporters.
+     */
+    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, @Nullable EnumColor color, Direction side, LongList path,
+          double cost) {
+        CachedPath cachedPath = new CachedPath(path, cost);
+        PathData data = new PathData(start.getBlockPos(), destination, side, color);
+        evictions += cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPathCache()).put(data, cachedPath, getMaxSize());
         return cachedPath;
     }
 
+    /**
+     * Gets the cheapest cached path from the start to the given destination.
+     *
+     * @param start     Transporter the path starts at.
+     * @param end       Destination of the path.
+     * @param sides     Sides of the destination the path may enter from.
+     * @param color     Color of the stack the path is for.
+     * @param validator Checks if a cached path is still valid to be used. Any paths that are no longer valid are removed from the cache.
+     */
     @Nullable
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
+    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides, @Nullable EnumColor color,
+          Predicate<LongList> validator) {
         CachedPath ret = null;
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
+        NetworkPathCache cache = cachedPaths.get(uuid);
+        if (cache != null) {
             BlockPos startPos = start.getBlockPos();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
+                PathData data = new PathData(startPos, end, side, color);
+                CachedPath test = cache.get(data);
                 if (test != null) {
-                    if (ret == null || test.cost() < ret.cost()) {
+                    if (!validator.test(test.path())) {
+                        //The path is no longer valid, remove it so that we don't have to check it again
+                        cache.remove(data);
+                        invalidations++;
+                    } else if (ret == null || test.cost() < ret.cost()) {
                         ret = test;
                     }
                 }
             }
+            cache.removeIfEmpty(uuid);
+        }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
         }
         return ret;
     }
 
+    private static int getMaxSize() {
+        return MekanismConfig.general.transporterPathCacheSize.get();
+    }
+
+    public static CacheStats getStats() {
+        int paths = 0;
+        for (NetworkPathCache cache : cachedPaths.values()) {
+            paths += cache.size();
+        }
+        return new CacheStats(cachedPaths.size(), paths, hits, misses, evictions, invalidations);
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
     }
 
     public record CachedPath(LongList path, double cost) {
     }
 
-    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
+    public record CacheStats(int networks, int paths, long hits, long misses, long evictions, long invalidations) {
+    }
+
+    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide, @Nullable EnumColor color) {
+    }
+
+    /**
+     * Size bounded cache of the paths for a single network, that also indexes the paths by the positions they pass through so that changes only need to remove the
+     * paths they affect.
+     */
+    private static class NetworkPathCache {
+
+        private final Map<PathData, CachedPath> paths = new Object2ObjectOpenHashMap<>();
+        private final LRU<PathData> recentlyUsed = new LRU<>();
+        private final Long2ObjectMap<Set<PathData>> pathsByPosition = new Long2ObjectOpenHashMap<>();
+
+        public int size() {
+            return paths.size();
+        }
+
+        public boolean isEmpty() {
+            return paths.isEmpty();
+        }
+
+        public void removeIfEmpty(UUID uuid) {
+            if (isEmpty()) {
+                cachedPaths.remove(uuid);
+            }
+        }
+
+        @Nullable
+        public CachedPath get(PathData data) {
+            CachedPath path = paths.get(data);
+            if (path != null) {
+                recentlyUsed.moveUp(data);
+            }
+            return path;
+        }
+
+        /**
+         * @return the number of paths that had to be evicted to stay within the max size
+         */
+        public int put(PathData data, CachedPath path, int maxSize) {
+            CachedPath previous = paths.put(data, path);
+            if (previous == null) {
+                recentlyUsed.add(data);
+            } else {
+                unindex(data, previous);
+                recentlyUsed.moveUp(data);
+            }
+            index(data, path);
+            int evicted = 0;
+            while (paths.size() > maxSize) {
+                PathData eldest = recentlyUsed.peekLast();
+                if (eldest == null || !remove(eldest)) {
+                    break;
+                }
+                evicted++;
+            }
+            return evicted;
+        }
+
+        public boolean remove(PathData data) {
+            CachedPath path = paths.remove(data);
+            if (path != null) {
+                recentlyUsed.remove(data);
+                unindex(data, path);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return the number of paths that passed through the given position and were removed
+         */
+        public int invalidate(long pos) {
+            Set<PathData> affected = pathsByPosition.remove(pos);
+            if (affected == null) {
+                return 0;
+            }
+            int removed = 0;
+            for (PathData data : affected) {
+                //Note: As we already removed the set from the index, removing the path won't modify the set we are iterating
+                if (remove(data)) {
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        /**
+         * @return the number of paths that passed through the given position and matched the filter, and were removed
+         */
+        public int invalidate(long pos, Predicate<PathData> filter) {
+            Set<PathData> indexed = pathsByPosition.get(pos);
+            if (indexed == null) {
+                return 0;
+            }
+            List<PathData> affected = new ArrayList<>();
+            for (PathData data : indexed) {
+                if (filter.test(data)) {
+                    affected.add(data);
+                }
+            }
+            affected.forEach(this::remove);
+            return affected.size();
+        }
+
+        /**
+         * @return the number of paths that matched the filter and were removed
+         */
+        public int invalidateIf(BiPredicate<PathData, CachedPath> filter) {
+            List<PathData> affected = new ArrayList<>();
+            for (Map.Entry<PathData, CachedPath> entry : paths.entrySet()) {
+                if (filter.test(entry.getKey(), entry.getValue())) {
+                    affected.add(entry.getKey());
+                }
+            }
+            affected.forEach(this::remove);
+            return affected.size();
+        }
+
+        private void index(PathData data, CachedPath path) {
+            LongList positions = path.path();
+            for (int i = 0, size = positions.size(); i < size; i++) {
+                pathsByPosition.computeIfAbsent(positions.getLong(i), pos -> new ObjectOpenHashSet<>()).add(data);
+            }
+        }
+
+        private void unindex(PathData data, CachedPath path) {
+            LongList positions = path.path();
+            for (int i = 0, size = positions.size(); i < size; i++) {
+                long pos = positions.getLong(i);
+                Set<PathData> indexed = pathsByPosition.get(pos);
+                if (indexed != null && indexed.remove(data) && indexed.isEmpty()) {
+                    pathsByPosition.remove(pos);
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
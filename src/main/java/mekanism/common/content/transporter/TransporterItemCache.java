@@ -0,0 +1,101 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Interns the item types of the transporter stacks that get synced to each player, so that the full item only has to be sent the first time a type is synced to a
+ * player, and afterward just its id. Once a player's cache is full, ids get reused in a round-robin fashion. As packets to a player are decoded in the order they were
+ * sent, the client always knows the type the server last sent with a given id.
+ * <p>
+ * Item references are encoded as a single var int containing the id, and whether the type is sent along with it, followed by the size of the stack.
+ */
+@NothingNullByDefault
+public class TransporterItemCache {
+
+    private static final int CAPACITY = 1_024;
+    private static final int UNKNOWN_ID = -1;
+    private static final Map<UUID, TransporterItemCache> serverCaches = new Object2ObjectOpenHashMap<>();
+    /**
+     * Types the server has sent to this client, only accessed while decoding packets.
+     */
+    private static final ItemStack[] clientTypes = new ItemStack[CAPACITY];
+
+    public static TransporterItemCache get(ServerPlayer player) {
+        return serverCaches.computeIfAbsent(player.getUUID(), uuid -> new TransporterItemCache());
+    }
+
+    public static void clearPlayer(UUID player) {
+        serverCaches.remove(player);
+    }
+
+    public static void reset() {
+        serverCaches.clear();
+    }
+
+    private final Object2IntMap<HashedItem> ids = new Object2IntOpenHashMap<>();
+    private final HashedItem[] types = new HashedItem[CAPACITY];
+    private int nextId;
+
+    private TransporterItemCache() {
+        ids.defaultReturnValue(UNKNOWN_ID);
+    }
+
+    /**
+     * Gets the reference to write for the given stack, assigning its type an id if it does not have one yet.
+     *
+     * @return The id of the type shifted left by one, with the lowest bit set if the type has not been sent to the player yet.
+     */
+    public int intern(ItemStack stack) {
+        int id = ids.getInt(HashedItem.raw(stack));
+        if (id != UNKNOWN_ID) {
+            return id << 1;
+        }
+        id = nextId;
+        nextId = (nextId + 1) % CAPACITY;
+        HashedItem previous = types[id];
+        if (previous != null) {
+            ids.removeInt(previous);
+        }
+        HashedItem type = HashedItem.create(stack);
+        types[id] = type;
+        ids.put(type, id);
+        return (id << 1) | 1;
+    }
+
+    /**
+     * Writes the given stack using a reference gotten from {@link #intern(ItemStack)}.
+     */
+    public static void write(RegistryFriendlyByteBuf buffer, int reference, ItemStack stack) {
+        VarInt.write(buffer, reference);
+        if ((reference & 1) != 0) {
+            ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, stack.copyWithCount(1));
+        }
+        VarInt.write(buffer, stack.getCount());
+    }
+
+    public static ItemStack read(RegistryFriendlyByteBuf buffer) {
+        int reference = VarInt.read(buffer);
+        int id = reference >>> 1;
+        ItemStack type;
+        if ((reference & 1) != 0) {
+            type = ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer);
+            if (id < CAPACITY) {
+                clientTypes[id] = type;
+            }
+        } else {
+            type = id < CAPACITY ? clientTypes[id] : null;
+        }
+        int count = VarInt.read(buffer);
+        return type == null || type.isEmpty() ? ItemStack.EMPTY : type.copyWithCount(count);
+    }
+}
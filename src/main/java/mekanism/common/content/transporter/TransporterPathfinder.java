@@ -1,5 +1,8 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
@@ -23,6 +26,7 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongDoublePriorityQueue;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -53,11 +57,45 @@ public final class TransporterPathfinder {
         }
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks);
-        List<Destination> paths = new ArrayList<>();
-        for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+        int acceptorCount = acceptors.size();
+        if (acceptorCount == 0) {
+            return Collections.emptyList();
+        }
+        Destination[] destinations = new Destination[acceptorCount];
+        IntList toSearch = new IntArrayList();
+        for (int i = 0; i < acceptorCount; i++) {
+            AcceptorData data = acceptors.get(i);
+            if (data.getResponse().getSendingAmount() >= min) {
+                CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides(), stack.color, path -> checkPath(network, path, stack));
+                if (test != null) {
+                    destinations[i] = new Destination(test, data.getResponse());
+                } else {
+                    toSearch.add(i);
+                }
+            }
+        }
+        if (!toSearch.isEmpty()) {
+            //Resolve all the destinations we don't have a cached path to with a single search outwards from the start
+            List<AcceptorData> targets = new ArrayList<>(toSearch.size());
+            for (int i = 0, size = toSearch.size(); i < size; i++) {
+                targets.add(acceptors.get(toSearch.getInt(i)));
+            }
+            MultiPathfinder p = new MultiPathfinder(network, start.getLevel(), start.getBlockPos(), stack, targets,
+                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
+            p.find(chunkMap);
+            for (int i = 0, size = targets.size(); i < size; i++) {
+                if (p.hasPath(i)) {
+                    AcceptorData data = targets.get(i);
+                    CachedPath path = PathfinderCache.addCachedPath(start, data.getLocation(), stack.color, p.getSide(i), p.getPath(i), p.getFinalScore(i));
+                    destinations[toSearch.getInt(i)] = new Destination(path, data.getResponse());
+                }
+            }
+        }
+        //Note: We add the destinations in the order the acceptors were in so that the sort order of destinations with the same score is consistent
+        List<Destination> paths = new ArrayList<>(acceptorCount);
+        for (Destination destination : destinations) {
+            if (destination != null) {
+                paths.add(destination);
             }
         }
         Collections.sort(paths);
@@ -78,26 +116,6 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
-          Long2ObjectMap<ChunkAccess> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
-            }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
-            p.find(chunkMap);
-            if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
-            }
-        }
-        return null;
-    }
-
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -362,6 +380,7 @@ public final class TransporterPathfinder {
 
     public static class Pathfinder {
 
+        private final LongDoublePriorityQueue openQueue = new LongDoublePriorityQueue();
         private final LongSet openSet = new LongOpenHashSet();
         private final LongSet closedSet = new LongOpenHashSet();
         private final Long2LongMap navMap = new Long2LongOpenHashMap();
@@ -394,6 +413,7 @@ public final class TransporterPathfinder {
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             double totalDistance = WorldUtils.distanceBetween(start, finalNode);
             fScore.put(start.asLong(), totalDistance);
+            openQueue.enqueue(start.asLong(), totalDistance);
             boolean hasValidDirection = false;
             LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
             BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
@@ -416,18 +436,12 @@ public final class TransporterPathfinder {
             }
             //If the blocks are very close together, allow for path finding up to four blocks away
             double maxSearchDistance = Math.max(2 * totalDistance, 4);
-            while (!openSet.isEmpty()) {
-                long currentNodeLong = Long.MAX_VALUE;
-                double lowestFScore = 0;
-                for (long node : openSet) {
-                    if (currentNodeLong == Long.MAX_VALUE || fScore.get(node) < lowestFScore) {
-                        currentNodeLong = node;
-                        lowestFScore = fScore.get(node);
-                    }
-                }
-                if (currentNodeLong == Long.MAX_VALUE) {
-                    //If we have no current node, then exit
-                    break;
+            while (!openQueue.isEmpty()) {
+                long currentNodeLong = openQueue.dequeue();
+                if (!openSet.contains(currentNodeLong) || openQueue.lastPriority() > fScore.get(currentNodeLong)) {
+                    //If the node has already been checked, or it has been queued again with a better score since this entry was added, skip it
+                    // as this entry is stale
+                    continue;
                 }
                 BlockPos currentNode = BlockPos.of(currentNodeLong);
                 //Remove the current node from unchecked and add it to checked
@@ -454,8 +468,10 @@ public final class TransporterPathfinder {
                             navMap.put(neighborLong, currentNodeLong);
                             gScore.put(neighborLong, tentativeG);
                             //Put the gScore plus estimate in the final score
-                            fScore.put(neighborLong, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
+                            double neighborFScore = tentativeG + WorldUtils.distanceBetween(neighbor, finalNode);
+                            fScore.put(neighborLong, neighborFScore);
                             openSet.add(neighborLong);
+                            openQueue.enqueue(neighborLong, neighborFScore);
                         }
                     } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
@@ -483,7 +499,7 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start.asLong());
+                        results = reconstructPath(navMap, start.asLong(), Long.MAX_VALUE);
                         finalScore = gScore.get(start.asLong()) + WorldUtils.distanceBetween(start, finalNode);
                         return true;
                     }
@@ -492,15 +508,6 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private LongList reconstructPath(Long2LongMap navMap, long nextNode) {
-            LongList path = new LongArrayList();
-            do {
-                path.add(nextNode);
-                nextNode = navMap.getOrDefault(nextNode, Long.MAX_VALUE);
-            } while (nextNode != Long.MAX_VALUE);
-            return path;
-        }
-
         public boolean hasPath() {
             return !results.isEmpty();
         }
@@ -527,6 +534,200 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Pathfinder that resolves paths to multiple destinations at once by doing a single Dijkstra expansion outwards from the start transporter. As nodes are expanded in
+     * order of their cost from the start, the first time we are able to reach a destination is the cheapest path to that destination, and we stop searching as soon as
+     * all destinations have been resolved.
+     * <p>
+     * Each destination is only resolved from nodes within the same distance of the start that the single destination search would have looked at, and we stop expanding
+     * nodes that are further away than the bound of every destination that has not been resolved yet. While further destinations are still unresolved, the path found to
+     * a closer destination may however pass through nodes that are outside that destination's bound, in which case it may be cheaper than the path the single
+     * destination search would have found.
+     */
+    public static class MultiPathfinder {
+
+        private final LongDoublePriorityQueue openQueue = new LongDoublePriorityQueue();
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+        private final InventoryNetwork network;
+        private final Level world;
+        private final BlockPos start;
+        private final TransporterStack transportStack;
+        private final Pathfinder.DestChecker destChecker;
+        private final List<AcceptorData> targets;
+        /**
+         * Map of destination position to the indices of the targets at that position that have not been resolved yet.
+         */
+        private final Long2ObjectMap<IntList> unresolved = new Long2ObjectOpenHashMap<>();
+        private final double[] maxSearchDistances;
+        private final LongList[] results;
+        private final double[] finalScores;
+        private final Direction[] sides;
+        private double maxSearchDistance;
+        private int unresolvedCount;
+
+        public MultiPathfinder(InventoryNetwork network, Level world, BlockPos start, TransporterStack stack, List<AcceptorData> targets, Pathfinder.DestChecker checker) {
+            this.network = network;
+            this.world = world;
+            this.start = start;
+            this.transportStack = stack;
+            this.targets = targets;
+            this.destChecker = checker;
+            int targetCount = targets.size();
+            maxSearchDistances = new double[targetCount];
+            results = new LongList[targetCount];
+            finalScores = new double[targetCount];
+            sides = new Direction[targetCount];
+            for (int i = 0; i < targetCount; i++) {
+                BlockPos location = targets.get(i).getLocation();
+                //Same bounds as the single destination search: if the blocks are very close together, allow for path finding up to four blocks away
+                maxSearchDistances[i] = Math.max(2 * WorldUtils.distanceBetween(start, location), 4);
+                maxSearchDistance = Math.max(maxSearchDistance, maxSearchDistances[i]);
+                unresolved.computeIfAbsent(location.asLong(), pos -> new IntArrayList(1)).add(i);
+            }
+            unresolvedCount = targetCount;
+        }
+
+        public void find(Long2ObjectMap<ChunkAccess> chunkMap) {
+            long startLong = start.asLong();
+            gScore.put(startLong, 0D);
+            openQueue.enqueue(startLong, 0D);
+            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+            while (unresolvedCount > 0 && !openQueue.isEmpty()) {
+                long currentNodeLong = openQueue.dequeue();
+                if (!closedSet.add(currentNodeLong)) {
+                    //If we already expanded this node with a lower cost, skip this stale entry
+                    continue;
+                }
+                BlockPos currentNode = BlockPos.of(currentNodeLong);
+                double distanceFromStart = WorldUtils.distanceBetween(start, currentNode);
+                if (distanceFromStart > maxSearchDistance) {
+                    //If it is too far away for any unresolved destination to keep considering then continue on and see if we have another node that is in range
+                    continue;
+                }
+                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
+                double currentScore = openQueue.lastPriority();
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    neighbor.setWithOffset(currentNode, direction);
+                    long neighborLong = neighbor.asLong();
+                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                        //If the neighbor is a transporter and the stack is valid for it
+                        if (!closedSet.contains(neighborLong)) {
+                            double tentativeG = currentScore + neighborTransmitter.getCost();
+                            if (!gScore.containsKey(neighborLong) || tentativeG < gScore.get(neighborLong)) {
+                                navMap.put(neighborLong, currentNodeLong);
+                                gScore.put(neighborLong, tentativeG);
+                                openQueue.enqueue(neighborLong, tentativeG);
+                            }
+                        }
+                    } else if (currentNodeTransmitter != null) {
+                        IntList waiting = unresolved.get(neighborLong);
+                        if (waiting != null) {
+                            //Else if the neighbor is one of the destinations, check if we can send to it
+                            if (resolveDestinations(waiting, currentNode, currentNodeTransmitter, currentScore, distanceFromStart, direction, neighbor, chunkMap)) {
+                                if (waiting.isEmpty()) {
+                                    unresolved.remove(neighborLong);
+                                }
+                                updateMaxSearchDistance();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} if any of the waiting destinations were resolved.
+         */
+        private boolean resolveDestinations(IntList waiting, BlockPos current, LogisticalTransporterBase currentTransporter, double currentScore,
+              double distanceFromStart, Direction direction, BlockPos neighbor, Long2ObjectMap<ChunkAccess> chunkMap) {
+            boolean resolved = false;
+            BlockEntity neighborTile = null;
+            boolean tileLookedUp = false;
+            LongList path = null;
+            for (IntIterator iterator = waiting.iterator(); iterator.hasNext(); ) {
+                int target = iterator.nextInt();
+                if (distanceFromStart > maxSearchDistances[target]) {
+                    //This node is further away than the single destination search would have looked for this target
+                    continue;
+                }
+                if (!tileLookedUp) {
+                    neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
+                    tileLookedUp = true;
+                }
+                ItemStack data = targets.get(target).getResponse().getStack();
+                if (destChecker.isValid(world, neighbor, neighborTile, transportStack, data, direction)) {
+                    if (currentTransporter.canEmitTo(direction) || (neighbor.equals(transportStack.homeLocation) && currentTransporter.canConnect(direction))) {
+                        //If we can emit to it (normal or push mode), or it is the home location of the stack and we can connect to it,
+                        // then this is the cheapest path to this destination, so we mark it as so
+                        if (path == null) {
+                            path = reconstructPath(navMap, current.asLong(), neighbor.asLong());
+                        }
+                        results[target] = path;
+                        sides[target] = direction;
+                        finalScores[target] = currentScore + WorldUtils.distanceBetween(current, neighbor);
+                        iterator.remove();
+                        unresolvedCount--;
+                        resolved = true;
+                    }
+                }
+            }
+            return resolved;
+        }
+
+        /**
+         * Shrinks the distance we search out to, to the largest bound of the destinations that have not been resolved yet.
+         */
+        private void updateMaxSearchDistance() {
+            maxSearchDistance = 0;
+            for (IntList waiting : unresolved.values()) {
+                for (IntIterator iterator = waiting.iterator(); iterator.hasNext(); ) {
+                    maxSearchDistance = Math.max(maxSearchDistance, maxSearchDistances[iterator.nextInt()]);
+                }
+            }
+        }
+
+        public boolean hasPath(int target) {
+            return results[target] != null;
+        }
+
+        /**
+         * @apiNote Paths may be shared between targets that are at the same location, so the returned list should not be mutated.
+         */
+        public LongList getPath(int target) {
+            return results[target];
+        }
+
+        public double getFinalScore(int target) {
+            return finalScores[target];
+        }
+
+        public Direction getSide(int target) {
+            return sides[target];
+        }
+    }
+
+    /**
+     * Reconstructs the path from the given node back to the start of the search.
+     *
+     * @param navMap      Map of node to the node that it was reached from.
+     * @param nextNode    Node to start reconstructing from.
+     * @param destination Destination to prepend to the path, or {@link Long#MAX_VALUE} to not include a destination.
+     */
+    private static LongList reconstructPath(Long2LongMap navMap, long nextNode, long destination) {
+        LongList path = new LongArrayList();
+        if (destination != Long.MAX_VALUE) {
+            path.add(destination);
+        }
+        do {
+            path.add(nextNode);
+            nextNode = navMap.getOrDefault(nextNode, Long.MAX_VALUE);
+        } while (nextNode != Long.MAX_VALUE);
+        return path;
+    }
+
     private static long relativePos(long pos, Direction direction) {
         return BlockPos.asLong(BlockPos.getX(pos) + direction.getStepX(), BlockPos.getY(pos) + direction.getStepY(), BlockPos.getZ(pos) + direction.getStepZ());
     }
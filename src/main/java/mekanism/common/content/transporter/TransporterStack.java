@@ -5,7 +5,6 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.IntFunction;
 import mekanism.api.SerializationConstants;
@@ -17,6 +16,7 @@ import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
@@ -26,41 +26,21 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
-import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.util.ByIdMap;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.network.codec.NeoForgeStreamCodecs;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class TransporterStack {
 
-    //Make sure to call updateForPos before calling this method
-    public static StreamCodec<RegistryFriendlyByteBuf, TransporterStack> STREAM_CODEC = NeoForgeStreamCodecs.composite(
-          EnumColor.OPTIONAL_STREAM_CODEC, stack -> Optional.ofNullable(stack.color),
-          ByteBufCodecs.VAR_INT, stack -> stack.progress,
-          BlockPos.STREAM_CODEC, stack -> stack.originalLocation,
-          Path.STREAM_CODEC, TransporterStack::getPathType,
-          ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG), stack -> stack.clientNext == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.clientNext),
-          ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG), stack -> stack.clientPrev == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.clientPrev),
-          ItemStack.OPTIONAL_STREAM_CODEC, stack -> stack.itemStack,
-          (color, progress, originalLocation, pathType, clientNext, clientPrev, itemStack) -> {
-              TransporterStack stack = new TransporterStack();
-              stack.color = color.orElse(null);
-              stack.progress = progress == 0 ? 5 : progress;
-              stack.originalLocation = originalLocation;
-              stack.pathType = pathType;
-              stack.clientNext = clientNext.orElse(Long.MAX_VALUE);
-              stack.clientPrev = clientPrev.orElse(Long.MAX_VALUE);
-              stack.itemStack = itemStack;
-              return stack;
-          }
-    );
+    private static final byte NO_POSITION = -1;
+    private static final byte ABSOLUTE_POSITION = 6;
 
     public ItemStack itemStack = ItemStack.EMPTY;
 
@@ -79,6 +59,67 @@ public class TransporterStack {
     private Path pathType;
     private LongList pathToTarget = new LongArrayList();
 
+    /**
+     * Writes everything except the item stack that the client needs to know about this stack. The path type and color are packed into a single byte, and the
+     * positions are written as the side of the given transporter position they are on, as they are almost always adjacent to it.
+     *
+     * @param pos Position of the transporter this stack is in.
+     *
+     * @implNote Make sure to call updateForPos before calling this method
+     */
+    public void writeCompact(ByteBuf buffer, BlockPos pos) {
+        int colorIndex = color == null ? 0 : color.ordinal() + 1;
+        buffer.writeByte(getPathType().ordinal() | (colorIndex << 2));
+        VarInt.write(buffer, progress);
+        writeRelativePos(buffer, pos, originalLocation.asLong());
+        writeRelativePos(buffer, pos, clientNext);
+        writeRelativePos(buffer, pos, clientPrev);
+    }
+
+    /**
+     * Reads a stack written by {@link #writeCompact(ByteBuf, BlockPos)}.
+     */
+    public static TransporterStack readCompact(ByteBuf buffer, BlockPos pos, ItemStack itemStack) {
+        TransporterStack stack = new TransporterStack();
+        int packed = buffer.readUnsignedByte();
+        stack.pathType = Path.BY_ID.apply(packed & 3);
+        int colorIndex = packed >> 2;
+        stack.color = colorIndex == 0 ? null : EnumColor.BY_ID.apply(colorIndex - 1);
+        int progress = VarInt.read(buffer);
+        stack.progress = progress == 0 ? 5 : progress;
+        stack.originalLocation = BlockPos.of(readRelativePos(buffer, pos));
+        stack.clientNext = readRelativePos(buffer, pos);
+        stack.clientPrev = readRelativePos(buffer, pos);
+        stack.itemStack = itemStack;
+        return stack;
+    }
+
+    private static void writeRelativePos(ByteBuf buffer, BlockPos pos, long target) {
+        if (target == Long.MAX_VALUE) {
+            buffer.writeByte(NO_POSITION);
+            return;
+        }
+        long packedPos = pos.asLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (BlockPos.offset(packedPos, side) == target) {
+                buffer.writeByte(side.ordinal());
+                return;
+            }
+        }
+        buffer.writeByte(ABSOLUTE_POSITION);
+        buffer.writeLong(target);
+    }
+
+    private static long readRelativePos(ByteBuf buffer, BlockPos pos) {
+        byte side = buffer.readByte();
+        if (side == NO_POSITION) {
+            return Long.MAX_VALUE;
+        } else if (side == ABSOLUTE_POSITION) {
+            return buffer.readLong();
+        }
+        return BlockPos.offset(pos.asLong(), EnumUtils.DIRECTIONS[side]);
+    }
+
     public static TransporterStack readFromNBT(HolderLookup.Provider provider, CompoundTag nbtTags) {
         TransporterStack stack = new TransporterStack();
         stack.read(provider, nbtTags);
@@ -1,6 +1,7 @@
 package mekanism.common.inventory.container;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import it.unimi.dsi.fastutil.shorts.ShortUnaryOperator;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -8,10 +9,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.slot.ArmorSlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.slot.IHasExtraData;
@@ -77,6 +80,12 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     protected final List<OffhandSlot> offhandSlots = new ArrayList<>();
     private final List<ISyncableData> trackedData = new ArrayList<>();
     private final Map<Object, List<ISyncableData>> specificTrackedData = new Object2ObjectOpenHashMap<>();
+    /**
+     * Tracked data that is only displayed to the player, and therefore is only checked for changes every {@link mekanism.common.config.GeneralConfig#cosmeticSyncInterval}
+     * ticks.
+     */
+    private final Set<ISyncableData> cosmeticData = new ReferenceOpenHashSet<>();
+    private int ticksSinceCosmeticSync;
     /**
      * Keeps track of which window the player has open. Only used on the client, so doesn't need to keep track of other players.
      *
@@ -158,6 +167,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         List<ISyncableData> list = specificTrackedData.remove(key);
         if (list != null) {
             trackedData.removeAll(list);
+            cosmeticData.removeAll(list);
         }
     }
 
@@ -464,6 +474,14 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         trackedData.add(data);
     }
 
+    /**
+     * Tracks data that is only displayed to the player, such as recent energy usage, and therefore doesn't need to be synced as often as other data.
+     */
+    public void trackCosmetic(ISyncableData data) {
+        track(data);
+        cosmeticData.add(data);
+    }
+
     @NotNull
     @Override
     protected DataSlot addDataSlot(@NotNull DataSlot referenceHolder) {
@@ -640,16 +658,32 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         // they need it for before we add a bunch of extra logic to handle them
         if (inv.player instanceof ServerPlayer player) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            boolean skipCosmetic = false;
+            if (!cosmeticData.isEmpty()) {
+                if (++ticksSinceCosmeticSync < MekanismConfig.general.cosmeticSyncInterval.get()) {
+                    //Skip checking cosmetic data so that any changes to it are picked up the next time we do check it
+                    skipCosmetic = true;
+                } else {
+                    ticksSinceCosmeticSync = 0;
+                }
+            }
+            //Note: We only create the list once we find something that changed, as most ticks nothing will have
+            List<PropertyData> dirtyData = null;
             RegistryAccess registryAccess = player.level().registryAccess();
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
+                if (skipCosmetic && cosmeticData.contains(data)) {
+                    continue;
+                }
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
+                    if (dirtyData == null) {
+                        dirtyData = new ArrayList<>();
+                    }
                     dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
                 }
             }
-            if (!dirtyData.isEmpty()) {
+            if (dirtyData != null) {
                 PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
             }
         }
@@ -1,7 +1,12 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -21,6 +26,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOSearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
@@ -31,6 +37,7 @@ import mekanism.common.inventory.container.slot.InsertableSlot;
 import mekanism.common.inventory.container.slot.InventoryContainerSlot;
 import mekanism.common.inventory.container.slot.VirtualCraftingOutputSlot;
 import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
+import mekanism.common.lib.collection.SortedArrayList;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketUtils;
@@ -61,6 +68,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final int SLOTS_X_MIN = 8, SLOTS_X_MAX = 16, SLOTS_Y_MIN = 2, SLOTS_Y_MAX = 48;
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = SharedConstants.TICKS_PER_SECOND;
+    private static final int MAX_CACHED_SEARCHES = 4;
 
     public static int getSlotsYMax() {
         int maxY = Mth.ceil(Minecraft.getInstance().getWindow().getGuiScaledHeight() * 0.05 - 8) + 1;
@@ -71,16 +79,26 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection;
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    private Map<UUIDAwareHashedItem, ItemSlotData> itemSlots = new Object2ObjectOpenHashMap<>();
+    /**
+     * Item types the server has sent us, keyed by the id the server refers to them by in updates.
+     */
+    private Int2ObjectMap<UUIDAwareHashedItem> itemTypes = new Int2ObjectOpenHashMap<>();
+    private QIOSearchIndex searchIndex = new QIOSearchIndex();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
 
     @Nullable
-    private List<IScrollableSlot> itemList;
+    private SortedArrayList<IScrollableSlot> itemList;
     @Nullable
     private List<IScrollableSlot> searchList;
 
-    private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    /**
+     * Results of the most recently used searches, kept up to date as items change so that going back to one of them (such as when deleting the last character that was
+     * typed) doesn't require searching again. Only a few are kept, as each item that changes has to be checked against all of them.
+     */
+    private Object2ObjectLinkedOpenHashMap<String, CachedSearch> searchCache = new Object2ObjectLinkedOpenHashMap<>();
     private String searchQuery = "";
 
     private int doubleClickTransferTicks = 0;
@@ -132,7 +150,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
+        container.sortDirection = sortDirection;
         container.cachedInventory = cachedInventory;
+        container.itemSlots = itemSlots;
+        container.itemTypes = itemTypes;
+        container.searchIndex = searchIndex;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
@@ -339,60 +361,114 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return Optional.empty();
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
+    public void handleBatchUpdate(Int2ObjectMap<UUIDAwareHashedItem> itemTypes, Int2LongMap itemCounts, long countCapacity, int typeCapacity) {
+        this.itemTypes = itemTypes;
+        searchIndex.clear();
+        cachedInventory = new Object2LongOpenHashMap<>(itemCounts.size());
+        updateCounts(itemCounts, false);
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleUpdate(Int2ObjectMap<UUIDAwareHashedItem> itemTypes, Int2LongMap itemCounts, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        if (itemMap.isEmpty()) {
-            //No items need updating, we just changed the counts/capacities, in general this should never be the case, but in case it is
-            // just short circuit a lot of logic
+        this.itemTypes.putAll(itemTypes);
+        if (itemCounts.isEmpty()) {
+            //No items need updating, we just changed the capacities, short circuit a lot of logic
             return;
         }
-        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
+        if (itemList == null) {
+            updateCounts(itemCounts, false);
+            syncItemList();
+        } else {
+            updateCounts(itemCounts, true);
+        }
+    }
+
+    /**
+     * @param updateList {@code true} to move the changed entries to their new positions in the item list and any cached searches, {@code false} if the list is going to
+     *                   be rebuilt from scratch anyway.
+     */
+    private void updateCounts(Int2LongMap itemCounts, boolean updateList) {
+        for (Int2LongMap.Entry entry : itemCounts.int2LongEntrySet()) {
+            UUIDAwareHashedItem type = itemTypes.get(entry.getIntKey());
+            if (type == null) {
+                //Should never happen as the server sends us the type the first time it sends us a count for it
+                Mekanism.logger.warn("Received QIO item count for unknown type id: {}", entry.getIntKey());
+                continue;
+            }
             long value = entry.getLongValue();
             if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
+                cachedInventory.removeLong(type);
+                searchIndex.remove(entry.getIntKey());
             } else {
-                cachedInventory.put(entry.getKey(), value);
+                cachedInventory.put(type, value);
+                searchIndex.add(getLevel(), entry.getIntKey(), type);
+            }
+            if (updateList) {
+                updateSlot(type, value);
+            }
+        }
+    }
+
+    private void updateSlot(UUIDAwareHashedItem type, long count) {
+        ItemSlotData slot = count == 0 ? null : new ItemSlotData(type, type.getUUID(), count);
+        ItemSlotData previous = slot == null ? itemSlots.remove(type) : itemSlots.put(type, slot);
+        if (previous == null && slot == null) {
+            return;
+        }
+        if (previous != null) {
+            itemList.remove(previous);
+            totalItems -= previous.count();
+        }
+        if (slot != null) {
+            itemList.add(slot);
+            totalItems += count;
+        }
+        for (CachedSearch search : searchCache.values()) {
+            SortedArrayList<IScrollableSlot> results = search.results();
+            //Whether an item matches a search doesn't depend on its count, so only new items need to be checked against the query
+            boolean matches = previous == null ? search.matches(getLevel(), type) : results.remove(previous);
+            if (matches && slot != null) {
+                results.add(slot);
             }
         }
-        syncItemList();
     }
 
     public void handleKill() {
         itemList = null;
         searchList = null;
+        searchCache.clear();
         cachedInventory.clear();
+        itemSlots.clear();
+        itemTypes.clear();
+        searchIndex.clear();
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
         return new QIOCraftingTransferHelper(cachedInventory, hotBarSlots, mainInventorySlots, craftingWindow, player);
     }
 
+    /**
+     * Rebuilds the item list from scratch. Partial updates instead just move the entries that changed, see {@link #updateSlot(UUIDAwareHashedItem, long)}.
+     */
     private void syncItemList() {
         if (itemList == null) {
-            itemList = new ArrayList<>();
+            itemList = new SortedArrayList<>(sortType.getComparator(sortDirection), cachedInventory.size());
         }
         itemList.clear();
+        itemSlots.clear();
         searchCache.clear();
         totalItems = 0;
-        //Note: While when only updating some items it would be better in terms of memory churn to just update
-        // the entries in the itemList that changed instead of creating a new ItemSlotData for each one that is the same,
-        // this greatly increases the time complexity of doing so due to having to find the matching entry in the itemList
-        // so is not worth doing so
         for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : cachedInventory.object2LongEntrySet()) {
             UUIDAwareHashedItem key = entry.getKey();
             long value = entry.getLongValue();
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
+            itemSlots.put(key, new ItemSlotData(key, key.getUUID(), value));
             totalItems += value;
         }
-        sortItemList();
+        itemList.addAll(itemSlots.values());
         if (!searchQuery.isEmpty()) {
             updateSearch(getLevel(), searchQuery);
         }
@@ -400,7 +476,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     private void sortItemList() {
         if (itemList != null) {
-            sortType.sort(itemList, sortDirection);
+            Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+            itemList.setComparator(comparator);
+            for (CachedSearch search : searchCache.values()) {
+                search.results().setComparator(comparator);
+            }
         }
     }
 
@@ -506,16 +586,28 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return;
         }
         searchQuery = queryText;
-        searchList = searchCache.get(queryText);
-        if (searchList == null) {
-            searchList = new ArrayList<>();
+        CachedSearch search = searchCache.getAndMoveToLast(queryText);
+        if (search == null) {
             ISearchQuery query = SearchQueryParser.parse(queryText);
-            for (IScrollableSlot slot : itemList) {
-                if (query.test(level, slot.item().getInternalStack())) {
-                    searchList.add(slot);
+            SortedArrayList<IScrollableSlot> results = new SortedArrayList<>(sortType.getComparator(sortDirection));
+            IntSet matches = searchIndex.search(level, query);
+            if (!matches.isEmpty()) {
+                List<IScrollableSlot> matchingSlots = new ArrayList<>(matches.size());
+                for (IScrollableSlot slot : itemList) {
+                    if (matches.contains(searchIndex.getId(slot.item()))) {
+                        matchingSlots.add(slot);
+                    }
                 }
+                //Note: As the item list is already sorted this doesn't actually need to move anything
+                results.addAll(matchingSlots);
+            }
+            search = new CachedSearch(query, results);
+            searchCache.putAndMoveToLast(queryText, search);
+            while (searchCache.size() > MAX_CACHED_SEARCHES) {
+                searchCache.removeFirst();
             }
         }
+        searchList = search.results();
     }
 
     @Override
@@ -559,6 +651,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private record ItemSlotData(HashedItem item, UUID itemUUID, long count) implements IScrollableSlot {
     }
 
+    /**
+     * Results of a search, that get kept up to date as items are added, removed, or change count.
+     */
+    private record CachedSearch(ISearchQuery query, SortedArrayList<IScrollableSlot> results) {
+
+        private boolean matches(@Nullable Level level, HashedItem type) {
+            return !query.isInvalid() && query.test(level, type.getInternalStack());
+        }
+    }
+
     public enum SortDirection implements IToggleEnum<SortDirection> {
         ASCENDING(MekanismUtils.getResource(ResourceType.GUI, "arrow_up.png"), MekanismLang.LIST_SORT_ASCENDING_DESC),
         DESCENDING(MekanismUtils.getResource(ResourceType.GUI, "arrow_down.png"), MekanismLang.LIST_SORT_DESCENDING_DESC);
@@ -612,8 +714,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             this.descendingComparator = descendingComparator;
         }
 
-        public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
         }
 
         @Override
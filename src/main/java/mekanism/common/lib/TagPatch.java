@@ -0,0 +1,129 @@
+package mekanism.common.lib;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Set of changes that turns one compound tag into another. Entries that are compounds in both tags are diffed recursively, and any other entry that changed is replaced
+ * in full. When written, each entry is written directly as its name followed by the tag, rather than being wrapped in a compound tag.
+ *
+ * @param removed Names of the entries that were removed.
+ * @param changed Entries that were added or replaced.
+ * @param nested  Changes to entries that are compounds in both tags.
+ */
+@NothingNullByDefault
+public record TagPatch(List<String> removed, Map<String, Tag> changed, Map<String, TagPatch> nested) {
+
+    public static final StreamCodec<ByteBuf, TagPatch> STREAM_CODEC = StreamCodec.ofMember(TagPatch::write, TagPatch::read);
+
+    /**
+     * Creates a patch that sets all the entries of the given tag.
+     */
+    public static TagPatch full(CompoundTag tag) {
+        Map<String, Tag> changed = new Object2ObjectArrayMap<>(tag.size());
+        for (String key : tag.getAllKeys()) {
+            changed.put(key, tag.get(key));
+        }
+        return new TagPatch(List.of(), changed, Map.of());
+    }
+
+    /**
+     * Creates a patch that when applied to the previous tag, makes it equal to the updated tag.
+     *
+     * @implNote The patch references the entries of the updated tag rather than copying them.
+     */
+    public static TagPatch diff(CompoundTag previous, CompoundTag updated) {
+        List<String> removed = new ArrayList<>();
+        for (String key : previous.getAllKeys()) {
+            if (!updated.contains(key)) {
+                removed.add(key);
+            }
+        }
+        Map<String, Tag> changed = new Object2ObjectArrayMap<>();
+        Map<String, TagPatch> nested = new Object2ObjectArrayMap<>();
+        for (String key : updated.getAllKeys()) {
+            Tag value = updated.get(key);
+            Tag previousValue = previous.get(key);
+            if (previousValue instanceof CompoundTag previousCompound && value instanceof CompoundTag compound) {
+                if (!previousCompound.equals(compound)) {
+                    nested.put(key, diff(previousCompound, compound));
+                }
+            } else if (value != null && !value.equals(previousValue)) {
+                changed.put(key, value);
+            }
+        }
+        return new TagPatch(removed, changed, nested);
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && changed.isEmpty() && nested.isEmpty();
+    }
+
+    /**
+     * Applies this patch to the given tag, copying any entries that get added to it.
+     *
+     * @return The given tag.
+     */
+    public CompoundTag apply(CompoundTag tag) {
+        for (String key : removed) {
+            tag.remove(key);
+        }
+        for (Map.Entry<String, Tag> entry : changed.entrySet()) {
+            tag.put(entry.getKey(), entry.getValue().copy());
+        }
+        for (Map.Entry<String, TagPatch> entry : nested.entrySet()) {
+            String key = entry.getKey();
+            if (tag.get(key) instanceof CompoundTag compound) {
+                entry.getValue().apply(compound);
+            } else {
+                tag.put(key, entry.getValue().apply(new CompoundTag()));
+            }
+        }
+        return tag;
+    }
+
+    private void write(ByteBuf buffer) {
+        VarInt.write(buffer, removed.size());
+        for (String key : removed) {
+            ByteBufCodecs.STRING_UTF8.encode(buffer, key);
+        }
+        VarInt.write(buffer, changed.size());
+        for (Map.Entry<String, Tag> entry : changed.entrySet()) {
+            ByteBufCodecs.STRING_UTF8.encode(buffer, entry.getKey());
+            ByteBufCodecs.TRUSTED_TAG.encode(buffer, entry.getValue());
+        }
+        VarInt.write(buffer, nested.size());
+        for (Map.Entry<String, TagPatch> entry : nested.entrySet()) {
+            ByteBufCodecs.STRING_UTF8.encode(buffer, entry.getKey());
+            entry.getValue().write(buffer);
+        }
+    }
+
+    private static TagPatch read(ByteBuf buffer) {
+        int removedCount = VarInt.read(buffer);
+        List<String> removed = new ArrayList<>(removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            removed.add(ByteBufCodecs.STRING_UTF8.decode(buffer));
+        }
+        int changedCount = VarInt.read(buffer);
+        Map<String, Tag> changed = new Object2ObjectArrayMap<>(changedCount);
+        for (int i = 0; i < changedCount; i++) {
+            changed.put(ByteBufCodecs.STRING_UTF8.decode(buffer), ByteBufCodecs.TRUSTED_TAG.decode(buffer));
+        }
+        int nestedCount = VarInt.read(buffer);
+        Map<String, TagPatch> nested = new Object2ObjectArrayMap<>(nestedCount);
+        for (int i = 0; i < nestedCount; i++) {
+            nested.put(ByteBufCodecs.STRING_UTF8.decode(buffer), read(buffer));
+        }
+        return new TagPatch(removed, changed, nested);
+    }
+}
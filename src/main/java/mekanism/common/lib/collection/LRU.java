@@ -108,6 +108,16 @@ public class LRU<T> extends AbstractCollection<T> {
         return head.next.value;
     }
 
+    /**
+     * Like {@link java.util.Deque#peekLast()}
+     *
+     * @return the least recently used element of this LRU, or null if this LRU is empty
+     */
+    @Nullable
+    public T peekLast() {
+        return tail.prev.value;
+    }
+
     private static class LRUEntry<T> {
 
         private final T value;
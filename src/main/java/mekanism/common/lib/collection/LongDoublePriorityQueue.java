@@ -0,0 +1,105 @@
+package mekanism.common.lib.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of primitive long elements that are ordered by a primitive double priority. Elements are not deduplicated, so to "decrease" the priority of an element
+ * it should just be enqueued again, and the caller should skip stale entries when they are dequeued.
+ */
+public class LongDoublePriorityQueue {
+
+    private long[] elements;
+    private double[] priorities;
+    private int size;
+    private double lastPriority;
+
+    public LongDoublePriorityQueue() {
+        this(16);
+    }
+
+    public LongDoublePriorityQueue(int initialCapacity) {
+        initialCapacity = Math.max(initialCapacity, 1);
+        elements = new long[initialCapacity];
+        priorities = new double[initialCapacity];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void enqueue(long element, double priority) {
+        if (size == elements.length) {
+            int newSize = size * 2;
+            elements = Arrays.copyOf(elements, newSize);
+            priorities = Arrays.copyOf(priorities, newSize);
+        }
+        //Sift up
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            elements[index] = elements[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        elements[index] = element;
+        priorities[index] = priority;
+    }
+
+    /**
+     * Removes the element with the lowest priority from the queue.
+     *
+     * @return the element with the lowest priority.
+     *
+     * @see #lastPriority() to get the priority the element was enqueued with.
+     */
+    public long dequeue() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long first = elements[0];
+        lastPriority = priorities[0];
+        size--;
+        if (size > 0) {
+            long element = elements[size];
+            double priority = priorities[size];
+            //Sift down
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && priorities[right] < priorities[child]) {
+                    child = right;
+                }
+                if (priority <= priorities[child]) {
+                    break;
+                }
+                elements[index] = elements[child];
+                priorities[index] = priorities[child];
+                index = child;
+            }
+            elements[index] = element;
+            priorities[index] = priority;
+        }
+        return first;
+    }
+
+    /**
+     * {@return the priority of the element that was most recently removed by {@link #dequeue()}}
+     */
+    public double lastPriority() {
+        return lastPriority;
+    }
+}
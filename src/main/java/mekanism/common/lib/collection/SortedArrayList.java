@@ -0,0 +1,149 @@
+package mekanism.common.lib.collection;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Array backed list that keeps its elements sorted by a comparator, so that individual elements can be added and removed at their sorted position without having to
+ * re-sort the entire list. Elements that the comparator considers equal are kept in the order they were added in.
+ *
+ * @implNote Elements must not be mutated in a way that changes how they compare while they are in the list, instead they should be removed and then added again.
+ */
+public class SortedArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<E> elements;
+    private Comparator<? super E> comparator;
+
+    public SortedArrayList(Comparator<? super E> comparator) {
+        this(comparator, 10);
+    }
+
+    public SortedArrayList(Comparator<? super E> comparator, int initialCapacity) {
+        this.comparator = comparator;
+        this.elements = new ArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Changes the comparator used by this list, and re-sorts the list based on it.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        elements.sort(comparator);
+        modCount++;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        modCount++;
+    }
+
+    /**
+     * Adds the given element at its sorted position, after any elements that are equal to it.
+     */
+    @Override
+    public boolean add(E element) {
+        elements.add(upperBound(element), element);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds all the given elements, and then sorts the list once rather than finding the position of each element.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        if (elements.addAll(toAdd)) {
+            elements.sort(comparator);
+            modCount++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public E remove(int index) {
+        modCount++;
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object element) {
+        E e = (E) element;
+        //Find the first element that is equal to the given one based on the comparator, and then check all elements the comparator considers equal to it
+        for (int index = lowerBound(e), size = elements.size(); index < size; index++) {
+            E other = elements.get(index);
+            if (Objects.equals(other, e)) {
+                return index;
+            } else if (comparator.compare(other, e) != 0) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * {@return the index of the first element that is not less than the given element}
+     */
+    private int lowerBound(E element) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * {@return the index of the first element that is greater than the given element}
+     */
+    private int upperBound(E element) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,6 +1,11 @@
 package mekanism.common.lib.distribution;
 
-public class IntegerSplitInfo extends SplitInfo<Integer> {
+/**
+ * Split info that performs all its math using int precision.
+ *
+ * @implNote Amounts passed to {@link #send(long)} are expected to fit in an int as they are only ever derived from the amount we are splitting.
+ */
+public class IntegerSplitInfo extends SplitInfo {
 
     private int amountToSplit;
     private int amountPerTarget;
@@ -9,13 +14,33 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     public IntegerSplitInfo(int amountToSplit, int totalTargets) {
         super(totalTargets);
+        init(amountToSplit);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount.
+     *
+     * @param amountToSplit The amount to split between all the targets
+     * @param totalTargets  Number of targets to split the contents among.
+     *
+     * @return this split info
+     */
+    public IntegerSplitInfo reset(int amountToSplit, int totalTargets) {
+        reset(totalTargets);
+        init(amountToSplit);
+        return this;
+    }
+
+    private void init(int amountToSplit) {
         this.amountToSplit = amountToSplit;
+        sentSoFar = 0;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
         remainder = toSplitAmong == 0 ? 0 : amountToSplit % toSplitAmong;
     }
 
     @Override
-    public void send(Integer amountNeeded) {
+    public void send(long amount) {
+        int amountNeeded = (int) amount;
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -42,14 +67,14 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
     }
 
     @Override
-    public Integer getShareAmount() {
+    public long getShareAmount() {
         //TODO: Should we make this return a + 1 if there is a remainder, so that we can factor out those cases that can accept exactly amountPerTarget + 1
         // while doing our initial loop rather than handling it via getRemainderAmount?
         return amountPerTarget;
     }
 
     @Override
-    public Integer getRemainderAmount() {
+    public long getRemainderAmount() {
         if (toSplitAmong != 0 && remainder > 0) {
             //If we have a remainder, be willing to provide a single unit as the remainder
             // so that we split the remainder more evenly across the targets.
@@ -59,17 +84,12 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
     }
 
     @Override
-    public Integer getUnsent() {
+    public long getUnsent() {
         return amountToSplit;
     }
 
     @Override
-    public boolean isZero(Integer value) {
-        return value == 0;
-    }
-
-    @Override
-    public Integer getTotalSent() {
+    public long getTotalSent() {
         return sentSoFar;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package mekanism.common.lib.distribution;
 
-public class LongSplitInfo extends SplitInfo<Long> {
+public class LongSplitInfo extends SplitInfo {
 
     private long amountToSplit;
     private long amountPerTarget;
@@ -9,13 +9,32 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     public LongSplitInfo(long amountToSplit, int totalTargets) {
         super(totalTargets);
+        init(amountToSplit);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount.
+     *
+     * @param amountToSplit The amount to split between all the targets
+     * @param totalTargets  Number of targets to split the contents among.
+     *
+     * @return this split info
+     */
+    public LongSplitInfo reset(long amountToSplit, int totalTargets) {
+        reset(totalTargets);
+        init(amountToSplit);
+        return this;
+    }
+
+    private void init(long amountToSplit) {
         this.amountToSplit = amountToSplit;
+        sentSoFar = 0;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
         remainder = toSplitAmong == 0 ? 0 : amountToSplit % toSplitAmong;
     }
 
     @Override
-    public void send(Long amountNeeded) {
+    public void send(long amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -42,12 +61,12 @@ public class LongSplitInfo extends SplitInfo<Long> {
     }
 
     @Override
-    public Long getShareAmount() {
+    public long getShareAmount() {
         return amountPerTarget;
     }
 
     @Override
-    public Long getRemainderAmount() {
+    public long getRemainderAmount() {
         if (toSplitAmong != 0 && remainder > 0) {
             //If we have a remainder, be willing to provide a single unit as the remainder
             // so that we split the remainder more evenly across the targets.
@@ -57,17 +76,12 @@ public class LongSplitInfo extends SplitInfo<Long> {
     }
 
     @Override
-    public Long getUnsent() {
+    public long getUnsent() {
         return remainder;
     }
 
     @Override
-    public boolean isZero(Long value) {
-        return value == 0;
-    }
-
-    @Override
-    public Long getTotalSent() {
+    public long getTotalSent() {
         return sentSoFar;
     }
-}
\ No newline at end of file
+}
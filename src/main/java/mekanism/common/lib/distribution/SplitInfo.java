@@ -1,6 +1,10 @@
 package mekanism.common.lib.distribution;
 
-public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
+/**
+ * Keeps track of how an amount is being split among targets. Amounts are exposed as primitive longs so that distribution can happen without boxing; implementations are
+ * free to store the amounts in whatever primitive precision they need.
+ */
+public abstract class SplitInfo {
 
     /**
      * Number of targets to split the contents among.
@@ -22,6 +26,17 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
         this.toSplitAmong = totalTargets;
     }
 
+    /**
+     * Resets the shared state of this split info so that it can be reused for another distribution.
+     *
+     * @param totalTargets Number of targets to split the contents among.
+     */
+    protected void reset(int totalTargets) {
+        this.toSplitAmong = totalTargets;
+        this.amountPerChanged = false;
+        this.decrementTargets = true;
+    }
+
     /**
      * Marks the given amount as being accounted for and "sent". Decrements {@link #getUnsent() how much we have left to send} and increments
      * {@link #getTotalSent() how much we have sent}. If {@link #decrementTargets} is true, this also will reduce the number of targets to split among, and recalculate
@@ -29,12 +44,12 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
      *
      * @param amountNeeded Amount needed by the target and that we are accounting as having been sent to the target.
      */
-    public abstract void send(TYPE amountNeeded);
+    public abstract void send(long amountNeeded);
 
     /**
      * {@return the "share" each target should get when distributing in an even split}
      */
-    public abstract TYPE getShareAmount();
+    public abstract long getShareAmount();
 
     /**
      * Gets the "share" including a potential remainder that targets should get when handling remainders. This is used for actually sending providing the split share to
@@ -43,22 +58,15 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
      *
      * @return the "share" plus any potential remainder.
      */
-    public abstract TYPE getRemainderAmount();
+    public abstract long getRemainderAmount();
 
     /**
      * {@return the amount of contents that has not been sent anywhere yet}
      */
-    public abstract TYPE getUnsent();
-
-    /**
-     * {@return true if the value is equal to zero}
-     *
-     * @param value Value to check
-     */
-    public abstract boolean isZero(TYPE value);
+    public abstract long getUnsent();
 
     /**
      * {@return the total amount of contents that have been sent}
      */
-    public abstract TYPE getTotalSent();
-}
\ No newline at end of file
+    public abstract long getTotalSent();
+}
@@ -1,56 +1,138 @@
 package mekanism.common.lib.distribution;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Keeps track of a target for emitting from various networks.
  *
  * @param <HANDLER> The Handler this target keeps track of.
- * @param <TYPE>    The type that is being transferred.
  * @param <EXTRA>   Any extra information this target may need to keep track of.
+ *
+ * @implNote Amounts are tracked as primitive longs, and the handlers that want more than we can provide are kept in reusable parallel arrays. This allows a single
+ * target to be {@link #reset() reset} and reused for each distribution without allocating.
  */
-public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA> {
+public abstract class Target<HANDLER, EXTRA> {
+
+    private static final Object[] EMPTY_HANDLERS = new Object[0];
+    private static final long[] EMPTY_AMOUNTS = new long[0];
 
     /**
-     * Collection of handlers
+     * List of handlers
      */
-    protected final Collection<HANDLER> handlers;
+    protected final List<HANDLER> handlers;
     /**
-     * Collection of handler type pairs that want more than we can/are willing to provide. Value is the amount they want.
+     * Handlers that want more than we can/are willing to provide, with {@link #neededAmounts} holding the amount they want at the same index.
      */
-    protected final Collection<HandlerType<HANDLER, TYPE>> needed;
+    private Object[] neededHandlers = EMPTY_HANDLERS;
+    private long[] neededAmounts = EMPTY_AMOUNTS;
+    private int neededCount;
 
-    private int handlerCount = 0;
+    private IntegerSplitInfo integerSplitInfo;
+    private LongSplitInfo longSplitInfo;
 
     protected EXTRA extra;
 
     protected Target() {
-        handlers = new LinkedList<>();
-        needed = new LinkedList<>();
+        handlers = new ArrayList<>();
     }
 
     protected Target(Collection<HANDLER> allHandlers) {
-        this.handlers = Collections.unmodifiableCollection(allHandlers);
-        this.needed = new ArrayList<>(allHandlers.size() / 2);
-        this.handlerCount = allHandlers.size();
+        this.handlers = new ArrayList<>(allHandlers);
     }
 
     protected Target(int expectedSize) {
         this.handlers = new ArrayList<>(expectedSize);
-        this.needed = new ArrayList<>(expectedSize / 2);
     }
 
     public void addHandler(HANDLER handler) {
         handlers.add(handler);
-        handlerCount++;
     }
 
     public int getHandlerCount() {
-        return handlerCount;
+        return handlers.size();
+    }
+
+    /**
+     * Removes all handlers and any pending state from this target so that it can be reused for another distribution. The backing buffers are kept so that subsequent
+     * distributions of a similar size do not need to allocate.
+     */
+    public void reset() {
+        handlers.clear();
+        clearNeeded();
+    }
+
+    private void clearNeeded() {
+        if (neededCount > 0) {
+            //Release the references to any handlers we were still holding onto
+            Arrays.fill(neededHandlers, 0, neededCount, null);
+            neededCount = 0;
+        }
+    }
+
+    /**
+     * Gets a split info for splitting the given amount among this target's handlers. The returned split info is reused between calls.
+     *
+     * @param amountToSplit The amount to split between all the handlers.
+     */
+    public IntegerSplitInfo integerSplitInfo(int amountToSplit) {
+        if (integerSplitInfo == null) {
+            integerSplitInfo = new IntegerSplitInfo(amountToSplit, getHandlerCount());
+            return integerSplitInfo;
+        }
+        return integerSplitInfo.reset(amountToSplit, getHandlerCount());
+    }
+
+    /**
+     * Gets a split info for splitting the given amount among this target's handlers. The returned split info is reused between calls.
+     *
+     * @param amountToSplit The amount to split between all the handlers.
+     */
+    public LongSplitInfo longSplitInfo(long amountToSplit) {
+        if (longSplitInfo == null) {
+            longSplitInfo = new LongSplitInfo(amountToSplit, getHandlerCount());
+            return longSplitInfo;
+        }
+        return longSplitInfo.reset(amountToSplit, getHandlerCount());
+    }
+
+    private void addNeeded(HANDLER handler, long amount) {
+        if (neededCount == neededHandlers.length) {
+            //Grow our buffers, the first time we need to grow, size it so that it can fit all our handlers as that is the most we will ever need
+            int newSize = Math.max(neededCount == 0 ? handlers.size() : neededCount * 2, 4);
+            neededHandlers = Arrays.copyOf(neededHandlers, newSize);
+            neededAmounts = Arrays.copyOf(neededAmounts, newSize);
+        }
+        neededHandlers[neededCount] = handler;
+        neededAmounts[neededCount] = amount;
+        neededCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HANDLER getNeededHandler(int index) {
+        return (HANDLER) neededHandlers[index];
+    }
+
+    /**
+     * Removes the needed entries that were not kept while iterating. Entries in the range [{@code keptCount}, {@code readIndex}) are discarded, and any entries from
+     * {@code readIndex} onward are shifted down so that they directly follow the kept entries.
+     *
+     * @param keptCount Number of entries at the start of the arrays that were kept.
+     * @param readIndex Index of the first entry that has not been looked at yet.
+     */
+    private void compactNeeded(int keptCount, int readIndex) {
+        if (keptCount != readIndex) {
+            int unread = neededCount - readIndex;
+            if (unread > 0) {
+                System.arraycopy(neededHandlers, readIndex, neededHandlers, keptCount, unread);
+                System.arraycopy(neededAmounts, readIndex, neededAmounts, keptCount, unread);
+            }
+            int newCount = keptCount + unread;
+            Arrays.fill(neededHandlers, newCount, neededCount, null);
+            neededCount = newCount;
+        }
     }
 
     /**
@@ -60,43 +142,47 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      *
      * @param splitInfo Keeps track of the current amount sent and the default each one can get.
      */
-    public void sendRemainingSplit(SplitInfo<TYPE> splitInfo) {
+    public void sendRemainingSplit(SplitInfo splitInfo) {
         //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
-        if (!needed.isEmpty() && !splitInfo.isZero(splitInfo.getRemainderAmount())) {
-            Iterator<HandlerType<HANDLER, TYPE>> iterator = needed.iterator();
-            while (iterator.hasNext()) {
-                TYPE remainderAmount = splitInfo.getRemainderAmount();
-                if (splitInfo.isZero(remainderAmount)) {
+        if (neededCount > 0 && splitInfo.getRemainderAmount() != 0) {
+            int kept = 0;
+            for (int i = 0; i < neededCount; i++) {
+                long remainderAmount = splitInfo.getRemainderAmount();
+                if (remainderAmount == 0) {
                     //We finished inserting everything we wanted to, we can just exit
+                    compactNeeded(kept, i);
                     return;
                 }
-                HandlerType<HANDLER, TYPE> needInfo = iterator.next();
+                HANDLER handler = getNeededHandler(i);
                 //Accept the remaining amount
-                TYPE amountNeeded = needInfo.amount();
-                if (amountNeeded.compareTo(remainderAmount) <= 0) {
-                    acceptAmount(needInfo.handler(), splitInfo, amountNeeded);
+                long amountNeeded = neededAmounts[i];
+                if (amountNeeded <= remainderAmount) {
                     //If the amount we needed was the less than or the same as our remaining amount
-                    // we can remove the value as it has now been sent
-                    iterator.remove();
+                    // we can remove the value as it has now been sent (by not keeping it)
+                    acceptAmount(handler, splitInfo, amountNeeded);
                 } else {
                     splitInfo.decrementTargets = false;
-                    acceptAmount(needInfo.handler(), splitInfo, remainderAmount);
+                    acceptAmount(handler, splitInfo, remainderAmount);
                     splitInfo.decrementTargets = true;
+                    neededHandlers[kept] = handler;
+                    neededAmounts[kept] = amountNeeded;
+                    kept++;
                 }
             }
+            compactNeeded(kept, neededCount);
             //TODO: If we remove buffers maybe we should evaluate not caring if we don't actually send the full excess remainder?
             // Given ideally we wouldn't attempting to insert the excess remainder to handlers as a second call to the handler on the same tick
-            if (!splitInfo.isZero(splitInfo.getUnsent())) {
+            if (splitInfo.getUnsent() != 0) {
                 //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
                 // This might happen if one of the destinations was only able to accept part of the remaining amount, though in general that case will be
                 // covered by shifting the needed values
-                for (HandlerType<HANDLER, TYPE> recipient : needed) {
-                    TYPE remaining = splitInfo.getUnsent();
-                    if (splitInfo.isZero(remaining)) {
+                for (int i = 0; i < neededCount; i++) {
+                    long remaining = splitInfo.getUnsent();
+                    if (remaining == 0) {
                         //We finished, exit
                         return;
                     }
-                    acceptAmount(recipient.handler(), splitInfo, remaining);
+                    acceptAmount(getNeededHandler(i), splitInfo, remaining);
                 }
             }
         }
@@ -110,9 +196,9 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      *                  amount.
      * @param amount    Amount to give.
      *
-     * @implNote Must call {@link SplitInfo#send(Number)} with the amount actually accepted.
+     * @implNote Must call {@link SplitInfo#send(long)} with the amount actually accepted.
      */
-    protected abstract void acceptAmount(HANDLER handler, SplitInfo<TYPE> splitInfo, TYPE amount);
+    protected abstract void acceptAmount(HANDLER handler, SplitInfo splitInfo, long amount);
 
     /**
      * Simulate inserting into the handler.
@@ -122,36 +208,43 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      *
      * @return The amount it was actually willing to accept.
      */
-    protected abstract TYPE simulate(HANDLER handler, EXTRA extra);
+    protected abstract long simulate(HANDLER handler, EXTRA extra);
 
     /**
      * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
-     * requested amount to the handler via {@link #acceptAmount(HANDLER, SplitInfo, Number)}
+     * requested amount to the handler via {@link #acceptAmount(HANDLER, SplitInfo, long)}
      *
      * @param toSend    The total amount getting sent.
      * @param splitInfo Information about current overall split.
+     *
+     * @implNote Any handlers that were still left as needing more from a previous distribution are discarded.
      */
-    public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
-        if (splitInfo.isZero(splitInfo.getShareAmount())) {
+    public void sendPossible(EXTRA toSend, SplitInfo splitInfo) {
+        //Discard anything that may still be pending from a previous distribution
+        clearNeeded();
+        //Note: We use indexed access instead of an iterator to avoid allocating an iterator for every distribution
+        if (splitInfo.getShareAmount() == 0) {
             //We are all remainder, just calculate how much each can accept
-            for (HANDLER entry : handlers) {
-                TYPE amountNeeded = simulate(entry, toSend);
-                if (!splitInfo.isZero(amountNeeded)) {
-                    needed.add(new HandlerType<>(entry, amountNeeded));
+            for (int i = 0, size = handlers.size(); i < size; i++) {
+                HANDLER entry = handlers.get(i);
+                long amountNeeded = simulate(entry, toSend);
+                if (amountNeeded != 0) {
+                    addNeeded(entry, amountNeeded);
                 }
             }
         } else {
-            for (HANDLER entry : handlers) {
-                TYPE amountNeeded = simulate(entry, toSend);
-                if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
+            for (int i = 0, size = handlers.size(); i < size; i++) {
+                HANDLER entry = handlers.get(i);
+                long amountNeeded = simulate(entry, toSend);
+                if (amountNeeded <= splitInfo.getShareAmount()) {
                     //Add the amount, in case something changed from simulation only mark actual sent amount
                     // in split info
-                    if (!splitInfo.isZero(amountNeeded)) {
+                    if (amountNeeded != 0) {
                         //Note: We can skip actually running it if it doesn't need anything
                         acceptAmount(entry, splitInfo, amountNeeded);
                     }
                 } else {
-                    needed.add(new HandlerType<>(entry, amountNeeded));
+                    addNeeded(entry, amountNeeded);
                 }
             }
         }
@@ -162,28 +255,29 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      *
      * @param splitInfo The new split to (re)check.
      */
-    public void shiftNeeded(SplitInfo<TYPE> splitInfo) {
-        if (splitInfo.isZero(splitInfo.getShareAmount())) {
+    public void shiftNeeded(SplitInfo splitInfo) {
+        if (splitInfo.getShareAmount() == 0) {
             return;
         }
-        Iterator<HandlerType<HANDLER, TYPE>> iterator = needed.iterator();
-        //Use an iterator rather than a copy of the keySet of the needed subMap
-        // This allows for us to remove it once we find it without  having to
-        // start looping again or make a large number of copies of the set
-        while (iterator.hasNext()) {
-            HandlerType<HANDLER, TYPE> needInfo = iterator.next();
-            TYPE amountNeeded = needInfo.amount();
-            if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
-                acceptAmount(needInfo.handler(), splitInfo, amountNeeded);
-                //Remove it as it has now been sent
-                iterator.remove();
+        //Compact the needed arrays in place rather than removing elements one at a time
+        // This allows for us to remove it once we find it without having to
+        // start looping again or make a large number of copies of the arrays
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            HANDLER handler = getNeededHandler(i);
+            long amountNeeded = neededAmounts[i];
+            if (amountNeeded <= splitInfo.getShareAmount()) {
+                acceptAmount(handler, splitInfo, amountNeeded);
+                //Don't keep it as it has now been sent
                 //Continue checking things in case we happen to be
                 // getting things in a bad order so that we don't recheck
                 // the same values many times
+            } else {
+                neededHandlers[kept] = handler;
+                neededAmounts[kept] = amountNeeded;
+                kept++;
             }
         }
+        compactNeeded(kept, neededCount);
     }
-
-    protected record HandlerType<HANDLER, TYPE extends Number & Comparable<TYPE>>(HANDLER handler, TYPE amount) {
-    }
-}
\ No newline at end of file
+}
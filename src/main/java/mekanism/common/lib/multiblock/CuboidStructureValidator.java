@@ -2,10 +2,12 @@ package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.math.voxel.VoxelCuboid.WallRelative;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -144,6 +146,34 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    @Override
+    public boolean revalidate(FormationProtocol<T> ctx, T multiblock, Set<BlockPos> changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        loadCuboid(multiblock.getBounds());
+        for (BlockPos pos : changed) {
+            if (cuboid.getRelativeLocation(pos) == CuboidRelative.OUTSIDE) {
+                continue;
+            } else if (!validateNode(ctx, chunkMap, pos).isFormed()) {
+                return false;
+            }
+            //Note: We check all three as an ignored position may have become part of the casing, or an air position may have become an internal part,
+            // both of which require the multiblock to be rebuilt so that they are taken into account
+            if (ctx.locations.contains(pos) != multiblock.locations.contains(pos) || ctx.internalLocations.contains(pos) != multiblock.internalLocations.contains(pos) ||
+                hasValve(ctx.valves, pos) != hasValve(multiblock.valves, pos)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasValve(Set<ValveData> valves, BlockPos pos) {
+        for (ValveData valve : valves) {
+            if (valve.location.equals(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
         if (relative.isOnEdge()) {
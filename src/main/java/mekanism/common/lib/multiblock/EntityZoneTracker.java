@@ -0,0 +1,177 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of which entities may be inside the damage zones of multiblocks, so that multiblocks don't have to query the level for entities when nothing is nearby.
+ * Each zone keeps a set of the entities that are in any of the entity sections that overlap the zone, which is kept up to date as entities move between sections, join
+ * the level, or leave it.
+ */
+@NothingNullByDefault
+public class EntityZoneTracker {
+
+    private EntityZoneTracker() {
+    }
+
+    /**
+     * Entities are stored in sections based on their position, but their bounding box may extend outside that section. This matches how far vanilla looks outside the
+     * given bounds when getting entities in an area.
+     */
+    private static final double SECTION_MARGIN = 2;
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<Zone>>> zonesBySection = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Starts tracking the entities in the given area.
+     *
+     * @apiNote Only call on the server, and make sure to call {@link Zone#remove()} when the zone is no longer needed.
+     */
+    public static Zone track(Level level, AABB bounds) {
+        Zone zone = new Zone(level.dimension(), bounds);
+        Long2ObjectMap<List<Zone>> sections = zonesBySection.computeIfAbsent(zone.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        for (long section : zone.sections) {
+            sections.computeIfAbsent(section, s -> new ArrayList<>()).add(zone);
+        }
+        //Collect any entities that are already in the sections the zone overlaps
+        AABB sectionBounds = new AABB(SectionPos.sectionToBlockCoord(zone.minSection.x()), SectionPos.sectionToBlockCoord(zone.minSection.y()),
+              SectionPos.sectionToBlockCoord(zone.minSection.z()), SectionPos.sectionToBlockCoord(zone.maxSection.x() + 1),
+              SectionPos.sectionToBlockCoord(zone.maxSection.y() + 1), SectionPos.sectionToBlockCoord(zone.maxSection.z() + 1));
+        zone.entities.addAll(level.getEntities((Entity) null, sectionBounds, zone::isInSections));
+        return zone;
+    }
+
+    public static void onEnterSection(Entity entity, long oldSection, long newSection) {
+        Long2ObjectMap<List<Zone>> sections = zonesBySection.get(entity.level().dimension());
+        if (sections != null) {
+            List<Zone> zones = sections.get(oldSection);
+            if (zones != null) {
+                for (Zone zone : zones) {
+                    zone.entities.remove(entity);
+                }
+            }
+            zones = sections.get(newSection);
+            if (zones != null) {
+                for (Zone zone : zones) {
+                    zone.entities.add(entity);
+                }
+            }
+        }
+    }
+
+    public static void onJoinLevel(Entity entity) {
+        List<Zone> zones = getZones(entity);
+        if (zones != null) {
+            for (Zone zone : zones) {
+                zone.entities.add(entity);
+            }
+        }
+    }
+
+    public static void onLeaveLevel(Entity entity) {
+        List<Zone> zones = getZones(entity);
+        if (zones != null) {
+            for (Zone zone : zones) {
+                zone.entities.remove(entity);
+            }
+        }
+    }
+
+    public static void reset() {
+        zonesBySection.clear();
+    }
+
+    @Nullable
+    private static List<Zone> getZones(Entity entity) {
+        Long2ObjectMap<List<Zone>> sections = zonesBySection.get(entity.level().dimension());
+        return sections == null ? null : sections.get(SectionPos.asLong(entity.blockPosition()));
+    }
+
+    public static class Zone {
+
+        private final ResourceKey<Level> dimension;
+        private final AABB bounds;
+        private final SectionPos minSection;
+        private final SectionPos maxSection;
+        private final long[] sections;
+        private final Set<Entity> entities = new ReferenceOpenHashSet<>();
+        private boolean removed;
+
+        private Zone(ResourceKey<Level> dimension, AABB bounds) {
+            this.dimension = dimension;
+            this.bounds = bounds;
+            minSection = SectionPos.of(BlockPos.containing(bounds.minX - SECTION_MARGIN, bounds.minY - SECTION_MARGIN, bounds.minZ - SECTION_MARGIN));
+            maxSection = SectionPos.of(BlockPos.containing(bounds.maxX + SECTION_MARGIN, bounds.maxY + SECTION_MARGIN, bounds.maxZ + SECTION_MARGIN));
+            sections = SectionPos.betweenClosedStream(minSection.x(), minSection.y(), minSection.z(), maxSection.x(), maxSection.y(), maxSection.z())
+                  .mapToLong(SectionPos::asLong)
+                  .toArray();
+        }
+
+        private boolean isInSections(Entity entity) {
+            SectionPos section = SectionPos.of(entity.blockPosition());
+            return section.x() >= minSection.x() && section.y() >= minSection.y() && section.z() >= minSection.z() &&
+                   section.x() <= maxSection.x() && section.y() <= maxSection.y() && section.z() <= maxSection.z();
+        }
+
+        /**
+         * @return {@code true} if there are no entities near the zone, meaning that there can't be any entities inside it.
+         */
+        public boolean isEmpty() {
+            return entities.isEmpty();
+        }
+
+        /**
+         * Gets the entities of the given type that are inside the zone. This matches {@link Level#getEntitiesOfClass(Class, AABB)} except that parts of multipart
+         * entities are not included.
+         */
+        public <ENTITY extends Entity> List<ENTITY> getEntities(Class<ENTITY> type) {
+            if (entities.isEmpty()) {
+                return List.of();
+            }
+            List<ENTITY> inside = new ArrayList<>();
+            for (Entity entity : entities) {
+                if (type.isInstance(entity) && !entity.isRemoved() && EntitySelector.NO_SPECTATORS.test(entity) && entity.getBoundingBox().intersects(bounds)) {
+                    inside.add(type.cast(entity));
+                }
+            }
+            return inside;
+        }
+
+        /**
+         * Stops tracking entities for this zone.
+         */
+        public void remove() {
+            if (removed) {
+                return;
+            }
+            removed = true;
+            entities.clear();
+            Long2ObjectMap<List<Zone>> dimensionSections = zonesBySection.get(dimension);
+            if (dimensionSections != null) {
+                for (long section : sections) {
+                    List<Zone> zones = dimensionSections.get(section);
+                    if (zones != null && zones.remove(this) && zones.isEmpty()) {
+                        dimensionSections.remove(section);
+                    }
+                }
+                if (dimensionSections.isEmpty()) {
+                    zonesBySection.remove(dimension);
+                }
+            }
+        }
+    }
+}
@@ -153,6 +153,24 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.result();
     }
 
+    /**
+     * Checks if the given positions of the formed multiblock would still be validated the same way they were when the multiblock formed, without revalidating the rest
+     * of the multiblock.
+     *
+     * @param changed Positions that changed.
+     *
+     * @return {@code true} if none of the changes affect the multiblock, {@code false} if it needs to be fully revalidated.
+     */
+    public boolean revalidate(Set<BlockPos> changed) {
+        T multiblock = pointer.getMultiblock();
+        if (!multiblock.isFormed() || structure.getMultiblockData() != multiblock) {
+            return false;
+        }
+        IStructureValidator<T> validator = manager.createValidator();
+        validator.init(pointer.getLevel(), manager, structure);
+        return validator.revalidate(this, multiblock, changed, new Long2ObjectOpenHashMap<>());
+    }
+
     protected static Component text(BlockPos pos) {
         return MekanismLang.GENERIC_PARENTHESIS.translate(MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()));
     }
@@ -1,8 +1,10 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.Set;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
@@ -16,5 +18,18 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
+    /**
+     * Validates only the given positions of an already formed multiblock, and checks that they are still part of it the same way they were when it formed.
+     *
+     * @param ctx        Protocol to collect the validated positions in.
+     * @param multiblock Formed multiblock.
+     * @param changed    Positions that changed.
+     *
+     * @return {@code true} if none of the changes affect the multiblock, {@code false} if it needs to be fully revalidated.
+     */
+    default boolean revalidate(FormationProtocol<T> ctx, T multiblock, Set<BlockPos> changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        return false;
+    }
+
     IShape getShape();
 }
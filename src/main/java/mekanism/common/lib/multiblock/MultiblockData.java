@@ -46,8 +46,10 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.AABB;
 import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -97,6 +99,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     private final BiPredicate<Object, @NotNull AutomationType> notExternalFormedBiPred = (t, automationType) -> automationType != AutomationType.EXTERNAL && isFormed();
 
     private boolean dirty;
+    /**
+     * Entities inside the multiblock, only tracked for multiblocks that affect the entities inside them.
+     */
+    @Nullable
+    private EntityZoneTracker.Zone innerZone;
 
     public MultiblockData(BlockEntity tile) {
         remoteSupplier = () -> tile.getLevel().isClientSide();
@@ -236,6 +243,24 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     protected void updateEjectors(Level world) {
     }
 
+    /**
+     * Starts keeping track of the entities inside the multiblock, so that they can be gotten via {@link #getInnerEntities(Class)}. Should be called from
+     * {@link #onCreated(Level)} by multiblocks that affect the entities inside them.
+     */
+    protected void trackInnerEntities(Level world) {
+        if (innerZone != null) {
+            innerZone.remove();
+        }
+        innerZone = EntityZoneTracker.track(world, AABB.encapsulatingFullBlocks(getMinPos().offset(1, 1, 1), getMaxPos().offset(-1, -1, -1)));
+    }
+
+    /**
+     * Gets the entities of the given type inside the multiblock, without needing to query the level if no entities are near it.
+     */
+    protected <ENTITY extends Entity> List<ENTITY> getInnerEntities(Class<ENTITY> type) {
+        return innerZone == null ? Collections.emptyList() : innerZone.getEntities(type);
+    }
+
     protected boolean isRemote() {
         return remoteSupplier.getAsBoolean();
     }
@@ -261,6 +286,10 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
                 structuralMultiblock.multiblockUnformed(oldStructure);
             }
         }
+        if (innerZone != null) {
+            innerZone.remove();
+            innerZone = null;
+        }
         inventoryID = null;
         formed = false;
         recheckStructure = false;
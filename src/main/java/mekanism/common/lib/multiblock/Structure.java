@@ -6,6 +6,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -28,6 +29,10 @@ public class Structure {
     public static final Structure INVALID = new Structure();
 
     private final Map<BlockPos, IMultiblockBase> nodes = new Object2ObjectOpenHashMap<>();
+    /**
+     * Positions inside the formed multiblock that changed since the last update, and only need to be checked against the formed multiblock.
+     */
+    private final Set<BlockPos> pendingChanges = new ObjectOpenHashSet<>();
 
     private final Map<Axis, Int2ObjectSortedMap<VoxelPlane>> minorPlaneMap = new EnumMap<>(Axis.class);
     private final Map<Axis, Int2ObjectSortedMap<VoxelPlane>> planeMap = new EnumMap<>(Axis.class);
@@ -97,6 +102,7 @@ public class Structure {
     public void markForUpdate(Level world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        pendingChanges.clear();
         if (invalidate) {
             invalidate(world);
         } else {
@@ -104,6 +110,21 @@ public class Structure {
         }
     }
 
+    /**
+     * Marks a position inside the bounds of the multiblock as having changed. If the multiblock is formed, on the next update only the changed positions are checked
+     * against the formed multiblock, and the multiblock is only fully revalidated if any of them are no longer part of it the same way they were when it formed.
+     */
+    public void markChanged(Level world, BlockPos pos) {
+        if (multiblockData == null) {
+            //Nothing to compare the change against, just revalidate the entire structure
+            markForUpdate(world, true);
+        } else {
+            updateTimestamp = world.getGameTime();
+            didUpdate = false;
+            pendingChanges.add(pos.immutable());
+        }
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> void doImmediateUpdate(TILE tile, boolean tryValidate) {
         //Pretend it got marked for update last tick so that when we call tick it will update
         updateTimestamp = tile.getLevel().getGameTime() - 1;
@@ -115,7 +136,13 @@ public class Structure {
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            if (pendingChanges.isEmpty()) {
+                runUpdate(tile);
+            } else if (!revalidateChanges()) {
+                //Some of the changes affect the multiblock, so we need to fully revalidate it
+                invalidate(tile.getLevel());
+                runUpdate(tile);
+            }
         }
         if (tryValidate && !isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
@@ -130,6 +157,12 @@ public class Structure {
         return FormationResult.FAIL;
     }
 
+    private boolean revalidateChanges() {
+        boolean unchanged = getController() != null && multiblockData != null && getController().createFormationProtocol().revalidate(pendingChanges);
+        pendingChanges.clear();
+        return unchanged;
+    }
+
     public void add(Structure s) {
         if (s != this) {
             if (s.getController() != null && s.getController().canBeMaster() && (getController() == null || !getController().canBeMaster())) {
@@ -211,6 +244,7 @@ public class Structure {
 
     public void invalidate(Level world) {
         removeMultiblock(world);
+        pendingChanges.clear();
         valid = false;
     }
 
@@ -5,9 +5,9 @@ import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -56,7 +56,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
@@ -116,6 +115,11 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSpatialIndex spatialIndex = new RadiationSpatialIndex();
+    /**
+     * Dimensions that have had their sources change since we last updated the radiation levels of the players in them.
+     */
+    private final Set<ResourceKey<Level>> pendingClientUpdates = new HashSet<>();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -189,18 +193,20 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            spatialIndex.removeChunk(chunk);
             markDirty();
-            updateClientRadiationForAll(chunk.dimension);
+            pendingClientUpdates.add(chunk.dimension);
         }
     }
 
     @Override
     public void removeRadiationSource(GlobalPos pos) {
         Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
+        RadiationSource source = radiationTable.remove(chunk, pos);
+        if (source != null) {
+            spatialIndex.remove(source);
             markDirty();
-            updateClientRadiationForAll(pos.dimension());
+            pendingClientUpdates.add(pos.dimension());
         }
     }
 
@@ -223,30 +229,7 @@ public class RadiationManager implements IRadiationManager {
         if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
-        }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        return spatialIndex.getExposure(pos, MekanismConfig.general.radiationChunkCheckRadius.get());
     }
 
     @Override
@@ -257,13 +240,15 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
         RadiationSource src = radiationSourceMap.get(pos);
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            src = new RadiationSource(pos, magnitude);
+            radiationSourceMap.put(pos, src);
+            spatialIndex.add(src);
         } else {
             src.radiate(magnitude);
         }
         markDirty();
-        //Update radiation levels immediately
-        updateClientRadiationForAll(pos.dimension());
+        //Update radiation levels at the end of the tick, so that radiating many positions only updates each player once
+        pendingClientUpdates.add(pos.dimension());
     }
 
     @Override
@@ -319,15 +304,12 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            spatialIndex.clear();
             markDirty();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -474,25 +456,28 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void tickServer(boolean tickingNormally) {
-        // terminate early if we're disabled or there is no radiation spots
-        if (!isRadiationEnabled() || radiationTable.isEmpty()) {
+        // terminate early if we're disabled
+        if (!isRadiationEnabled()) {
             return;
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
-                // near the player if they are walking around while ticks are frozen
-                if (tickingNormally) {
-                    // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
-                    //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                    markDirty();
-                }
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
+        if (!radiationTable.isEmpty() && RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
+            //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
+            // near the player if they are walking around while ticks are frozen
+            if (tickingNormally) {
+                // remove if source gets too low
+                spatialIndex.decay(source -> radiationTable.remove(new Chunk3D(source.getPos()), source.getPos()));
+                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+                markDirty();
+            }
+            //Update radiation levels for any players where it has changed
+            updateClientRadiationForAll();
+            pendingClientUpdates.clear();
+        } else if (!pendingClientUpdates.isEmpty()) {
+            for (ResourceKey<Level> dimension : pendingClientUpdates) {
+                updateClientRadiationForAll(dimension);
             }
+            pendingClientUpdates.clear();
         }
     }
 
@@ -513,6 +498,8 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        spatialIndex.clear();
+        pendingClientUpdates.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -542,7 +529,7 @@ public class RadiationManager implements IRadiationManager {
 
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
 
-        private static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
+        static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
     }
 
     public enum RadiationScale {
@@ -661,6 +648,7 @@ public class RadiationManager implements IRadiationManager {
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
                     manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.spatialIndex.add(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
@@ -0,0 +1,256 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import mekanism.api.Chunk3D;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Spatial index of the radiation sources in each dimension keyed by chunk, along with a lazily calculated list for each chunk section of the sources that are within
+ * range of at least one position in that section. Looking up the exposure at a position only has to go over the sources of its section, and only has to check the
+ * exact distance against the ones that are not in range of every position in the section. The sources of a section are invalidated whenever a source within range of
+ * it is added or removed. As the magnitudes of the sources are read when looking up the exposure, radiating or decaying a source doesn't invalidate anything.
+ *
+ * @implNote The sources of a section are kept in the same order they would be found in when going over the chunks in range, so the exposure is exactly the same as if
+ * it had been calculated from scratch.
+ */
+@NothingNullByDefault
+public class RadiationSpatialIndex {
+
+    private static final int MAX_CACHED_CHUNKS = 4_096;
+    private static final int MAX_CACHED_SECTIONS_PER_CHUNK = 64;
+
+    private final Map<ResourceKey<Level>, DimensionIndex> dimensions = new Object2ObjectOpenHashMap<>();
+
+    public void add(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        DimensionIndex index = dimensions.computeIfAbsent(pos.dimension(), dimension -> new DimensionIndex());
+        long chunk = getChunkKey(pos.pos());
+        index.sources.computeIfAbsent(chunk, key -> new ObjectArrayList<>()).add(source);
+        index.invalidateAround(chunk);
+    }
+
+    public void remove(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        DimensionIndex index = dimensions.get(pos.dimension());
+        if (index != null) {
+            long chunk = getChunkKey(pos.pos());
+            List<RadiationSource> chunkSources = index.sources.get(chunk);
+            if (chunkSources != null && chunkSources.remove(source)) {
+                if (chunkSources.isEmpty()) {
+                    index.sources.remove(chunk);
+                }
+                index.invalidateAround(chunk);
+            }
+        }
+    }
+
+    public void removeChunk(Chunk3D chunk) {
+        DimensionIndex index = dimensions.get(chunk.dimension);
+        if (index != null && index.sources.remove(chunk.toLong()) != null) {
+            index.invalidateAround(chunk.toLong());
+        }
+    }
+
+    public void clear() {
+        dimensions.clear();
+    }
+
+    /**
+     * Decays all sources, chunk by chunk, and removes any that have decayed completely. Each source decays by the rate in the config, see
+     * {@link RadiationSource#decay()}.
+     *
+     * @param removedConsumer Called with each source that was removed.
+     */
+    public void decay(Consumer<RadiationSource> removedConsumer) {
+        for (DimensionIndex index : dimensions.values()) {
+            for (Iterator<Long2ObjectMap.Entry<List<RadiationSource>>> iterator = index.sources.long2ObjectEntrySet().iterator(); iterator.hasNext(); ) {
+                Long2ObjectMap.Entry<List<RadiationSource>> entry = iterator.next();
+                List<RadiationSource> chunkSources = entry.getValue();
+                if (chunkSources.removeIf(source -> {
+                    if (source.decay()) {
+                        removedConsumer.accept(source);
+                        return true;
+                    }
+                    return false;
+                })) {
+                    //If any sources were removed, the sections near them may no longer be in range of all their sources
+                    index.invalidateAround(entry.getLongKey());
+                    if (chunkSources.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the radiation level at a position and the max magnitude of the sources within range of it, using the cached sources of the position's section if present.
+     *
+     * @param pos    Position.
+     * @param radius Radius in chunks to check for sources.
+     */
+    public LevelAndMaxMagnitude getExposure(GlobalPos pos, int radius) {
+        DimensionIndex index = dimensions.get(pos.dimension());
+        if (index == null || index.sources.isEmpty()) {
+            return LevelAndMaxMagnitude.BASELINE;
+        }
+        if (index.radius != radius) {
+            //The radius changed, so the cached sources and what they would be invalidated by are no longer accurate
+            index.sections.clear();
+            index.radius = radius;
+        }
+        BlockPos blockPos = pos.pos();
+        int sectionX = SectionPos.blockToSectionCoord(blockPos.getX());
+        int sectionY = SectionPos.blockToSectionCoord(blockPos.getY());
+        int sectionZ = SectionPos.blockToSectionCoord(blockPos.getZ());
+        long chunk = ChunkPos.asLong(sectionX, sectionZ);
+        Int2ObjectMap<SectionSources> chunkSections = index.sections.get(chunk);
+        if (chunkSections == null) {
+            if (index.sections.size() >= MAX_CACHED_CHUNKS) {
+                index.sections.clear();
+            }
+            chunkSections = new Int2ObjectOpenHashMap<>();
+            index.sections.put(chunk, chunkSections);
+        }
+        SectionSources sectionSources = chunkSections.get(sectionY);
+        if (sectionSources == null) {
+            if (chunkSections.size() >= MAX_CACHED_SECTIONS_PER_CHUNK) {
+                chunkSections.clear();
+            }
+            sectionSources = index.collectSources(sectionX, sectionY, sectionZ);
+            chunkSections.put(sectionY, sectionSources);
+        }
+        return sectionSources.getExposure(blockPos, Mth.square(radius * 16));
+    }
+
+    private static long getChunkKey(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    private static class DimensionIndex {
+
+        private final Long2ObjectMap<List<RadiationSource>> sources = new Long2ObjectOpenHashMap<>();
+        /**
+         * Sources in range of each section, keyed by chunk and then by section y.
+         */
+        private final Long2ObjectMap<Int2ObjectMap<SectionSources>> sections = new Long2ObjectOpenHashMap<>();
+        /**
+         * Radius the cached sources were collected with.
+         */
+        private int radius;
+
+        /**
+         * Collects the sources that are within range of at least one position in the given section, in the order they are found in when going over the chunks in range.
+         */
+        private SectionSources collectSources(int sectionX, int sectionY, int sectionZ) {
+            int minX = SectionPos.sectionToBlockCoord(sectionX);
+            int minY = SectionPos.sectionToBlockCoord(sectionY);
+            int minZ = SectionPos.sectionToBlockCoord(sectionZ);
+            double maxRange = Mth.square(radius * 16);
+            List<RadiationSource> inRange = new ObjectArrayList<>();
+            BitSet nearBoundary = new BitSet();
+            for (int x = sectionX - radius; x <= sectionX + radius; x++) {
+                for (int z = sectionZ - radius; z <= sectionZ + radius; z++) {
+                    List<RadiationSource> chunkSources = sources.get(ChunkPos.asLong(x, z));
+                    if (chunkSources != null) {
+                        for (RadiationSource source : chunkSources) {
+                            BlockPos sourcePos = source.getPos().pos();
+                            if (minDistSqr(sourcePos, minX, minY, minZ) <= maxRange) {
+                                if (maxDistSqr(sourcePos, minX, minY, minZ) > maxRange) {
+                                    //Only in range of part of the section, the exact position has to be checked
+                                    nearBoundary.set(inRange.size());
+                                }
+                                inRange.add(source);
+                            }
+                        }
+                    }
+                }
+            }
+            return new SectionSources(inRange.toArray(new RadiationSource[0]), nearBoundary);
+        }
+
+        private void invalidateAround(long chunk) {
+            if (sections.isEmpty()) {
+                return;
+            }
+            int chunkX = ChunkPos.getX(chunk);
+            int chunkZ = ChunkPos.getZ(chunk);
+            if ((2L * radius + 1) * (2L * radius + 1) > sections.size()) {
+                //Fewer cached chunks than chunks in range, just check each cached chunk
+                sections.keySet().removeIf(key -> Math.abs(ChunkPos.getX(key) - chunkX) <= radius && Math.abs(ChunkPos.getZ(key) - chunkZ) <= radius);
+            } else {
+                for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+                    for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                        sections.remove(ChunkPos.asLong(x, z));
+                    }
+                }
+            }
+        }
+    }
+
+    private static double minDistSqr(BlockPos pos, int minX, int minY, int minZ) {
+        return Mth.square(axisDistance(pos.getX(), minX, false)) + Mth.square(axisDistance(pos.getY(), minY, false)) + Mth.square(axisDistance(pos.getZ(), minZ, false));
+    }
+
+    private static double maxDistSqr(BlockPos pos, int minX, int minY, int minZ) {
+        return Mth.square(axisDistance(pos.getX(), minX, true)) + Mth.square(axisDistance(pos.getY(), minY, true)) + Mth.square(axisDistance(pos.getZ(), minZ, true));
+    }
+
+    /**
+     * Gets the distance along an axis from a coordinate to the closest or furthest coordinate of the section starting at the given coordinate.
+     */
+    private static double axisDistance(int coord, int min, boolean furthest) {
+        int max = min + SectionPos.SECTION_MAX_INDEX;
+        if (furthest) {
+            return Math.max(Math.abs(coord - min), Math.abs(coord - max));
+        } else if (coord < min) {
+            return min - coord;
+        } else if (coord > max) {
+            return coord - max;
+        }
+        return 0;
+    }
+
+    /**
+     * @param sources      Sources within range of at least one position in the section.
+     * @param nearBoundary Indices of the sources that are not within range of every position in the section.
+     */
+    private record SectionSources(RadiationSource[] sources, BitSet nearBoundary) {
+
+        private LevelAndMaxMagnitude getExposure(BlockPos pos, double maxRange) {
+            if (sources.length == 0) {
+                return LevelAndMaxMagnitude.BASELINE;
+            }
+            double exposure = 0;
+            double maxMagnitude = 0;
+            for (int i = 0; i < sources.length; i++) {
+                RadiationSource source = sources[i];
+                double distance = source.getPos().pos().distSqr(pos);
+                if (!nearBoundary.get(i) || distance <= maxRange) {
+                    double magnitude = source.getMagnitude();
+                    exposure += magnitude / Math.max(1, distance);
+                    maxMagnitude = Math.max(maxMagnitude, magnitude);
+                }
+            }
+            return new LevelAndMaxMagnitude(RadiationManager.BASELINE + exposure, Math.max(RadiationManager.BASELINE, maxMagnitude));
+        }
+    }
+}
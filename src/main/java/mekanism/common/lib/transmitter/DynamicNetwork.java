@@ -209,6 +209,35 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * {@return true if this network splits its update into {@link #prepareParallelUpdate()}, {@link #parallelUpdate()}, and {@link #applyParallelUpdate()}, so that it
+     * can be updated in parallel with other networks by the {@link NetworkTickScheduler}}
+     */
+    public boolean supportsParallelUpdate() {
+        return false;
+    }
+
+    /**
+     * Called on the server thread before {@link #parallelUpdate()} to look up and stage anything the parallel update needs from the world.
+     */
+    public void prepareParallelUpdate() {
+    }
+
+    /**
+     * Called off the server thread to perform the part of the update that only touches this network's own transmitters and anything staged by
+     * {@link #prepareParallelUpdate()}.
+     *
+     * @implNote Other networks that share acceptors with this network are never updated at the same time as this network.
+     */
+    public void parallelUpdate() {
+    }
+
+    /**
+     * Called on the server thread after all networks have finished their {@link #parallelUpdate()} to apply any staged changes to the world.
+     */
+    public void applyParallelUpdate() {
+    }
+
     public Collection<TRANSMITTER> getTransmitters() {
         return positionedTransmitters.values();
     }
@@ -252,6 +281,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return positionedTransmitters.size();
     }
 
+    public Set<BlockPos> getAcceptorPositions() {
+        return acceptorCache.getAcceptorPositions();
+    }
+
     public boolean hasAcceptor(BlockPos acceptorPos) {
         return acceptorCache.hasAcceptor(acceptorPos);
     }
@@ -0,0 +1,162 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.Mekanism;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Updates networks that {@link DynamicNetwork#supportsParallelUpdate() support it} in parallel on a fork-join pool. Networks are split into groups that share no
+ * acceptors, and each group is updated on a single thread. Anything the networks need from the world is staged on the server thread beforehand, and the staged changes
+ * are applied on the server thread afterward in the same order the networks are ticked in, so that the result doesn't depend on which group finishes first.
+ * <p>
+ * Networks that don't support parallel updates are updated on the server thread as normal.
+ */
+@NothingNullByDefault
+public class NetworkTickScheduler {
+
+    private NetworkTickScheduler() {
+    }
+
+    @Nullable
+    private static ForkJoinPool pool;
+
+    /**
+     * Updates the given networks.
+     *
+     * @param networks Networks to update.
+     * @param threads  Maximum number of threads to update networks on.
+     */
+    public static void tick(Collection<DynamicNetwork<?, ?, ?>> networks, int threads) {
+        List<DynamicNetwork<?, ?, ?>> parallelNetworks = new ArrayList<>();
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            if (network.supportsParallelUpdate()) {
+                network.prepareParallelUpdate();
+                parallelNetworks.add(network);
+            } else {
+                network.onUpdate();
+            }
+        }
+        if (parallelNetworks.isEmpty()) {
+            return;
+        }
+        List<List<DynamicNetwork<?, ?, ?>>> groups = group(parallelNetworks);
+        if (groups.size() == 1) {
+            //Not worth handing off to the pool if there is nothing to run in parallel
+            update(groups.get(0));
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(groups.size());
+            ForkJoinPool pool = getPool(threads);
+            for (List<DynamicNetwork<?, ?, ?>> group : groups) {
+                tasks.add(pool.submit(() -> update(group)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while updating networks", e);
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Error updating networks", e.getCause());
+                }
+            }
+        }
+        for (DynamicNetwork<?, ?, ?> network : parallelNetworks) {
+            network.applyParallelUpdate();
+        }
+    }
+
+    /**
+     * Shuts down the pool. Called when the server stops.
+     */
+    public static synchronized void reset() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    private static void update(List<DynamicNetwork<?, ?, ?>> group) {
+        for (DynamicNetwork<?, ?, ?> network : group) {
+            network.parallelUpdate();
+        }
+    }
+
+    /**
+     * Splits the networks into groups such that no two groups have an acceptor in common.
+     */
+    private static List<List<DynamicNetwork<?, ?, ?>>> group(List<DynamicNetwork<?, ?, ?>> networks) {
+        int[] parents = new int[networks.size()];
+        Map<Level, Object2IntMap<BlockPos>> acceptorOwners = new Object2ObjectOpenHashMap<>();
+        for (int index = 0; index < parents.length; index++) {
+            parents[index] = index;
+            DynamicNetwork<?, ?, ?> network = networks.get(index);
+            Object2IntMap<BlockPos> owners = acceptorOwners.computeIfAbsent(network.getWorld(), level -> {
+                Object2IntMap<BlockPos> map = new Object2IntOpenHashMap<>();
+                map.defaultReturnValue(-1);
+                return map;
+            });
+            for (BlockPos pos : network.getAcceptorPositions()) {
+                int owner = owners.putIfAbsent(pos, index);
+                if (owner != -1) {
+                    union(parents, owner, index);
+                }
+            }
+        }
+        Int2ObjectMap<List<DynamicNetwork<?, ?, ?>>> groups = new Int2ObjectOpenHashMap<>();
+        for (int index = 0; index < parents.length; index++) {
+            groups.computeIfAbsent(find(parents, index), root -> new ArrayList<>()).add(networks.get(index));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            //Path halving
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[rootB] = rootA;
+        }
+    }
+
+    /**
+     * Gets the pool, creating it if it doesn't exist yet or if the number of threads in the config changed.
+     */
+    private static synchronized ForkJoinPool getPool(int threads) {
+        if (pool == null || pool.getParallelism() != threads) {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            pool = new ForkJoinPool(threads, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Mekanism Network Tick " + thread.getPoolIndex());
+                //Fork join threads don't inherit the context class loader, which means mod classes may fail to load on them
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+}
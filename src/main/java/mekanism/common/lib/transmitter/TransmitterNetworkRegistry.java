@@ -2,21 +2,32 @@ package mekanism.common.lib.transmitter;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
@@ -25,6 +36,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
@@ -130,8 +142,13 @@ public class TransmitterNetworkRegistry {
         assignOrphans();
         commitChanges();
         if (event.getServer().tickRateManager().runsNormally()) {
-            for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+            int networkTickThreads = MekanismConfig.general.networkTickThreads.get();
+            if (networkTickThreads > 0) {
+                NetworkTickScheduler.tick(networks, networkTickThreads);
+            } else {
+                for (DynamicNetwork<?, ?, ?> net : networks) {
+                    net.onUpdate();
+                }
             }
         }
     }
@@ -228,12 +245,18 @@ public class TransmitterNetworkRegistry {
                 Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
             }
 
+            BatchOrphanAssigner batchAssigner = new BatchOrphanAssigner();
             for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
                 if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
-                    OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
-                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+                    if (orphanTransmitter.supportsBatchOrphanAssignment()) {
+                        batchAssigner.add(orphanTransmitter);
+                    } else {
+                        OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
+                        networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+                    }
                 }
             }
+            batchAssigner.assign(networksToChange);
         }
     }
 
@@ -261,6 +284,120 @@ public class TransmitterNetworkRegistry {
         return components;
     }
 
+    /**
+     * Assigns orphans to networks in a single pass, by joining the sets of adjacent orphans that can connect to each other in a disjoint-set over all the orphans. This
+     * avoids having to flood fill from every orphan when large amounts of transmitters become orphans at once, such as when chunks with large cable meshes get loaded.
+     */
+    private static class BatchOrphanAssigner {
+
+        private final List<Transmitter<?, ?, ?>> orphans = new ArrayList<>();
+        private final Map<ResourceKey<Level>, Long2IntMap> orphanIndices = new Object2ObjectOpenHashMap<>();
+
+        private void add(Transmitter<?, ?, ?> orphan) {
+            Long2IntMap indices = orphanIndices.computeIfAbsent(orphan.getLevel().dimension(), dimension -> {
+                Long2IntMap map = new Long2IntOpenHashMap();
+                map.defaultReturnValue(-1);
+                return map;
+            });
+            indices.put(orphan.getBlockPos().asLong(), orphans.size());
+            orphans.add(orphan);
+        }
+
+        private void assign(Set<DynamicNetwork<?, ?, ?>> networksToChange) {
+            if (orphans.isEmpty()) {
+                return;
+            }
+            int[] parents = new int[orphans.size()];
+            //Transmitters that aren't orphans, indexed by the orphan they are adjacent to
+            Int2ObjectMap<List<Transmitter<?, ?, ?>>> adjacentTransmitters = new Int2ObjectOpenHashMap<>();
+            Map<ResourceKey<Level>, Long2ObjectMap<ChunkAccess>> chunkMaps = new Object2ObjectOpenHashMap<>();
+            BlockPos.MutableBlockPos directionPos = new BlockPos.MutableBlockPos();
+            for (int index = 0; index < parents.length; index++) {
+                parents[index] = index;
+            }
+            for (int index = 0; index < parents.length; index++) {
+                Transmitter<?, ?, ?> orphan = orphans.get(index);
+                Level world = orphan.getLevel();
+                Long2IntMap indices = orphanIndices.get(world.dimension());
+                Long2ObjectMap<ChunkAccess> chunkMap = chunkMaps.computeIfAbsent(world.dimension(), dimension -> new Long2ObjectOpenHashMap<>());
+                BlockPos pos = orphan.getBlockPos();
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    directionPos.setWithOffset(pos, direction);
+                    int adjacent = indices.get(directionPos.asLong());
+                    if (adjacent == -1) {
+                        TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
+                        if (tile != null && orphan.isValidTransmitterBasic(tile, direction)) {
+                            adjacentTransmitters.computeIfAbsent(index, i -> new ArrayList<>()).add(tile.getTransmitter());
+                        }
+                    } else if (adjacent > index && orphan.isValidTransmitterBasic(orphans.get(adjacent).getTransmitterTile(), direction)) {
+                        //Connections are mutual, so we only need to check each pair of adjacent orphans once
+                        union(parents, index, adjacent);
+                    }
+                }
+            }
+            Int2ObjectMap<IntList> components = new Int2ObjectLinkedOpenHashMap<>();
+            for (int index = 0; index < parents.length; index++) {
+                components.computeIfAbsent(find(parents, index), root -> new IntArrayList()).add(index);
+            }
+            if (MekanismAPI.debug) {
+                Mekanism.logger.info("Assigning {} orphan Transmitters in {} groups", orphans.size(), components.size());
+            }
+            for (IntList component : components.values()) {
+                networksToChange.add(createNetwork(orphans.get(component.getInt(0)), component, adjacentTransmitters));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>>
+        NETWORK createNetwork(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> first, IntList component, Int2ObjectMap<List<Transmitter<?, ?, ?>>> adjacentTransmitters) {
+            CompatibleTransmitterValidator<ACCEPTOR, NETWORK, TRANSMITTER> transmitterValidator = first.getNewOrphanValidator();
+            Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
+            Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
+            for (IntIterator iterator = component.iterator(); iterator.hasNext(); ) {
+                int index = iterator.nextInt();
+                TRANSMITTER transmitter = (TRANSMITTER) orphans.get(index);
+                connectedTransmitters.add(transmitter);
+                transmitter.setOrphan(false);
+                List<Transmitter<?, ?, ?>> adjacent = adjacentTransmitters.get(index);
+                if (adjacent != null) {
+                    for (Transmitter<?, ?, ?> adjacentTransmitter : adjacent) {
+                        //Note: We look up the network now rather than when finding the adjacent transmitters, as creating the network for
+                        // an earlier group may have merged the network the transmitter was in into a new one
+                        NETWORK net = (NETWORK) adjacentTransmitter.getTransmitterNetwork();
+                        if (net != null && transmitterValidator.isNetworkCompatible(net)) {
+                            networksFound.add(net);
+                        }
+                    }
+                }
+            }
+            NETWORK network;
+            if (networksFound.size() == 1) {
+                network = networksFound.iterator().next();
+            } else {
+                network = first.createNetworkByMerging(networksFound);
+            }
+            network.addNewTransmitters(connectedTransmitters, transmitterValidator);
+            return network;
+        }
+
+        private static int find(int[] parents, int index) {
+            while (parents[index] != index) {
+                //Path halving
+                parents[index] = parents[parents[index]];
+                index = parents[index];
+            }
+            return index;
+        }
+
+        private static void union(int[] parents, int a, int b) {
+            int rootA = find(parents, a);
+            int rootB = find(parents, b);
+            if (rootA != rootB) {
+                parents[rootB] = rootA;
+            }
+        }
+    }
+
     public static class OrphanPathFinder<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
           TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>> {
 
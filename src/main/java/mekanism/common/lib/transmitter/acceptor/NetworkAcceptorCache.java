@@ -1,10 +1,12 @@
 package mekanism.common.lib.transmitter.acceptor;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -13,11 +15,17 @@ import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Map<BlockPos, Map<Direction, ACCEPTOR>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Flattened view of all the cached acceptors, or {@code null} if the cached acceptors have changed since it was last built.
+     */
+    @Nullable
+    private List<ACCEPTOR> acceptorSnapshot;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
@@ -25,18 +33,26 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         BlockPos acceptorPos = transmitter.getBlockPos().relative(side);
         if (acceptor == null) {
             Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
-            if (cached != null) {
-                cached.remove(side.getOpposite());
+            if (cached != null && cached.remove(side.getOpposite()) != null) {
+                acceptorSnapshot = null;
                 if (cached.isEmpty()) {
                     cachedAcceptors.remove(acceptorPos);
                 }
             }
         } else {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+            cacheAcceptor(acceptorPos, side.getOpposite(), acceptor);
+        }
+    }
+
+    @VisibleForTesting
+    void cacheAcceptor(BlockPos acceptorPos, Direction side, ACCEPTOR acceptor) {
+        if (cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side, acceptor) != acceptor) {
+            acceptorSnapshot = null;
         }
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        acceptorSnapshot = null;
         for (Entry<BlockPos, Map<Direction, ACCEPTOR>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -78,6 +94,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        acceptorSnapshot = null;
     }
 
     /**
@@ -94,6 +111,27 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.values();
     }
 
+    public Set<BlockPos> getAcceptorPositions() {
+        return cachedAcceptors.keySet();
+    }
+
+    /**
+     * Gets all the cached acceptors as a flat list, so that emitting to them doesn't have to walk the map of acceptors each tick. The list is only rebuilt after the
+     * cached acceptors change.
+     *
+     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     */
+    public List<ACCEPTOR> getAcceptorSnapshot() {
+        if (acceptorSnapshot == null) {
+            List<ACCEPTOR> snapshot = new ArrayList<>(getAcceptorCount());
+            for (Map<Direction, ACCEPTOR> acceptors : cachedAcceptors.values()) {
+                snapshot.addAll(acceptors.values());
+            }
+            acceptorSnapshot = Collections.unmodifiableList(snapshot);
+        }
+        return acceptorSnapshot;
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
@@ -0,0 +1,310 @@
+package mekanism.common.lib.work;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded pool of worker threads shared by all of Mekanism's background work. This ensures that when many blocks start work at once, for example every Digital Miner
+ * searching after a server restart, the work is queued up instead of each block starting a thread of its own that competes with the server thread.
+ * <p>
+ * Queued tasks are run in order of their {@link Priority}, and all tasks submitted by an owner (such as a block entity) can be cancelled at once when the owner gets
+ * removed.
+ */
+@NothingNullByDefault
+public class MekanismWorkers {
+
+    private MekanismWorkers() {
+    }
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final AtomicLong taskCount = new AtomicLong();
+    private static final Map<Object, Set<WorkerTask<?>>> tasksByOwner = new ConcurrentHashMap<>();
+    private static final Map<Priority, PriorityMetrics> metrics = new EnumMap<>(Priority.class);
+
+    static {
+        for (Priority priority : Priority.values()) {
+            metrics.put(priority, new PriorityMetrics());
+        }
+    }
+
+    @Nullable
+    private static volatile ThreadPoolExecutor executor;
+
+    /**
+     * Queues a task to be run on one of the worker threads.
+     *
+     * @param owner    Object that the task is being run for, used to cancel the task if the owner is removed before it finishes. For block entities this should be the
+     *                 block entity itself.
+     * @param priority Priority of the task compared to the other queued tasks.
+     * @param task     Task to run.
+     *
+     * @return Future representing the task.
+     */
+    public static <T> Future<T> submit(Object owner, Priority priority, Callable<T> task) {
+        WorkerTask<T> workerTask = new WorkerTask<>(owner, priority, task);
+        tasksByOwner.compute(owner, (o, tasks) -> {
+            if (tasks == null) {
+                tasks = ConcurrentHashMap.newKeySet();
+            }
+            tasks.add(workerTask);
+            return tasks;
+        });
+        getExecutor().execute(workerTask);
+        return workerTask;
+    }
+
+    /**
+     * Queues a task to be run on one of the worker threads.
+     *
+     * @param owner    Object that the task is being run for, used to cancel the task if the owner is removed before it finishes. For block entities this should be the
+     *                 block entity itself.
+     * @param priority Priority of the task compared to the other queued tasks.
+     * @param task     Task to run.
+     *
+     * @return Future representing the task.
+     */
+    public static Future<?> submit(Object owner, Priority priority, Runnable task) {
+        return submit(owner, priority, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Cancels all the tasks that were submitted by the given owner and haven't finished yet. Tasks that are already running are interrupted.
+     */
+    public static void cancel(Object owner) {
+        Set<WorkerTask<?>> tasks = tasksByOwner.remove(owner);
+        if (tasks != null) {
+            for (WorkerTask<?> task : tasks) {
+                cancel(task);
+            }
+        }
+    }
+
+    private static void cancel(WorkerTask<?> task) {
+        if (task.cancel(true)) {
+            ThreadPoolExecutor current = executor;
+            if (current != null) {
+                //Remove it from the queue so that it isn't counted towards the queue depth
+                current.remove(task);
+            }
+        }
+    }
+
+    /**
+     * Cancels all pending tasks, and resets the metrics. Called when the server stops.
+     */
+    public static void reset() {
+        for (Set<WorkerTask<?>> tasks : tasksByOwner.values()) {
+            for (WorkerTask<?> task : tasks) {
+                cancel(task);
+            }
+        }
+        tasksByOwner.clear();
+        for (PriorityMetrics priorityMetrics : metrics.values()) {
+            priorityMetrics.reset();
+        }
+    }
+
+    public static WorkerStats getStats() {
+        ThreadPoolExecutor current = executor;
+        Map<Priority, PriorityStats> priorityStats = new EnumMap<>(Priority.class);
+        Map<Priority, Integer> queued = new EnumMap<>(Priority.class);
+        if (current != null) {
+            for (Object task : current.getQueue().toArray()) {
+                if (task instanceof WorkerTask<?> workerTask) {
+                    queued.merge(workerTask.priority, 1, Integer::sum);
+                }
+            }
+        }
+        for (Map.Entry<Priority, PriorityMetrics> entry : metrics.entrySet()) {
+            priorityStats.put(entry.getKey(), entry.getValue().snapshot(queued.getOrDefault(entry.getKey(), 0)));
+        }
+        if (current == null) {
+            return new WorkerStats(0, 0, priorityStats);
+        }
+        return new WorkerStats(current.getPoolSize(), current.getActiveCount(), priorityStats);
+    }
+
+    /**
+     * Gets the executor, creating it if it doesn't exist yet and making sure the number of threads it can use matches the config.
+     */
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        int threads = MekanismConfig.general.workerThreads.get();
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Worker " + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            //Don't keep idle threads around when there is no work to do
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != threads) {
+            //The core size may never be larger than the max size, so update them in an order that ensures that is true
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        }
+        return executor;
+    }
+
+    public enum Priority {
+        /**
+         * Work that a player is actively waiting on.
+         */
+        HIGH,
+        /**
+         * Work that should be done soon, but isn't blocking a player.
+         */
+        NORMAL,
+        /**
+         * Bulk work that can wait until other work is done.
+         */
+        LOW
+    }
+
+    /**
+     * @param threads    Number of threads currently in the pool.
+     * @param active     Number of threads currently running a task.
+     * @param priorities Stats for each priority.
+     */
+    public record WorkerStats(int threads, int active, Map<Priority, PriorityStats> priorities) {
+    }
+
+    /**
+     * @param queued      Number of tasks waiting to be run.
+     * @param completed   Number of tasks that ran to completion.
+     * @param cancelled   Number of tasks that were cancelled.
+     * @param failed      Number of tasks that threw an exception.
+     * @param averageWait Average time in milliseconds that tasks waited in the queue before running.
+     * @param maxWait     Longest time in milliseconds that a task waited in the queue before running.
+     * @param averageRun  Average time in milliseconds it took to run a task.
+     */
+    public record PriorityStats(int queued, long completed, long cancelled, long failed, double averageWait, double maxWait, double averageRun) {
+    }
+
+    private static class PriorityMetrics {
+
+        private final LongAdder started = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder totalRunNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private void reset() {
+            started.reset();
+            completed.reset();
+            cancelled.reset();
+            failed.reset();
+            totalWaitNanos.reset();
+            totalRunNanos.reset();
+            maxWaitNanos.set(0);
+        }
+
+        private PriorityStats snapshot(int queued) {
+            long startedCount = started.sum();
+            long ranCount = completed.sum() + failed.sum();
+            return new PriorityStats(queued, completed.sum(), cancelled.sum(), failed.sum(),
+                  startedCount == 0 ? 0 : toMillis(totalWaitNanos.sum()) / startedCount, toMillis(maxWaitNanos.get()),
+                  ranCount == 0 ? 0 : toMillis(totalRunNanos.sum()) / ranCount);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000D;
+        }
+    }
+
+    private static class WorkerTask<T> extends FutureTask<T> implements Comparable<WorkerTask<?>> {
+
+        private final Object owner;
+        private final Priority priority;
+        private final long sequence;
+        private final long submitTime;
+        private long startTime;
+
+        private WorkerTask(Object owner, Priority priority, Callable<T> callable) {
+            super(callable);
+            this.owner = owner;
+            this.priority = priority;
+            //Run tasks of the same priority in the order they were submitted
+            this.sequence = taskCount.getAndIncrement();
+            this.submitTime = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            if (!isDone()) {
+                startTime = System.nanoTime();
+                long waited = startTime - submitTime;
+                PriorityMetrics priorityMetrics = metrics.get(priority);
+                priorityMetrics.started.increment();
+                priorityMetrics.totalWaitNanos.add(waited);
+                priorityMetrics.maxWaitNanos.accumulateAndGet(waited, Math::max);
+            }
+            super.run();
+        }
+
+        @Override
+        protected void set(T value) {
+            super.set(value);
+            if (!isCancelled()) {
+                PriorityMetrics priorityMetrics = metrics.get(priority);
+                priorityMetrics.completed.increment();
+                priorityMetrics.totalRunNanos.add(System.nanoTime() - startTime);
+            }
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            super.setException(t);
+            if (!isCancelled()) {
+                PriorityMetrics priorityMetrics = metrics.get(priority);
+                priorityMetrics.failed.increment();
+                priorityMetrics.totalRunNanos.add(System.nanoTime() - startTime);
+                Mekanism.logger.error("Error running background task for {}", owner, t);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                metrics.get(priority).cancelled.increment();
+            }
+            tasksByOwner.computeIfPresent(owner, (o, tasks) -> {
+                tasks.remove(this);
+                return tasks.isEmpty() ? null : tasks;
+            });
+        }
+
+        @Override
+        public int compareTo(WorkerTask<?> other) {
+            if (priority != other.priority) {
+                return priority.compareTo(other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
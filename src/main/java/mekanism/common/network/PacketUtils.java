@@ -129,6 +129,17 @@ public class PacketUtils {
         PacketDistributor.sendToPlayersTrackingChunk((ServerLevel) world, new ChunkPos(pos), message);
     }
 
+    /**
+     * Sends a packet that is created separately for each player that is tracking the given tile, for packets that contain per connection state.
+     */
+    public static <MSG extends CustomPacketPayload> void sendToAllTrackingPerPlayer(Function<ServerPlayer, MSG> messageCreator, BlockEntity tile) {
+        if (tile.getLevel() instanceof ServerLevel level) {
+            for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(new ChunkPos(tile.getBlockPos()), false)) {
+                PacketDistributor.sendToPlayer(player, messageCreator.apply(player));
+            }
+        }
+    }
+
     //TODO: Evaluate moving various network related packets over to this (and making it support non buffered networks)
     public static void sendToAllTracking(DynamicBufferedNetwork<?, ?, ?, ?> network, CustomPacketPayload... packets) {
         Range3D range = network.getPacketRange();
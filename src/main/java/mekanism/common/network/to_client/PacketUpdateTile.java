@@ -2,11 +2,11 @@ package mekanism.common.network.to_client;
 
 import io.netty.buffer.ByteBuf;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.TagPatch;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
@@ -14,19 +14,20 @@ import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
-public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements IMekanismPacket {
+/**
+ * @param patch Changes to the update tag since the last update packet for the tile.
+ * @param full  {@code true} if the patch contains the full update tag, in which case the client shouldn't apply it on top of the previous update tag.
+ */
+public record PacketUpdateTile(BlockPos pos, TagPatch patch, boolean full) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateTile> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_tile"));
     public static final StreamCodec<ByteBuf, PacketUpdateTile> STREAM_CODEC = StreamCodec.composite(
           BlockPos.STREAM_CODEC, PacketUpdateTile::pos,
-          ByteBufCodecs.TRUSTED_COMPOUND_TAG, PacketUpdateTile::updateTag,
+          TagPatch.STREAM_CODEC, PacketUpdateTile::patch,
+          ByteBufCodecs.BOOL, PacketUpdateTile::full,
           PacketUpdateTile::new
     );
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag(tile.getLevel().registryAccess()));
-    }
-
     @NotNull
     @Override
     public CustomPacketPayload.Type<PacketUpdateTile> type() {
@@ -43,8 +44,8 @@ public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements I
                 Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
                       world.dimension().location());
             } else {
-                tile.handleUpdatePacket(updateTag, world.registryAccess());
+                tile.handleUpdatePatch(patch, full, world.registryAccess());
             }
         }
     }
-}
\ No newline at end of file
+}
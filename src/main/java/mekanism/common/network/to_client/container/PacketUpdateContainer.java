@@ -1,25 +1,27 @@
 package mekanism.common.network.to_client.container;
 
+import java.util.ArrayList;
 import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Properties are written grouped by their type, so that the type only has to be written once per group. Within each group the property indices are written as var ints
+ * of the difference from the previous index, which as properties are generally written in order fit in a single byte.
+ */
 public record PacketUpdateContainer(short windowId, List<PropertyData> data) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateContainer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_container"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateContainer> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PacketUpdateContainer::windowId,
-          PropertyData.GENERIC_STREAM_CODEC.apply(ByteBufCodecs.list()), PacketUpdateContainer::data,
-          PacketUpdateContainer::new
-    );
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateContainer> STREAM_CODEC = StreamCodec.ofMember(PacketUpdateContainer::write, PacketUpdateContainer::decode);
 
     @NotNull
     @Override
@@ -37,4 +39,48 @@ public record PacketUpdateContainer(short windowId, List<PropertyData> data) imp
             }
         }
     }
-}
\ No newline at end of file
+
+    private void write(RegistryFriendlyByteBuf buffer) {
+        buffer.writeShort(windowId);
+        PropertyType[] types = PropertyType.values();
+        int[] counts = new int[types.length];
+        int groups = 0;
+        for (PropertyData datum : data) {
+            if (counts[datum.getType().ordinal()]++ == 0) {
+                groups++;
+            }
+        }
+        VarInt.write(buffer, groups);
+        for (PropertyType type : types) {
+            int count = counts[type.ordinal()];
+            if (count > 0) {
+                PropertyType.STREAM_CODEC.encode(buffer, type);
+                VarInt.write(buffer, count);
+                int lastProperty = 0;
+                for (PropertyData datum : data) {
+                    if (datum.getType() == type) {
+                        VarInt.write(buffer, datum.getProperty() - lastProperty);
+                        lastProperty = datum.getProperty();
+                        datum.writeValue(buffer);
+                    }
+                }
+            }
+        }
+    }
+
+    private static PacketUpdateContainer decode(RegistryFriendlyByteBuf buffer) {
+        short windowId = buffer.readShort();
+        int groups = VarInt.read(buffer);
+        List<PropertyData> data = new ArrayList<>();
+        for (int group = 0; group < groups; group++) {
+            PropertyType type = PropertyType.STREAM_CODEC.decode(buffer);
+            int count = VarInt.read(buffer);
+            int property = 0;
+            for (int i = 0; i < count; i++) {
+                property += VarInt.read(buffer);
+                data.add(type.read(buffer, (short) property));
+            }
+        }
+        return new PacketUpdateContainer(windowId, data);
+    }
+}
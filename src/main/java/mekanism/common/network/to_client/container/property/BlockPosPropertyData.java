@@ -1,21 +1,12 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 import org.jetbrains.annotations.Nullable;
 
 public class BlockPosPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, BlockPosPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          BlockPos.STREAM_CODEC, data -> data.value,
-          BlockPosPropertyData::new
-    );
-
     @Nullable
     private final BlockPos value;
 
@@ -24,8 +15,17 @@ public class BlockPosPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static BlockPosPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new BlockPosPropertyData(property, BlockPos.STREAM_CODEC.decode(buffer));
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        BlockPos.STREAM_CODEC.encode(buffer, value);
+    }
+}
@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class BooleanPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, BooleanPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.BOOL, data -> data.value,
-          BooleanPropertyData::new
-    );
-
     private final boolean value;
 
     public BooleanPropertyData(short property, boolean value) {
@@ -21,8 +12,17 @@ public class BooleanPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static BooleanPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new BooleanPropertyData(property, buffer.readBoolean());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeBoolean(value);
+    }
+}
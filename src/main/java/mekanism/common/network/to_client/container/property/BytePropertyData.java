@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class BytePropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, BytePropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.BYTE, data -> data.value,
-          BytePropertyData::new
-    );
-
     private final byte value;
 
     public BytePropertyData(short property, byte value) {
@@ -21,8 +12,17 @@ public class BytePropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static BytePropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new BytePropertyData(property, buffer.readByte());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeByte(value);
+    }
+}
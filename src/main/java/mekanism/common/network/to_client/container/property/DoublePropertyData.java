@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class DoublePropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, DoublePropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.DOUBLE, data -> data.value,
-          DoublePropertyData::new
-    );
-
     private final double value;
 
     public DoublePropertyData(short property, double value) {
@@ -21,8 +12,17 @@ public class DoublePropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static DoublePropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new DoublePropertyData(property, buffer.readDouble());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeDouble(value);
+    }
+}
@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class FloatPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, FloatPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.FLOAT, data -> data.value,
-          FloatPropertyData::new
-    );
-
     private final float value;
 
     public FloatPropertyData(short property, float value) {
@@ -21,8 +12,17 @@ public class FloatPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static FloatPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new FloatPropertyData(property, buffer.readFloat());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeFloat(value);
+    }
+}
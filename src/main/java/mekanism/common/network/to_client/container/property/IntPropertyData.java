@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class IntPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, IntPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.VAR_INT, data -> data.value,
-          IntPropertyData::new
-    );
-
     private final int value;
 
     public IntPropertyData(short property, int value) {
@@ -21,8 +12,17 @@ public class IntPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static IntPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new IntPropertyData(property, buffer.readVarInt());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeVarInt(value);
+    }
+}
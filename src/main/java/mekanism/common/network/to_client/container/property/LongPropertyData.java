@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class LongPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, LongPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.VAR_LONG, data -> data.value,
-          LongPropertyData::new
-    );
-
     private final long value;
 
     public LongPropertyData(short property, long value) {
@@ -21,8 +12,17 @@ public class LongPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static LongPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new LongPropertyData(property, buffer.readVarLong());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeVarLong(value);
+    }
+}
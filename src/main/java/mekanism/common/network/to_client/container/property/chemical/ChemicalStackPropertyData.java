@@ -5,17 +5,9 @@ import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.network.to_client.container.property.PropertyData;
 import mekanism.common.network.to_client.container.property.PropertyType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public final class ChemicalStackPropertyData extends PropertyData {
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, ChemicalStackPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ChemicalStack.OPTIONAL_STREAM_CODEC, data -> data.value,
-          ChemicalStackPropertyData::new
-    );
-
     private final ChemicalStack value;
 
     public ChemicalStackPropertyData(short property, ChemicalStack value) {
@@ -23,8 +15,17 @@ public final class ChemicalStackPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static ChemicalStackPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new ChemicalStackPropertyData(property, ChemicalStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        ChemicalStack.OPTIONAL_STREAM_CODEC.encode(buffer, value);
+    }
+}
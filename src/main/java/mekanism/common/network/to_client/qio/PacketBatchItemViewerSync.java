@@ -1,6 +1,7 @@
 package mekanism.common.network.to_client.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
@@ -15,8 +16,8 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
     public static final CustomPacketPayload.Type<PacketBatchItemViewerSync> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("batch_qio_sync"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketBatchItemViewerSync> STREAM_CODEC = streamCodec(PacketBatchItemViewerSync::new);
 
-    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
+    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, Int2ObjectMap<UUIDAwareHashedItem> itemTypes, Int2LongMap itemCounts) {
+        super(countCapacity, typeCapacity, itemTypes, itemCounts);
     }
 
     @NotNull
@@ -28,7 +29,7 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleBatchUpdate(itemTypes, itemCounts, countCapacity, typeCapacity);
         }
     }
 }
\ No newline at end of file
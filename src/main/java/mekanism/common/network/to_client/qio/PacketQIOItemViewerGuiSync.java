@@ -1,8 +1,10 @@
 package mekanism.common.network.to_client.qio;
 
-import com.mojang.datafixers.util.Function3;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import com.mojang.datafixers.util.Function4;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.Optional;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
@@ -14,34 +16,59 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 
 //TODO - 1.19: Split implementations of this packet as it is possible for it to technically become too large and cause a crash
-// Also ideally we only would sync the hashed item for types we haven't sent a given client yet so that then
-// we can also send a smaller packet to each client until they disconnect and then we clear what packets they know
+/**
+ * Item types are only sent the first time they are synced to a viewer, and are given a compact id that is then used to refer to them in all further updates to that
+ * viewer.
+ */
 public abstract class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
-    private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUIDAwareHashedItem>> ITEM_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
-          StreamCodec.composite(
+    private static final StreamCodec<RegistryFriendlyByteBuf, Int2ObjectMap<UUIDAwareHashedItem>> ITEM_TYPES_CODEC = ByteBufCodecs.map(Int2ObjectOpenHashMap::new,
+          ByteBufCodecs.VAR_INT, StreamCodec.composite(
                 ItemStack.STREAM_CODEC, HashedItem::getInternalStack,
                 ByteBufCodecs.optional(UUIDUtil.STREAM_CODEC), item -> Optional.ofNullable(item.getUUID()),
                 (stack, uuid) -> new UUIDAwareHashedItem(stack, uuid.orElse(null))
-          ), ByteBufCodecs.VAR_LONG
+          )
     );
+    private static final StreamCodec<RegistryFriendlyByteBuf, Int2LongMap> ITEM_COUNTS_CODEC = StreamCodec.of((buffer, counts) -> {
+        buffer.writeVarInt(counts.size());
+        for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+            buffer.writeVarInt(entry.getIntKey());
+            buffer.writeVarLong(entry.getLongValue());
+        }
+    }, buffer -> {
+        int size = buffer.readVarInt();
+        Int2LongMap counts = new Int2LongOpenHashMap(size);
+        for (int i = 0; i < size; i++) {
+            counts.put(buffer.readVarInt(), buffer.readVarLong());
+        }
+        return counts;
+    });
 
     protected static <PKT extends PacketQIOItemViewerGuiSync> StreamCodec<RegistryFriendlyByteBuf, PKT> streamCodec(
-          Function3<Long, Integer, Object2LongMap<UUIDAwareHashedItem>, PKT> constructor) {
+          Function4<Long, Integer, Int2ObjectMap<UUIDAwareHashedItem>, Int2LongMap, PKT> constructor) {
         return StreamCodec.composite(
               ByteBufCodecs.VAR_LONG, pkt -> pkt.countCapacity,
               ByteBufCodecs.VAR_INT, pkt -> pkt.typeCapacity,
-              ITEM_MAP_CODEC, pkt -> pkt.itemMap,
+              ITEM_TYPES_CODEC, pkt -> pkt.itemTypes,
+              ITEM_COUNTS_CODEC, pkt -> pkt.itemCounts,
               constructor
         );
     }
 
-    protected final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    /**
+     * Item types that the client has not been sent before, keyed by the id they will be referred to by.
+     */
+    protected final Int2ObjectMap<UUIDAwareHashedItem> itemTypes;
+    /**
+     * Item counts keyed by the id of the item type. A count of zero means the type is no longer stored.
+     */
+    protected final Int2LongMap itemCounts;
     protected final long countCapacity;
     protected final int typeCapacity;
 
-    protected PacketQIOItemViewerGuiSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        this.itemMap = itemMap;
+    protected PacketQIOItemViewerGuiSync(long countCapacity, int typeCapacity, Int2ObjectMap<UUIDAwareHashedItem> itemTypes, Int2LongMap itemCounts) {
+        this.itemTypes = itemTypes;
+        this.itemCounts = itemCounts;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
@@ -1,6 +1,7 @@
 package mekanism.common.network.to_client.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
@@ -15,8 +16,8 @@ public class PacketUpdateItemViewer extends PacketQIOItemViewerGuiSync {
     public static final CustomPacketPayload.Type<PacketUpdateItemViewer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_qio"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = streamCodec(PacketUpdateItemViewer::new);
 
-    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
+    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Int2ObjectMap<UUIDAwareHashedItem> itemTypes, Int2LongMap itemCounts) {
+        super(countCapacity, typeCapacity, itemTypes, itemCounts);
     }
 
     @NotNull
@@ -28,7 +29,7 @@ public class PacketUpdateItemViewer extends PacketQIOItemViewerGuiSync {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleUpdate(itemTypes, itemCounts, countCapacity, typeCapacity);
         }
     }
 }
\ No newline at end of file
@@ -1,38 +1,44 @@
 package mekanism.common.network.to_client.transmitter;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.ArrayList;
+import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterItemCache;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
-public record PacketTransporterBatch(BlockPos pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) implements IMekanismPacket {
+public record PacketTransporterBatch(BlockPos pos, IntSet deletes, List<SyncedStack> updates) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketTransporterBatch> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("transporter_batch"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterBatch> STREAM_CODEC = StreamCodec.composite(
-          BlockPos.STREAM_CODEC, PacketTransporterBatch::pos,
-          ByteBufCodecs.VAR_INT.apply(ByteBufCodecs.collection(IntOpenHashSet::new)), PacketTransporterBatch::deletes,
-          ByteBufCodecs.map(Int2ObjectOpenHashMap::new, ByteBufCodecs.VAR_INT, TransporterStack.STREAM_CODEC), PacketTransporterBatch::updates,
-          PacketTransporterBatch::new
-    );
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterBatch> STREAM_CODEC = StreamCodec.ofMember(PacketTransporterBatch::write, PacketTransporterBatch::decode);
 
-    public static PacketTransporterBatch create(BlockPos pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) {
-        for (TransporterStack stack : updates.values()) {
-            stack.updateForPos(pos);
+    /**
+     * @param player  Player the packet is being sent to.
+     * @param updates Stacks to sync, {@link TransporterStack#updateForPos(BlockPos)} should already have been called on them.
+     */
+    public static PacketTransporterBatch create(ServerPlayer player, BlockPos pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) {
+        TransporterItemCache itemCache = TransporterItemCache.get(player);
+        List<SyncedStack> syncedStacks = new ArrayList<>(updates.size());
+        for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+            TransporterStack stack = entry.getValue();
+            syncedStacks.add(new SyncedStack(entry.getIntKey(), stack, itemCache.intern(stack.itemStack)));
         }
-        return new PacketTransporterBatch(pos, deletes, updates);
+        return new PacketTransporterBatch(pos, deletes, syncedStacks);
     }
 
     @NotNull
@@ -45,12 +51,57 @@ public record PacketTransporterBatch(BlockPos pos, IntSet deletes, Int2ObjectMap
     public void handle(IPayloadContext context) {
         if (PacketUtils.blockEntity(context, pos) instanceof TileEntityLogisticalTransporterBase tile) {
             LogisticalTransporterBase transporter = tile.getTransmitter();
-            for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
-                transporter.addStack(entry.getIntKey(), entry.getValue());
+            for (SyncedStack update : updates) {
+                transporter.addStack(update.stackId(), update.stack());
             }
             for (int toDelete : deletes) {
                 transporter.deleteStack(toDelete);
             }
         }
     }
-}
\ No newline at end of file
+
+    private void write(RegistryFriendlyByteBuf buffer) {
+        BlockPos.STREAM_CODEC.encode(buffer, pos);
+        VarInt.write(buffer, deletes.size());
+        for (int toDelete : deletes) {
+            VarInt.write(buffer, toDelete);
+        }
+        VarInt.write(buffer, updates.size());
+        for (SyncedStack update : updates) {
+            update.write(buffer, pos);
+        }
+    }
+
+    private static PacketTransporterBatch decode(RegistryFriendlyByteBuf buffer) {
+        BlockPos pos = BlockPos.STREAM_CODEC.decode(buffer);
+        int deleteCount = VarInt.read(buffer);
+        IntSet deletes = new IntOpenHashSet(deleteCount);
+        for (int i = 0; i < deleteCount; i++) {
+            deletes.add(VarInt.read(buffer));
+        }
+        int updateCount = VarInt.read(buffer);
+        List<SyncedStack> updates = new ArrayList<>(updateCount);
+        for (int i = 0; i < updateCount; i++) {
+            updates.add(SyncedStack.read(buffer, pos));
+        }
+        return new PacketTransporterBatch(pos, deletes, updates);
+    }
+
+    /**
+     * @param itemReference Reference to the item of the stack, as gotten from {@link TransporterItemCache#intern(ItemStack)}. Only used when writing.
+     */
+    public record SyncedStack(int stackId, TransporterStack stack, int itemReference) {
+
+        void write(RegistryFriendlyByteBuf buffer, BlockPos pos) {
+            VarInt.write(buffer, stackId);
+            TransporterItemCache.write(buffer, itemReference, stack.itemStack);
+            stack.writeCompact(buffer, pos);
+        }
+
+        static SyncedStack read(RegistryFriendlyByteBuf buffer, BlockPos pos) {
+            int stackId = VarInt.read(buffer);
+            ItemStack itemStack = TransporterItemCache.read(buffer);
+            return new SyncedStack(stackId, TransporterStack.readCompact(buffer, pos, itemStack), 0);
+        }
+    }
+}
@@ -1,30 +1,31 @@
 package mekanism.common.network.to_client.transmitter;
 
 import mekanism.common.Mekanism;
+import mekanism.common.content.transporter.TransporterItemCache;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.transmitter.PacketTransporterBatch.SyncedStack;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
-public record PacketTransporterSync(BlockPos pos, int stackId, TransporterStack stack) implements IMekanismPacket {
+public record PacketTransporterSync(BlockPos pos, SyncedStack update) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketTransporterSync> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("transporter_sync"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterSync> STREAM_CODEC = StreamCodec.composite(
-          BlockPos.STREAM_CODEC, PacketTransporterSync::pos,
-          ByteBufCodecs.VAR_INT, PacketTransporterSync::stackId,
-          TransporterStack.STREAM_CODEC, PacketTransporterSync::stack,
-          PacketTransporterSync::new
-    );
-
-    public static PacketTransporterSync create(BlockPos pos, int stackId, TransporterStack stack) {
-        return new PacketTransporterSync(pos, stackId, stack.updateForPos(pos));
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterSync> STREAM_CODEC = StreamCodec.ofMember(PacketTransporterSync::write, PacketTransporterSync::decode);
+
+    /**
+     * @param player Player the packet is being sent to.
+     * @param stack  Stack to sync, {@link TransporterStack#updateForPos(BlockPos)} should already have been called on it.
+     */
+    public static PacketTransporterSync create(ServerPlayer player, BlockPos pos, int stackId, TransporterStack stack) {
+        return new PacketTransporterSync(pos, new SyncedStack(stackId, stack, TransporterItemCache.get(player).intern(stack.itemStack)));
     }
 
     @NotNull
@@ -36,7 +37,17 @@ public record PacketTransporterSync(BlockPos pos, int stackId, TransporterStack
     @Override
     public void handle(IPayloadContext context) {
         if (PacketUtils.blockEntity(context, pos) instanceof TileEntityLogisticalTransporterBase tile) {
-            tile.getTransmitter().addStack(stackId, stack);
+            tile.getTransmitter().addStack(update.stackId(), update.stack());
         }
     }
-}
\ No newline at end of file
+
+    private void write(RegistryFriendlyByteBuf buffer) {
+        BlockPos.STREAM_CODEC.encode(buffer, pos);
+        update.write(buffer, pos);
+    }
+
+    private static PacketTransporterSync decode(RegistryFriendlyByteBuf buffer) {
+        BlockPos pos = BlockPos.STREAM_CODEC.decode(buffer);
+        return new PacketTransporterSync(pos, SyncedStack.read(buffer, pos));
+    }
+}
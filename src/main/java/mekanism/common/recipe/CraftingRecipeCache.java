@@ -0,0 +1,184 @@
+package mekanism.common.recipe;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.CommonWorldTickHandler;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingInput;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Server wide cache of which crafting recipe matches a given crafting grid, shared by all the blocks that craft, so that repeatedly crafting the same things doesn't
+ * require searching through all the crafting recipes each time. Grids are keyed by their trimmed shape and the types of the items in them, ignoring the stack sizes, and
+ * grids that don't match any recipe are remembered as well. When the cache is full the least recently used grids are discarded.
+ * <p>
+ * Plain shaped and shapeless recipes only depend on the shape and the types of the items in the grid, but other recipes may depend on more than that, such as the
+ * stack sizes or the level. To handle this, cached recipes are always checked to still match, and when using a cached result of a grid not matching any recipe, the
+ * grid is still checked against all the recipes that are not plain shaped or shapeless recipes.
+ */
+@NothingNullByDefault
+public class CraftingRecipeCache {
+
+    private CraftingRecipeCache() {
+    }
+
+    private static final Object2ObjectLinkedOpenHashMap<GridKey, Optional<RecipeHolder<CraftingRecipe>>> cachedRecipes = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * The recipe manager that the cached recipes were found with. A new recipe manager gets created whenever the server's data is reloaded.
+     */
+    @Nullable
+    private static RecipeManager recipeManager;
+    /**
+     * Crafting recipes that are not plain shaped or shapeless recipes, and may therefore match grids that have the same key as a grid they didn't match.
+     */
+    private static List<RecipeHolder<CraftingRecipe>> specialRecipes = List.of();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    /**
+     * Gets the crafting recipe that matches the given input, using a cached result if the same grid has been looked up recently.
+     *
+     * @see MekanismRecipeType#getRecipeFor(RecipeType, net.minecraft.world.item.crafting.RecipeInput, Level)
+     */
+    public static Optional<RecipeHolder<CraftingRecipe>> getRecipeFor(CraftingInput input, Level level) {
+        if (level.isClientSide() || input.isEmpty()) {
+            //Only cache on the server, as we don't want to be swapping between the client's and server's recipe managers in single player
+            return MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, input, level);
+        }
+        RecipeManager manager = level.getRecipeManager();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches || manager != recipeManager) {
+            //The recipes or the tags they make use of may have changed, so forget all the recipes we have found
+            cachedRecipes.clear();
+            recipeManager = manager;
+            specialRecipes = findSpecialRecipes(manager);
+        }
+        Optional<RecipeHolder<CraftingRecipe>> recipe = cachedRecipes.getAndMoveToLast(GridKey.raw(input));
+        //Note: We validate that cached recipes still match, and that no special recipes match grids that previously didn't have a recipe,
+        // as special recipes may depend on more than the types of the items in the grid
+        if (recipe != null && (recipe.isEmpty() ? !anySpecialMatches(input, level) : recipe.get().value().matches(input, level))) {
+            hits++;
+            return recipe;
+        }
+        misses++;
+        recipe = MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, input, level);
+        cachedRecipes.putAndMoveToLast(GridKey.create(input), recipe);
+        int maxSize = MekanismConfig.general.craftingRecipeCacheSize.get();
+        while (cachedRecipes.size() > maxSize) {
+            cachedRecipes.removeFirst();
+            evictions++;
+        }
+        return recipe;
+    }
+
+    private static List<RecipeHolder<CraftingRecipe>> findSpecialRecipes(RecipeManager manager) {
+        List<RecipeHolder<CraftingRecipe>> special = new ArrayList<>();
+        for (RecipeHolder<CraftingRecipe> holder : manager.getAllRecipesFor(RecipeType.CRAFTING)) {
+            //Note: We check the exact class, as subclasses may override how the recipe matches
+            Class<?> recipeClass = holder.value().getClass();
+            if (recipeClass != ShapedRecipe.class && recipeClass != ShapelessRecipe.class) {
+                special.add(holder);
+            }
+        }
+        return special;
+    }
+
+    private static boolean anySpecialMatches(CraftingInput input, Level level) {
+        for (RecipeHolder<CraftingRecipe> holder : specialRecipes) {
+            if (holder.value().matches(input, level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static CacheStats getStats() {
+        return new CacheStats(cachedRecipes.size(), hits, misses, evictions);
+    }
+
+    public static void reset() {
+        cachedRecipes.clear();
+        recipeManager = null;
+        specialRecipes = List.of();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public record CacheStats(int grids, long hits, long misses, long evictions) {
+    }
+
+    /**
+     * Key representing the shape of a crafting grid and the types of the items in it.
+     */
+    private static final class GridKey {
+
+        private final int width;
+        private final int height;
+        private final ItemStack[] items;
+        private final int hashCode;
+
+        private GridKey(int width, int height, ItemStack[] items) {
+            this.width = width;
+            this.height = height;
+            this.items = items;
+            int hash = 31 * width + height;
+            for (ItemStack item : items) {
+                hash = 31 * hash + ItemStack.hashItemAndComponents(item);
+            }
+            this.hashCode = hash;
+        }
+
+        /**
+         * Creates a key that is backed by the stacks in the given input, which must not be kept after the input may have changed.
+         */
+        private static GridKey raw(CraftingInput input) {
+            return new GridKey(input.width(), input.height(), input.items().toArray(ItemStack[]::new));
+        }
+
+        /**
+         * Creates a key that copies the stacks in the given input, so that it can be stored.
+         */
+        private static GridKey create(CraftingInput input) {
+            List<ItemStack> inputItems = input.items();
+            ItemStack[] items = new ItemStack[inputItems.size()];
+            for (int i = 0; i < items.length; i++) {
+                ItemStack item = inputItems.get(i);
+                items[i] = item.isEmpty() ? ItemStack.EMPTY : item.copyWithCount(1);
+            }
+            return new GridKey(input.width(), input.height(), items);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (!(o instanceof GridKey other) || width != other.width || height != other.height || hashCode != other.hashCode ||
+                       items.length != other.items.length) {
+                return false;
+            }
+            for (int i = 0; i < items.length; i++) {
+                if (!ItemStack.isSameItemSameComponents(items[i], other.items[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
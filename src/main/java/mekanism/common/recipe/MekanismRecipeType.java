@@ -144,6 +144,23 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
         }
     }
 
+    /**
+     * Gets how often lookups of recipes with complex ingredients were answered by the remembered matches of each recipe type that has had any such lookups.
+     */
+    public static List<ComplexMemoStats> getComplexMemoStats() {
+        List<ComplexMemoStats> stats = new ArrayList<>();
+        for (Holder<RecipeType<?>> entry : RECIPE_TYPES.getEntries()) {
+            if (entry.value() instanceof MekanismRecipeType<?, ?, ?> recipeType) {
+                long hits = recipeType.inputCache.getComplexMemoHits();
+                long misses = recipeType.inputCache.getComplexMemoMisses();
+                if (hits > 0 || misses > 0) {
+                    stats.add(new ComplexMemoStats(recipeType.getRegistryName(), hits, misses));
+                }
+            }
+        }
+        return stats;
+    }
+
     private List<RecipeHolder<RECIPE>> cachedRecipes = Collections.emptyList();
     private final ResourceLocation registryName;
     private final INPUT_CACHE inputCache;
@@ -271,4 +288,12 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
         return level.getRecipeManager().byKey(id)
               .filter(recipe -> recipe.value().isSpecial() || !recipe.value().isIncomplete());
     }
-}
\ No newline at end of file
+
+    /**
+     * @param recipeType Recipe type the memos belong to.
+     * @param hits       Number of lookups that were answered by remembered matches.
+     * @param misses     Number of lookups that had to test the recipes with complex ingredients.
+     */
+    public record ComplexMemoStats(ResourceLocation recipeType, long hits, long misses) {
+    }
+}
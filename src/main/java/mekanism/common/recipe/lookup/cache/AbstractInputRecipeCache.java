@@ -1,7 +1,7 @@
 package mekanism.common.recipe.lookup.cache;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
@@ -17,6 +17,7 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>> implements IInputRecipeCache {
 
     protected final MekanismRecipeType<?, RECIPE, ?> recipeType;
+    private final List<ComplexRecipeMemo<?, RECIPE>> complexMemos = new ArrayList<>();
     protected boolean initialized;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType) {
@@ -27,6 +28,40 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        for (ComplexRecipeMemo<?, RECIPE> memo : complexMemos) {
+            memo.clear();
+        }
+    }
+
+    @Override
+    public long getComplexMemoHits() {
+        long hits = 0;
+        for (ComplexRecipeMemo<?, RECIPE> memo : complexMemos) {
+            hits += memo.getHits();
+        }
+        return hits;
+    }
+
+    @Override
+    public long getComplexMemoMisses() {
+        long misses = 0;
+        for (ComplexRecipeMemo<?, RECIPE> memo : complexMemos) {
+            misses += memo.getMisses();
+        }
+        return misses;
+    }
+
+    /**
+     * Creates a memo for the recipes that the given cache is unable to map, and keeps track of it so that it gets cleared when this cache is cleared.
+     *
+     * @param cache          Input cache the memo is for.
+     * @param inputExtractor Function to get the ingredient of a recipe that corresponds to the given cache.
+     */
+    protected <INPUT, INGREDIENT extends InputIngredient<INPUT>> ComplexRecipeMemo<INPUT, RECIPE> createComplexMemo(IInputCache<INPUT, INGREDIENT, RECIPE> cache,
+          Function<RECIPE, INGREDIENT> inputExtractor) {
+        ComplexRecipeMemo<INPUT, RECIPE> memo = cache.createComplexMemo(inputExtractor);
+        complexMemos.add(memo);
+        return memo;
     }
 
     /**
@@ -47,28 +82,20 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
     protected abstract void initCache(List<RecipeHolder<RECIPE>> recipes);
 
     /**
-     * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe.
+     * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback memo contains a matching recipe.
      */
     protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> boolean containsInput(
-          @Nullable Level world, INPUT input, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
+          @Nullable Level world, INPUT input, CACHE cache, ComplexRecipeMemo<INPUT, RECIPE> complexRecipes) {
         if (cache.isEmpty(input)) {
             //Don't allow empty inputs
             return false;
         }
         initCacheIfNeeded(world);
-        if (cache.contains(input)) {
-            return true;
-        }
-        for (RECIPE recipe : complexRecipes) {
-            if (inputExtractor.apply(recipe).testType(input)) {
-                return true;
-            }
-        }
-        return false;
+        return cache.contains(input) || !complexRecipes.getMatching(input).isEmpty();
     }
 
     /**
-     * Helper to check if a cache contains a given input grouping, or if not, if the complex recipe fallback set contains a matching recipe. This method is mainly used
+     * Helper to check if a cache contains a given input grouping, or if not, if the complex recipe fallback memo contains a matching recipe. This method is mainly used
      * for purposes of implementing insertion predicates, so it has the following behaviors. This allows it to short circuit in cases where we already know the input is
      * valid (the last case in the below list).
      * <ul>
@@ -78,11 +105,11 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
      */
     protected <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>, INPUT_2,
           INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>> boolean containsPairing(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1, INPUT_2 input2,
-          Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2) {
+          INPUT_1 input1, CACHE_1 cache1, ComplexRecipeMemo<INPUT_1, RECIPE> complexIngredients1, INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor,
+          CACHE_2 cache2, ComplexRecipeMemo<INPUT_2, RECIPE> complexIngredients2) {
         if (cache1.isEmpty(input1)) {
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsInput
-            return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+            return containsInput(world, input2, cache2, complexIngredients2);
         } else if (cache2.isEmpty(input2)) {
             return true;
         }
@@ -93,9 +120,9 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
                 return true;
             }
         }
-        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        for (RECIPE recipe : complexIngredients1) {
-            if (input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2)) {
+        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex and matches
+        for (RECIPE recipe : complexIngredients1.getMatching(input1)) {
+            if (input2Extractor.apply(recipe).testType(input2)) {
                 return true;
             }
         }
@@ -0,0 +1,133 @@
+package mekanism.common.recipe.lookup.cache;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenCustomHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
+import mekanism.api.annotations.NothingNullByDefault;
+
+/**
+ * Keeps track of the recipes that have an ingredient an {@link mekanism.common.recipe.lookup.cache.type.IInputCache} was unable to map, and remembers which of those
+ * recipes match the type of the inputs that have recently been looked up. This allows repeated lookups of the same input type to skip testing every complex recipe, both
+ * when some of the recipes match and when none of them do.
+ *
+ * @param <INPUT>  Type of input that recipes are looked up by.
+ * @param <RECIPE> Type of recipe.
+ */
+@NothingNullByDefault
+public class ComplexRecipeMemo<INPUT, RECIPE> {
+
+    /**
+     * Maximum number of input types to remember the matching recipes of, past which the least recently used input type is forgotten.
+     */
+    public static final int MAX_ENTRIES = 256;
+
+    private final Set<RECIPE> recipes = new HashSet<>();
+    private final Object2ObjectLinkedOpenCustomHashMap<INPUT, List<RECIPE>> matches;
+    private final UnaryOperator<INPUT> keyCreator;
+    private final BiPredicate<RECIPE, INPUT> typeMatcher;
+    private final int maxEntries;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param typeStrategy Strategy for comparing inputs by type, ignoring their size.
+     * @param keyCreator   Creates a copy of an input to store as a key, so that later changes to the input don't change the key.
+     * @param typeMatcher  Checks if a recipe's ingredient matches the type of the given input.
+     */
+    public ComplexRecipeMemo(Hash.Strategy<? super INPUT> typeStrategy, UnaryOperator<INPUT> keyCreator, BiPredicate<RECIPE, INPUT> typeMatcher) {
+        this(typeStrategy, keyCreator, typeMatcher, MAX_ENTRIES);
+    }
+
+    public ComplexRecipeMemo(Hash.Strategy<? super INPUT> typeStrategy, UnaryOperator<INPUT> keyCreator, BiPredicate<RECIPE, INPUT> typeMatcher, int maxEntries) {
+        this.matches = new Object2ObjectLinkedOpenCustomHashMap<>(typeStrategy);
+        this.keyCreator = keyCreator;
+        this.typeMatcher = typeMatcher;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Adds a recipe with a complex ingredient.
+     *
+     * @implNote This forgets any previously remembered matches, though in general recipes are only added while the recipe cache is being initialized.
+     */
+    public void add(RECIPE recipe) {
+        if (recipes.add(recipe)) {
+            matches.clear();
+        }
+    }
+
+    /**
+     * @return {@code true} if there are no recipes with complex ingredients.
+     */
+    public boolean isEmpty() {
+        return recipes.isEmpty();
+    }
+
+    /**
+     * Gets the recipes with a complex ingredient that matches the type of the given input. Note: that no validation is done here about the input matching the recipe's
+     * criteria in regard to required amounts.
+     *
+     * @param input Input to check.
+     *
+     * @return Matching recipes, or an empty list if no recipes match.
+     */
+    public List<RECIPE> getMatching(INPUT input) {
+        if (recipes.isEmpty()) {
+            //Skip bothering to remember anything if there are no complex recipes
+            return Collections.emptyList();
+        }
+        List<RECIPE> cached = matches.getAndMoveToLast(input);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        List<RECIPE> matching = new ArrayList<>();
+        for (RECIPE recipe : recipes) {
+            if (typeMatcher.test(recipe, input)) {
+                matching.add(recipe);
+            }
+        }
+        matching = matching.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matching);
+        matches.putAndMoveToLast(keyCreator.apply(input), matching);
+        if (matches.size() > maxEntries) {
+            matches.removeFirst();
+        }
+        return matching;
+    }
+
+    /**
+     * Removes all recipes and forgets all remembered matches. This does not reset the hit and miss counts.
+     */
+    public void clear() {
+        recipes.clear();
+        matches.clear();
+    }
+
+    /**
+     * @return Number of remembered input types.
+     */
+    public int size() {
+        return matches.size();
+    }
+
+    /**
+     * @return Number of lookups that were answered by a remembered result.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of lookups that had to test the complex recipes.
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -21,9 +19,12 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
       RECIPE extends MekanismRecipe<?> & BiPredicate<INPUT_A, INPUT_B>, CACHE_A extends IInputCache<INPUT_A, INGREDIENT_A, RECIPE>,
       CACHE_B extends IInputCache<INPUT_B, INGREDIENT_B, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexIngredientA = new HashSet<>();
-    private final Set<RECIPE> complexIngredientB = new HashSet<>();
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
+    private final ComplexRecipeMemo<INPUT_A, RECIPE> complexIngredientA;
+    private final ComplexRecipeMemo<INPUT_B, RECIPE> complexIngredientB;
+    /**
+     * Recipes where either ingredient is complex, remembered by the type of input A.
+     */
+    private final ComplexRecipeMemo<INPUT_A, RECIPE> complexRecipes;
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final CACHE_A cacheA;
@@ -36,6 +37,9 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         this.inputBExtractor = inputBExtractor;
         this.cacheA = cacheA;
         this.cacheB = cacheB;
+        this.complexIngredientA = createComplexMemo(cacheA, inputAExtractor);
+        this.complexIngredientB = createComplexMemo(cacheB, inputBExtractor);
+        this.complexRecipes = createComplexMemo(cacheA, inputAExtractor);
     }
 
     @Override
@@ -43,9 +47,6 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         super.clear();
         cacheA.clear();
         cacheB.clear();
-        complexIngredientA.clear();
-        complexIngredientB.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -57,7 +58,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, cacheA, complexIngredientA);
     }
 
     /**
@@ -69,7 +70,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, cacheB, complexIngredientB);
     }
 
     /**
@@ -86,7 +87,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputBA(Level, Object, Object)}.
      */
     public boolean containsInputAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB);
+        return containsPairing(world, inputA, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB);
     }
 
     /**
@@ -103,7 +104,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputAB(Level, Object, Object)}.
      */
     public boolean containsInputBA(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA);
+        return containsPairing(world, inputB, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA);
     }
 
     /**
@@ -151,7 +152,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             recipe = findFirstRecipe(inputA, inputB, cacheB.getRecipes(inputB));
         }
         // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
-        return recipe == null ? findFirstRecipe(inputA, inputB, complexRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(inputA, inputB, complexRecipes.getMatching(inputA)) : recipe;
     }
 
     @Nullable
@@ -190,8 +191,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                     return recipe;
                 }
             }
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputAExtractor.apply(complexRecipe).testType(inputA) && matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
+            for (RECIPE complexRecipe : complexRecipes.getMatching(inputA)) {
+                if (matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
                     return complexRecipe;
                 }
             }
@@ -201,11 +202,9 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                     return recipe;
                 }
             }
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputAExtractor.apply(complexRecipe).testType(inputA)) {
-                    if (inputBExtractor.apply(complexRecipe).testType(inputB) && matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
-                        return complexRecipe;
-                    }
+            for (RECIPE complexRecipe : complexRecipes.getMatching(inputA)) {
+                if (inputBExtractor.apply(complexRecipe).testType(inputB) && matchCriteria.testType(complexRecipe, inputA, inputB, data)) {
+                    return complexRecipe;
                 }
             }
         }
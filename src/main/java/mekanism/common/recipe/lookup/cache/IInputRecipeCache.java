@@ -6,4 +6,18 @@ public interface IInputRecipeCache {
      * Clears the input cache
      */
     void clear();
+
+    /**
+     * @return Number of lookups of recipes with complex ingredients that were answered by a remembered result.
+     */
+    default long getComplexMemoHits() {
+        return 0;
+    }
+
+    /**
+     * @return Number of lookups of recipes with complex ingredients that had to test the recipes.
+     */
+    default long getComplexMemoMisses() {
+        return 0;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.recipes.RotaryRecipe;
 import mekanism.common.recipe.MekanismRecipeType;
@@ -21,8 +19,8 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
 
     private final ChemicalInputCache<RotaryRecipe> chemicalInputCache = new ChemicalInputCache<>();
     private final FluidInputCache<RotaryRecipe> fluidInputCache = new FluidInputCache<>();
-    private final Set<RotaryRecipe> complexChemicalInputRecipes = new HashSet<>();
-    private final Set<RotaryRecipe> complexFluidInputRecipes = new HashSet<>();
+    private final ComplexRecipeMemo<ChemicalStack, RotaryRecipe> complexChemicalInputRecipes = createComplexMemo(chemicalInputCache, RotaryRecipe::getChemicalInput);
+    private final ComplexRecipeMemo<FluidStack, RotaryRecipe> complexFluidInputRecipes = createComplexMemo(fluidInputCache, RotaryRecipe::getFluidInput);
 
     public RotaryInputRecipeCache(MekanismRecipeType<?, RotaryRecipe, ?> recipeType) {
         super(recipeType);
@@ -33,8 +31,6 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         super.clear();
         chemicalInputCache.clear();
         fluidInputCache.clear();
-        complexChemicalInputRecipes.clear();
-        complexFluidInputRecipes.clear();
     }
 
     /**
@@ -46,7 +42,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, FluidStack input) {
-        return containsInput(world, input, RotaryRecipe::getFluidInput, fluidInputCache, complexFluidInputRecipes);
+        return containsInput(world, input, fluidInputCache, complexFluidInputRecipes);
     }
 
     /**
@@ -58,7 +54,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, ChemicalStack input) {
-        return containsInput(world, input, RotaryRecipe::getChemicalInput, chemicalInputCache, complexChemicalInputRecipes);
+        return containsInput(world, input, chemicalInputCache, complexChemicalInputRecipes);
     }
 
     /**
@@ -77,7 +73,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         }
         initCacheIfNeeded(world);
         RotaryRecipe recipe = findFirstRecipe(input, fluidInputCache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexFluidInputRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, complexFluidInputRecipes.getMatching(input)) : recipe;
     }
 
     @Nullable
@@ -106,7 +102,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         }
         initCacheIfNeeded(world);
         RotaryRecipe recipe = findFirstRecipe(input, chemicalInputCache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexChemicalInputRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, complexChemicalInputRecipes.getMatching(input)) : recipe;
     }
 
     @Nullable
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.functions.ConstantPredicates;
@@ -21,7 +19,7 @@ import org.jetbrains.annotations.Nullable;
 public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?> & Predicate<INPUT>,
       CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
+    private final ComplexRecipeMemo<INPUT, RECIPE> complexRecipes;
     private final Function<RECIPE, INGREDIENT> inputExtractor;
     private final CACHE cache;
 
@@ -29,13 +27,13 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         super(recipeType);
         this.inputExtractor = inputExtractor;
         this.cache = cache;
+        this.complexRecipes = createComplexMemo(cache, inputExtractor);
     }
 
     @Override
     public void clear() {
         super.clear();
         cache.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -47,7 +45,7 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, INPUT input) {
-        return containsInput(world, input, inputExtractor, cache, complexRecipes);
+        return containsInput(world, input, cache, complexRecipes);
     }
 
     /**
@@ -66,7 +64,7 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         }
         initCacheIfNeeded(world);
         RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, complexRecipes.getMatching(input)) : recipe;
     }
 
     @Nullable
@@ -96,10 +94,9 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         initCacheIfNeeded(world);
         RECIPE recipe = cache.findFirstRecipe(input, ConstantPredicates.alwaysTrue());
         if (recipe == null) {
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputExtractor.apply(complexRecipe).testType(input)) {
-                    return complexRecipe;
-                }
+            List<RECIPE> matchingComplex = complexRecipes.getMatching(input);
+            if (!matchingComplex.isEmpty()) {
+                return matchingComplex.getFirst();
             }
         }
         return recipe;
@@ -126,8 +123,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
                 return recipe;
             }
         }
-        for (RECIPE complexRecipe : complexRecipes) {
-            if (inputExtractor.apply(complexRecipe).testType(input) && matchCriteria.test(complexRecipe, input, data)) {
+        for (RECIPE complexRecipe : complexRecipes.getMatching(input)) {
+            if (matchCriteria.test(complexRecipe, input, data)) {
                 return complexRecipe;
             }
         }
@@ -155,8 +152,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
                 return recipe;
             }
         }
-        for (RECIPE complexRecipe : complexRecipes) {
-            if (inputExtractor.apply(complexRecipe).testType(input) && matchCriteria.testType(complexRecipe, input, data1, data2)) {
+        for (RECIPE complexRecipe : complexRecipes.getMatching(input)) {
+            if (matchCriteria.testType(complexRecipe, input, data1, data2)) {
                 return complexRecipe;
             }
         }
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
@@ -21,10 +19,13 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
       CACHE_A extends IInputCache<INPUT_A, INGREDIENT_A, RECIPE>, CACHE_B extends IInputCache<INPUT_B, INGREDIENT_B, RECIPE>,
       CACHE_C extends IInputCache<INPUT_C, INGREDIENT_C, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexIngredientA = new HashSet<>();
-    private final Set<RECIPE> complexIngredientB = new HashSet<>();
-    private final Set<RECIPE> complexIngredientC = new HashSet<>();
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
+    private final ComplexRecipeMemo<INPUT_A, RECIPE> complexIngredientA;
+    private final ComplexRecipeMemo<INPUT_B, RECIPE> complexIngredientB;
+    private final ComplexRecipeMemo<INPUT_C, RECIPE> complexIngredientC;
+    /**
+     * Recipes where any ingredient is complex, remembered by the type of input A.
+     */
+    private final ComplexRecipeMemo<INPUT_A, RECIPE> complexRecipes;
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final Function<RECIPE, INGREDIENT_C> inputCExtractor;
@@ -41,6 +42,10 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         this.cacheA = cacheA;
         this.cacheB = cacheB;
         this.cacheC = cacheC;
+        this.complexIngredientA = createComplexMemo(cacheA, inputAExtractor);
+        this.complexIngredientB = createComplexMemo(cacheB, inputBExtractor);
+        this.complexIngredientC = createComplexMemo(cacheC, inputCExtractor);
+        this.complexRecipes = createComplexMemo(cacheA, inputAExtractor);
     }
 
     @Override
@@ -49,10 +54,6 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         cacheA.clear();
         cacheB.clear();
         cacheC.clear();
-        complexIngredientA.clear();
-        complexIngredientB.clear();
-        complexIngredientC.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -64,7 +65,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, cacheA, complexIngredientA);
     }
 
     /**
@@ -76,7 +77,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, cacheB, complexIngredientB);
     }
 
     /**
@@ -88,7 +89,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputC(@Nullable Level world, INPUT_C input) {
-        return containsInput(world, input, inputCExtractor, cacheC, complexIngredientC);
+        return containsInput(world, input, cacheC, complexIngredientC);
     }
 
     /**
@@ -107,7 +108,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputCAB(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputABC(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB,
+        return containsGrouping(world, inputA, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB,
               inputC, inputCExtractor, cacheC, complexIngredientC);
     }
 
@@ -127,7 +128,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputCAB(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputBAC(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA,
+        return containsGrouping(world, inputB, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA,
               inputC, inputCExtractor, cacheC, complexIngredientC);
     }
 
@@ -147,12 +148,12 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputBAC(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputCAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputC, inputCExtractor, cacheC, complexIngredientC, inputA, inputAExtractor, cacheA, complexIngredientA,
+        return containsGrouping(world, inputC, cacheC, complexIngredientC, inputA, inputAExtractor, cacheA, complexIngredientA,
               inputB, inputBExtractor, cacheB, complexIngredientB);
     }
 
     /**
-     * Helper to check if a cache contains a given input grouping, or if not, if the complex recipe fallback set contains a matching recipe. This method is mainly used
+     * Helper to check if a cache contains a given input grouping, or if not, if the complex recipe fallback memo contains a matching recipe. This method is mainly used
      * for purposes of implementing insertion predicates, so it has the following behaviors. This allows it to short circuit in cases where we already know the input is
      * valid (the last case in the below list).
      * <ul>
@@ -166,22 +167,22 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
     private <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>,
           INPUT_2, INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>,
           INPUT_3, INGREDIENT_3 extends InputIngredient<INPUT_3>, CACHE_3 extends IInputCache<INPUT_3, INGREDIENT_3, RECIPE>> boolean containsGrouping(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1,
-          INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2,
-          INPUT_3 input3, Function<RECIPE, INGREDIENT_3> input3Extractor, CACHE_3 cache3, Set<RECIPE> complexIngredients3) {
+          INPUT_1 input1, CACHE_1 cache1, ComplexRecipeMemo<INPUT_1, RECIPE> complexIngredients1,
+          INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, ComplexRecipeMemo<INPUT_2, RECIPE> complexIngredients2,
+          INPUT_3 input3, Function<RECIPE, INGREDIENT_3> input3Extractor, CACHE_3 cache3, ComplexRecipeMemo<INPUT_3, RECIPE> complexIngredients3) {
         if (cache1.isEmpty(input1)) {
             if (cache3.isEmpty(input3)) {
                 //If 1 and 3 are empty just check 2. We have this extra check here as containsPairing will always return true
                 // if the secondary type is empty, but this is the special case when we don't want that to actually happen
-                return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+                return containsInput(world, input2, cache2, complexIngredients2);
             }
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsPairing
-            return containsPairing(world, input2, input2Extractor, cache2, complexIngredients2, input3, input3Extractor, cache3, complexIngredients3);
+            return containsPairing(world, input2, cache2, complexIngredients2, input3, input3Extractor, cache3, complexIngredients3);
         } else if (cache2.isEmpty(input2)) {
             //Note: We don't bother checking if 3 is empty here as it will be verified in containsPairing
-            return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input3, input3Extractor, cache3, complexIngredients3);
+            return containsPairing(world, input1, cache1, complexIngredients1, input3, input3Extractor, cache3, complexIngredients3);
         } else if (cache3.isEmpty(input3)) {
-            return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input2, input2Extractor, cache2, complexIngredients2);
+            return containsPairing(world, input1, cache1, complexIngredients1, input2, input2Extractor, cache2, complexIngredients2);
         }
         initCacheIfNeeded(world);
         //Note: If cache 1 contains input 1 then we only need to test the type of input 2 and 3 as we already know input 1 matches
@@ -190,11 +191,9 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                 return true;
             }
         }
-        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        for (RECIPE recipe : complexIngredients1) {
-            if (input1Extractor.apply(recipe).testType(input1) &&
-                input2Extractor.apply(recipe).testType(input2) &&
-                input3Extractor.apply(recipe).testType(input3)) {
+        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex and matches
+        for (RECIPE recipe : complexIngredients1.getMatching(input1)) {
+            if (input2Extractor.apply(recipe).testType(input2) && input3Extractor.apply(recipe).testType(input3)) {
                 return true;
             }
         }
@@ -223,7 +222,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
         RECIPE recipe = findFirstRecipe(inputA, inputB, inputC, cacheA.getRecipes(inputA));
         // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
-        return recipe == null ? findFirstRecipe(inputA, inputB, inputC, complexRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(inputA, inputB, inputC, complexRecipes.getMatching(inputA)) : recipe;
     }
 
     @Nullable
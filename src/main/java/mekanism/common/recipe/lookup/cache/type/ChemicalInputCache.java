@@ -1,12 +1,30 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.Hash;
+import java.util.function.Function;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.ChemicalStackIngredient;
+import mekanism.common.recipe.lookup.cache.ComplexRecipeMemo;
 
 public class ChemicalInputCache<RECIPE extends MekanismRecipe<?>> extends BaseInputCache<Chemical, ChemicalStack, ChemicalStackIngredient, RECIPE> {
 
+    private static final Hash.Strategy<ChemicalStack> TYPE_STRATEGY = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(ChemicalStack stack) {
+            return stack == null ? 0 : stack.getChemical().hashCode();
+        }
+
+        @Override
+        public boolean equals(ChemicalStack a, ChemicalStack b) {
+            if (a == b) {
+                return true;
+            }
+            return a != null && b != null && ChemicalStack.isSameChemical(a, b);
+        }
+    };
+
     @Override
     public boolean mapInputs(RECIPE recipe, ChemicalStackIngredient inputIngredient) {
         for (Chemical chemical : inputIngredient.ingredient().getChemicals()) {
@@ -18,6 +36,16 @@ public class ChemicalInputCache<RECIPE extends MekanismRecipe<?>> extends BaseIn
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Chemical ingredients are always able to be mapped, so in practice this memo will never contain any recipes.
+     */
+    @Override
+    public ComplexRecipeMemo<ChemicalStack, RECIPE> createComplexMemo(Function<RECIPE, ChemicalStackIngredient> inputExtractor) {
+        return new ComplexRecipeMemo<>(TYPE_STRATEGY, stack -> stack.copyWithAmount(1), (recipe, stack) -> inputExtractor.apply(recipe).testType(stack));
+    }
+
     @Override
     protected Chemical createKey(ChemicalStack stack) {
         return stack.getChemical();
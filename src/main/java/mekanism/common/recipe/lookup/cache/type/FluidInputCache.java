@@ -1,8 +1,10 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import java.util.function.Function;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.FluidStackIngredient;
 import mekanism.common.lib.collection.FluidHashStrategy;
+import mekanism.common.recipe.lookup.cache.ComplexRecipeMemo;
 import net.minecraft.world.level.material.Fluid;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.crafting.CompoundFluidIngredient;
@@ -53,6 +55,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
         return false;
     }
 
+    @Override
+    public ComplexRecipeMemo<FluidStack, RECIPE> createComplexMemo(Function<RECIPE, FluidStackIngredient> inputExtractor) {
+        return new ComplexRecipeMemo<>(FluidHashStrategy.INSTANCE, stack -> stack.copyWithAmount(1), (recipe, stack) -> inputExtractor.apply(recipe).testType(stack));
+    }
+
     @Override
     protected Fluid createKey(FluidStack stack) {
         return stack.getFluid();
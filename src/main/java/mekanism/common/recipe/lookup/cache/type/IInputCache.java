@@ -1,8 +1,10 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
+import mekanism.common.recipe.lookup.cache.ComplexRecipeMemo;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -64,6 +66,15 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      */
     boolean mapInputs(RECIPE recipe, INGREDIENT inputIngredient);
 
+    /**
+     * Creates a memo for keeping track of the recipes that this {@link IInputCache} was unable to map, which remembers the matching recipes by input type.
+     *
+     * @param inputExtractor Function to get the ingredient of a recipe that corresponds to this cache.
+     *
+     * @return Memo for the complex recipes.
+     */
+    ComplexRecipeMemo<INPUT, RECIPE> createComplexMemo(Function<RECIPE, INGREDIENT> inputExtractor);
+
     /**
      * Clears this {@link IInputCache}
      */
@@ -1,7 +1,9 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import java.util.function.Function;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.ItemStackIngredient;
+import mekanism.common.recipe.lookup.cache.ComplexRecipeMemo;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.ItemStackLinkedSet;
@@ -53,6 +55,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
         return false;
     }
 
+    @Override
+    public ComplexRecipeMemo<ItemStack, RECIPE> createComplexMemo(Function<RECIPE, ItemStackIngredient> inputExtractor) {
+        return new ComplexRecipeMemo<>(ItemStackLinkedSet.TYPE_AND_TAG, stack -> stack.copyWithCount(1), (recipe, stack) -> inputExtractor.apply(recipe).testType(stack));
+    }
+
     @Override
     protected Item createKey(ItemStack stack) {
         return stack.getItem();
@@ -247,8 +247,8 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
-        container.track(SyncableDouble.create(this::getLastTransferLoss, value -> lastTransferLoss = value));
-        container.track(SyncableDouble.create(this::getLastEnvironmentLoss, value -> lastEnvironmentLoss = value));
+        container.trackCosmetic(SyncableDouble.create(this::getLastTransferLoss, value -> lastTransferLoss = value));
+        container.trackCosmetic(SyncableDouble.create(this::getLastEnvironmentLoss, value -> lastEnvironmentLoss = value));
         //Note: We have to manually sync the energy container as we don't sync it in super and don't even always have one
         trackLastEnergy(container);
         container.track(SyncableLong.create(() -> {
@@ -97,6 +97,7 @@ import mekanism.common.lib.frequency.IFrequencyHandler;
 import mekanism.common.lib.frequency.TileComponentFrequency;
 import mekanism.common.lib.security.BlockSecurityUtils;
 import mekanism.common.lib.security.ISecurityTile;
+import mekanism.common.lib.work.MekanismWorkers;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.component.ITileComponent;
@@ -627,7 +628,6 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (tile.updateRadiationScale()) {
             sendUpdatePacket = true;
         }
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
         if (tile.canHandleHeat()) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -668,6 +668,8 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         for (ITileComponent component : components) {
             component.invalidate();
         }
+        //Cancel any background work that is still being done for this tile
+        MekanismWorkers.cancel(this);
         if (isRemote() && hasSound()) {
             updateSound();
         }
@@ -931,7 +933,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     protected void trackLastEnergy(MekanismContainer container) {
-        container.track(SyncableLong.create(lastEnergyTracker::getLastEnergyReceived, lastEnergyTracker::setLastEnergyReceived));
+        container.trackCosmetic(SyncableLong.create(lastEnergyTracker::getLastEnergyReceived, lastEnergyTracker::setLastEnergyReceived));
     }
 
     @NotNull
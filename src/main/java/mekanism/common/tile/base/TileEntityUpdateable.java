@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.TagPatch;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.PacketUpdateTile;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
@@ -35,6 +36,11 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private GlobalPos cachedCoord;
     private boolean cacheCoord;
     private long lastSave;
+    /**
+     * On the server this is the update tag that was last sent to clients, and on the client it is the update tag as of the last update packet that was received.
+     */
+    @Nullable
+    private CompoundTag lastUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -137,6 +143,12 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @NotNull
     @Override
     public CompoundTag getUpdateTag(@NotNull HolderLookup.Provider provider) {
+        //A client is being sent the full state of the tile, which may differ from what we last sent in an update packet.
+        // Forget what we last sent so that the next update packet contains the full state as well, and the client isn't left
+        // with anything it got here that the update packets wouldn't otherwise correct
+        if (level != null && !level.isClientSide()) {
+            lastUpdateTag = null;
+        }
         return getReducedUpdateTag(provider);
     }
 
@@ -162,6 +174,18 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         handleUpdateTag(tag, provider);
     }
 
+    /**
+     * Handles an update packet by applying the changes it contains to the update tag as of the last update packet, and then handling the resulting tag.
+     *
+     * @param full {@code true} if the patch contains the full update tag rather than just what changed.
+     */
+    public void handleUpdatePatch(@NotNull TagPatch patch, boolean full, @NotNull HolderLookup.Provider provider) {
+        if (full || lastUpdateTag == null) {
+            lastUpdateTag = new CompoundTag();
+        }
+        handleUpdatePacket(patch.apply(lastUpdateTag), provider);
+    }
+
     public void sendUpdatePacket() {
         sendUpdatePacket(this);
     }
@@ -172,11 +196,29 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
         } else {
-            //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
-            // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            //Note: The update is sent at the end of the tick, so that if multiple updates get requested this tick we only send one
+            TileUpdateQueue.queue(this, getWorldNN(), tracking);
+        }
+    }
+
+    void sendQueuedUpdatePacket(BlockEntity tracking) {
+        CompoundTag updateTag = getReducedUpdateTag(getWorldNN().registryAccess());
+        PacketUpdateTile packet;
+        if (lastUpdateTag == null) {
+            packet = new PacketUpdateTile(worldPosition, TagPatch.full(updateTag), true);
+        } else {
+            TagPatch patch = TagPatch.diff(lastUpdateTag, updateTag);
+            if (patch.isEmpty()) {
+                //Nothing changed since the last update we sent
+                return;
+            }
+            packet = new PacketUpdateTile(worldPosition, patch, false);
         }
+        lastUpdateTag = updateTag;
+        //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
+        // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
+        // does not need to and should not be redrawn
+        PacketUtils.sendToAllTracking(packet, tracking);
     }
 
     protected void updateModelData() {
@@ -0,0 +1,54 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * Queues up the update packets requested by tiles and sends them at the end of the level's tick, so that a tile that requests updates multiple times in a tick only sends
+ * a single packet containing its final state.
+ */
+@NothingNullByDefault
+public class TileUpdateQueue {
+
+    private TileUpdateQueue() {
+    }
+
+    /**
+     * Tiles that have a pending update in each level, and the tile whose trackers the update should be sent to.
+     */
+    private static final Map<ResourceKey<Level>, Map<TileEntityUpdateable, BlockEntity>> pendingUpdates = new Object2ObjectOpenHashMap<>();
+
+    static void queue(TileEntityUpdateable tile, Level level, BlockEntity tracking) {
+        pendingUpdates.computeIfAbsent(level.dimension(), dimension -> new Reference2ObjectLinkedOpenHashMap<>()).put(tile, tracking);
+    }
+
+    /**
+     * Sends all the pending updates for the given level.
+     */
+    public static void flush(ServerLevel level) {
+        //Remove the pending updates before sending them, so that any updates that get requested while sending get sent next tick
+        Map<TileEntityUpdateable, BlockEntity> updates = pendingUpdates.remove(level.dimension());
+        if (updates != null) {
+            for (Map.Entry<TileEntityUpdateable, BlockEntity> entry : updates.entrySet()) {
+                TileEntityUpdateable tile = entry.getKey();
+                if (!tile.isRemoved()) {
+                    tile.sendQueuedUpdatePacket(entry.getValue());
+                }
+            }
+        }
+    }
+
+    public static void clear(ServerLevel level) {
+        pendingUpdates.remove(level.dimension());
+    }
+
+    public static void reset() {
+        pendingUpdates.clear();
+    }
+}
@@ -0,0 +1,79 @@
+package mekanism.common.tile.factory;
+
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.capabilities.energy.MachineEnergyContainer;
+import mekanism.common.recipe.lookup.monitor.FactoryRecipeCacheLookupMonitor;
+
+/**
+ * Processes all the recipes of a factory for a tick as a single batch. The state that is shared by all the recipes (whether the factory can function and how much
+ * energy each recipe uses) is only looked up once per tick, and the energy used by the recipes is tracked and then extracted from the factory's energy container once
+ * all of them have been processed, rather than extracting it separately for each recipe and notifying the factory that its energy changed each time.
+ *
+ * @implNote This does not change the outcome of processing the recipes, as each recipe still only sees the energy that is left after the recipes before it used what
+ * they needed.
+ */
+@NothingNullByDefault
+public class FactoryProcessingBatch {
+
+    private final TileEntityFactory<?> factory;
+    private boolean processing;
+    private boolean canFunction;
+    private long energyPerTick;
+    private long availableEnergy;
+    private long usedEnergy;
+
+    FactoryProcessingBatch(TileEntityFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Starts processing the factory's recipes for this tick.
+     */
+    void begin() {
+        MachineEnergyContainer<TileEntityFactory<?>> energyContainer = factory.energyContainer;
+        canFunction = factory.canFunction();
+        energyPerTick = energyContainer.getEnergyPerTick();
+        availableEnergy = energyContainer.getEnergy();
+        usedEnergy = 0;
+        processing = true;
+    }
+
+    /**
+     * Finishes processing the factory's recipes for this tick, and extracts all the energy that they used.
+     */
+    void end() {
+        processing = false;
+        if (usedEnergy > 0) {
+            factory.energyContainer.extract(usedEnergy, Action.EXECUTE, AutomationType.INTERNAL);
+            usedEnergy = 0;
+        }
+    }
+
+    public boolean canFunction() {
+        return processing ? canFunction : factory.canFunction();
+    }
+
+    public long getEnergyPerTick() {
+        return processing ? energyPerTick : factory.energyContainer.getEnergyPerTick();
+    }
+
+    public long getStoredEnergy() {
+        return processing ? availableEnergy : factory.energyContainer.getEnergy();
+    }
+
+    public void useEnergy(long energy) {
+        if (!processing) {
+            factory.energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+        } else if (energy > 0) {
+            energy = Math.min(energy, availableEnergy);
+            availableEnergy -= energy;
+            usedEnergy += energy;
+            //Unpause the remaining recipes the same as if the energy had been extracted from the container, so that they see the same state they would have
+            for (FactoryRecipeCacheLookupMonitor<?> cacheLookupMonitor : factory.recipeCacheLookupMonitors) {
+                cacheLookupMonitor.unpause();
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package mekanism.common.tile.factory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.tile.factory.TileEntityFactory.ProcessInfo;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of what type of item is in each of a factory's input slots, and how many of each type there are in total, that gets kept up to date by the listeners of the
+ * input slots. This allows a factory that is sorting its inputs to rebalance them as items get used or inserted without re-planning the layout of all the slots, so long
+ * as the only thing that changed is how many items are in the slots.
+ */
+@NothingNullByDefault
+public class FactorySortIndex {
+
+    private static long plannedSorts;
+    private static long incrementalSorts;
+    private static long moves;
+    private static int maxMoves;
+
+    private final HashedItem[] types;
+    private final int[] counts;
+    private final boolean[] changed;
+    private final Map<HashedItem, InputGroup> groups = new HashMap<>();
+    private boolean anyChanged;
+    private boolean targetsChanged;
+    private boolean valid;
+
+    FactorySortIndex(int processes) {
+        types = new HashedItem[processes];
+        counts = new int[processes];
+        changed = new boolean[processes];
+    }
+
+    /**
+     * Marks that the contents of the given process' input slot changed.
+     */
+    public void markChanged(int process) {
+        changed[process] = true;
+        anyChanged = true;
+    }
+
+    /**
+     * Marks that something other than the inputs changed that may affect which empty slots inputs can be moved into, such as the contents of an output slot.
+     */
+    public void markTargetsChanged() {
+        targetsChanged = true;
+    }
+
+    /**
+     * Marks that the layout of the slots needs to be re-planned from scratch, for example because the recipes may have changed.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Updates the counts of the slots that changed since this was last updated.
+     *
+     * @return {@code true} if the index is still valid, {@code false} if the layout of the slots needs to be re-planned because a slot was emptied, filled, or now
+     * contains a different type of item.
+     */
+    boolean update(ProcessInfo[] processInfoSlots) {
+        if (anyChanged) {
+            anyChanged = false;
+            for (int process = 0; process < changed.length; process++) {
+                if (changed[process]) {
+                    changed[process] = false;
+                    if (valid) {
+                        updateSlot(process, processInfoSlots[process].inputSlot().getStack());
+                    }
+                }
+            }
+        }
+        return valid;
+    }
+
+    private void updateSlot(int process, ItemStack stack) {
+        HashedItem type = types[process];
+        if (type == null) {
+            if (!stack.isEmpty()) {
+                valid = false;
+            }
+        } else if (ItemStack.isSameItemSameComponents(type.getInternalStack(), stack)) {
+            groups.get(type).totalCount += stack.getCount() - counts[process];
+            counts[process] = stack.getCount();
+        } else {
+            valid = false;
+        }
+    }
+
+    /**
+     * Clears the index so that it can be rebuilt while the layout of the slots is being re-planned.
+     */
+    void clear() {
+        Arrays.fill(types, null);
+        Arrays.fill(counts, 0);
+        Arrays.fill(changed, false);
+        groups.clear();
+        anyChanged = false;
+        targetsChanged = false;
+        valid = true;
+    }
+
+    /**
+     * Adds the contents of a non-empty input slot to the index while it is being rebuilt.
+     *
+     * @param stack Stack in the process' input slot, this is copied if it is needed as a key.
+     */
+    void add(int process, ItemStack stack) {
+        InputGroup group = groups.get(HashedItem.raw(stack));
+        if (group == null) {
+            HashedItem type = HashedItem.create(stack);
+            group = new InputGroup(type);
+            groups.put(type, group);
+        }
+        types[process] = group.type;
+        counts[process] = stack.getCount();
+        group.totalCount += stack.getCount();
+        group.processCount++;
+    }
+
+    /**
+     * Sets how many slots the given type of input was able to fill when the layout of the slots was last planned.
+     */
+    void setPlannedMaxSlots(HashedItem type, int maxSlots) {
+        InputGroup group = groups.get(type);
+        if (group != null) {
+            group.plannedMaxSlots = maxSlots;
+        }
+    }
+
+    @Nullable
+    HashedItem getType(int process) {
+        return types[process];
+    }
+
+    Collection<InputGroup> getGroups() {
+        return groups.values();
+    }
+
+    boolean hasEmptySlots() {
+        for (HashedItem type : types) {
+            if (type == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean haveTargetsChanged() {
+        return targetsChanged;
+    }
+
+    static void onSorted(boolean planned, int moved) {
+        if (planned) {
+            plannedSorts++;
+        } else {
+            incrementalSorts++;
+        }
+        moves += moved;
+        maxMoves = Math.max(maxMoves, moved);
+    }
+
+    public static SortStats getStats() {
+        return new SortStats(plannedSorts, incrementalSorts, moves, maxMoves);
+    }
+
+    public static void reset() {
+        plannedSorts = 0;
+        incrementalSorts = 0;
+        moves = 0;
+        maxMoves = 0;
+    }
+
+    /**
+     * @param plannedSorts     Number of times factories re-planned the layout of all their slots.
+     * @param incrementalSorts Number of times factories rebalanced their slots using the index.
+     * @param moves            Number of input slots that sorting has changed the contents of.
+     * @param maxMoves         Most input slots a single factory has changed the contents of in one tick.
+     */
+    public record SortStats(long plannedSorts, long incrementalSorts, long moves, int maxMoves) {
+    }
+
+    static class InputGroup {
+
+        final HashedItem type;
+        int totalCount;
+        int processCount;
+        /**
+         * How many slots there were enough items of this type to fill when the layout was last planned, if there are at most this many we know that we won't be able to
+         * move any of them into the empty slots.
+         */
+        int plannedMaxSlots;
+
+        private InputGroup(HashedItem type) {
+            this.type = type;
+        }
+    }
+}
@@ -127,9 +127,9 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     public CachedRecipe<CombinerRecipe> createNewCachedRecipe(@NotNull CombinerRecipe recipe, int cacheIndex) {
         return TwoInputCachedRecipe.combiner(recipe, recheckAllRecipeErrors[cacheIndex], inputHandlers[cacheIndex], extraInputHandler, outputHandlers[cacheIndex])
               .setErrorsChanged(errors -> errorTracker.onErrorsChanged(errors, cacheIndex))
-              .setCanHolderFunction(this::canFunction)
+              .setCanHolderFunction(processingBatch::canFunction)
               .setActive(active -> setActiveState(active, cacheIndex))
-              .setEnergyRequirements(energyContainer::getEnergyPerTick, energyContainer)
+              .setEnergyRequirements(processingBatch::getEnergyPerTick, processingBatch::getStoredEnergy, processingBatch::useEnergy)
               .setRequiredTicks(this::getTicksRequired)
               .setOnFinish(this::markForSave)
               .setOperatingTicksChanged(operatingTicks -> progress[cacheIndex] = operatingTicks);
@@ -99,6 +99,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     private int ticksRequired = BASE_TICKS_REQUIRED;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    private FactorySortIndex sortIndex;
     private long lastUsage = 0L;
 
     /**
@@ -108,6 +109,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     protected final FactoryType type;
 
     protected MachineEnergyContainer<TileEntityFactory<?>> energyContainer;
+    protected final FactoryProcessingBatch processingBatch;
     protected final List<IInventorySlot> inputSlots;
     protected final List<IInventorySlot> outputSlots;
     @WrappingComputerMethod(wrapper = ComputerIInventorySlotWrapper.class, methodNames = "getEnergyItem", docPlaceholder = "energy slot")
@@ -147,6 +149,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
             recheckAllRecipeErrors[i] = TileEntityRecipeMachine.shouldRecheckAllErrors(this);
         }
         errorTracker = new ErrorTracker(errorTypes, globalErrorTypes, tier.processes);
+        processingBatch = new FactoryProcessingBatch(this);
     }
 
     /**
@@ -156,7 +159,9 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     protected IContentsListener markAllMonitorsChanged(IContentsListener listener) {
         return () -> {
             listener.onContentsChanged();
-            //Note: Updating sorting is handled by the onChange calls
+            //Note: Updating sorting is handled by the onChange calls, but as this may change what recipes the inputs can be used for,
+            // we also need to mark that which empty slots the inputs can be moved into may have changed
+            sortIndex.markTargetsChanged();
             for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
                 cacheLookupMonitor.onChange();
             }
@@ -167,10 +172,14 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
+        sortIndex = new FactorySortIndex(tier.processes);
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            int process = i;
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, () -> {
+                sortingNeeded = true;
+                sortIndex.markChanged(process);
+            });
         }
     }
 
@@ -195,6 +204,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
             listener.onContentsChanged();
             //Mark sorting as being needed again
             sortingNeeded = true;
+            //Note: This is used for the output slots, which affect which empty slots the inputs can be moved into
+            sortIndex.markTargetsChanged();
         });
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
         //Note: We can just pass ourselves as the listener instead of the listener that updates sorting as well,
@@ -220,6 +231,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         energySlot.fillContainerOrConvert();
 
         handleSecondaryFuel();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //The recipes may have changed, so we can't rely on the layout we last planned still being valid
+            sortIndex.invalidate();
+        }
         if (sortingNeeded && isSorting()) {
             //If sorting is needed, and we have sorting enabled mark
             // sorting as no longer needed and sort the inventory
@@ -242,11 +257,17 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
         // we can then use minusEqual instead of subtract to remove an extra copy call
         long prev = energyContainer.getEnergy();
-        for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            if (!recipeCacheLookupMonitors[i].updateAndProcess()) {
-                //If we don't have a recipe in that slot make sure that our active state for that position is false
-                activeStates[i] = false;
+        //Process all the slots as a single batch so that the energy they use only has to be extracted from the energy container once
+        processingBatch.begin();
+        try {
+            for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
+                if (!recipeCacheLookupMonitors[i].updateAndProcess()) {
+                    //If we don't have a recipe in that slot make sure that our active state for that position is false
+                    activeStates[i] = false;
+                }
             }
+        } finally {
+            processingBatch.end();
         }
 
         //Update the active state based on the current active state of each recipe
@@ -454,7 +475,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         super.addContainerTrackers(container);
         container.trackArray(progress);
         errorTracker.track(container);
-        container.track(SyncableLong.create(this::getLastUsage, value -> lastUsage = value));
+        container.trackCosmetic(SyncableLong.create(this::getLastUsage, value -> lastUsage = value));
         container.track(SyncableBoolean.create(this::isSorting, value -> sorting = value));
         container.track(SyncableInt.create(this::getTicksRequired, value -> ticksRequired = value));
     }
@@ -519,6 +540,91 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     //End methods IComputerTile
 
     private void sortInventory() {
+        if (sortIndex.update(processInfoSlots)) {
+            //If only the amount of items in the slots changed since we last planned the layout, try to just rebalance the inputs
+            int moved = rebalanceInputs();
+            if (moved != -1) {
+                FactorySortIndex.onSorted(false, moved);
+                return;
+            }
+        }
+        FactorySortIndex.onSorted(true, planInventory());
+    }
+
+    /**
+     * Rebalances the inputs between the slots they are currently in, using the sort index to avoid having to look at how the inputs are spread out from scratch.
+     *
+     * @return How many slots had their contents changed, or {@code -1} if the layout of the slots needs to be re-planned as some inputs may be able to be moved into empty
+     * slots, or we don't know how many of an input the recipe needs.
+     */
+    private int rebalanceInputs() {
+        boolean hasEmptySlots = sortIndex.hasEmptySlots();
+        if (hasEmptySlots && sortIndex.haveTargetsChanged()) {
+            //Something changed that may have made it possible for inputs to be moved into the empty slots
+            return -1;
+        }
+        Map<HashedItem, InputDistribution> distributions = new HashMap<>();
+        for (FactorySortIndex.InputGroup group : sortIndex.getGroups()) {
+            int maxStackSize = group.type.getMaxStackSize();
+            boolean needsBalancing = group.processCount > 1 && group.totalCount / group.processCount != maxStackSize;
+            if (!needsBalancing && !hasEmptySlots) {
+                continue;
+            }
+            int minPerSlot = getIndexedMinPerSlot(group.type);
+            if (minPerSlot == -1) {
+                return -1;
+            } else if (hasEmptySlots) {
+                int maxSlots = group.totalCount / minPerSlot;
+                if (maxSlots > 1 && maxSlots > group.processCount && maxSlots > group.plannedMaxSlots) {
+                    //We have enough of the input that it may be able to be moved into more of the empty slots than when we last planned the layout
+                    return -1;
+                }
+            }
+            if (needsBalancing) {
+                distributions.put(group.type, new InputDistribution(group.totalCount, group.processCount, maxStackSize, minPerSlot));
+            }
+        }
+        int moved = 0;
+        if (!distributions.isEmpty()) {
+            for (ProcessInfo processInfo : processInfoSlots) {
+                HashedItem item = sortIndex.getType(processInfo.process());
+                if (item != null) {
+                    InputDistribution distribution = distributions.get(item);
+                    if (distribution != null && setInputSize(processInfo.inputSlot(), item, distribution.nextSize())) {
+                        moved++;
+                    }
+                }
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Gets the minimum amount of the given input that should be in each slot, based on the first slot containing the input that has a valid cached recipe, which matches
+     * how {@link #planInventory()} determines it.
+     *
+     * @return Minimum amount per slot, or {@code -1} if none of the slots containing the input have a valid cached recipe.
+     */
+    private int getIndexedMinPerSlot(HashedItem item) {
+        for (ProcessInfo processInfo : processInfoSlots) {
+            if (item.equals(sortIndex.getType(processInfo.process()))) {
+                ItemStack inputStack = processInfo.inputSlot().getStack();
+                CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
+                if (isCachedRecipeValid(cachedRecipe, inputStack)) {
+                    return Math.max(1, getNeededInput(cachedRecipe.getRecipe(), inputStack));
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Plans the layout of all the slots from scratch, and rebuilds the sort index based on it.
+     *
+     * @return How many slots had their contents changed.
+     */
+    private int planInventory() {
+        sortIndex.clear();
         Map<HashedItem, RecipeProcessInfo<RECIPE>> processes = new HashMap<>();
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
         for (ProcessInfo processInfo : processInfoSlots) {
@@ -527,6 +633,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                 emptyProcesses.add(processInfo);
             } else {
                 ItemStack inputStack = inputSlot.getStack();
+                sortIndex.add(processInfo.process(), inputStack);
                 HashedItem item = HashedItem.raw(inputStack);
                 RecipeProcessInfo<RECIPE> recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo<>());
                 recipeProcessInfo.processes.add(processInfo);
@@ -548,7 +655,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         }
         if (processes.isEmpty()) {
             //If all input slots are empty, just exit
-            return;
+            return 0;
         }
         for (Entry<HashedItem, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
             RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
@@ -580,7 +687,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
             // spare items to distribute to them
         }
         //Distribute items among the slots
-        distributeItems(processes);
+        return distributeItems(processes);
     }
 
     private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes, List<ProcessInfo> emptyProcesses) {
@@ -588,6 +695,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
             RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
             int minPerSlot = recipeProcessInfo.getMinPerSlot(this);
             int maxSlots = recipeProcessInfo.totalCount / minPerSlot;
+            sortIndex.setPlannedMaxSlots(entry.getKey(), maxSlots);
             if (maxSlots <= 1) {
                 //If we don't have enough to even fill the input for a slot for a single recipe; skip
                 continue;
@@ -626,7 +734,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         }
     }
 
-    private void distributeItems(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes) {
+    private int distributeItems(Map<HashedItem, RecipeProcessInfo<RECIPE>> processes) {
+        int moved = 0;
         for (Entry<HashedItem, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
             RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
             int processCount = recipeProcessInfo.processes.size();
@@ -637,13 +746,94 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
             HashedItem item = entry.getKey();
             //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones here, so it doesn't matter)
             int maxStackSize = item.getMaxStackSize();
-            int numberPerSlot = recipeProcessInfo.totalCount / processCount;
-            if (numberPerSlot == maxStackSize) {
+            if (recipeProcessInfo.totalCount / processCount == maxStackSize) {
                 //If all the slots are already maxed out; short-circuit, no balancing is needed
                 continue;
             }
-            int remainder = recipeProcessInfo.totalCount % processCount;
-            int minPerSlot = recipeProcessInfo.getMinPerSlot(this);
+            InputDistribution distribution = new InputDistribution(recipeProcessInfo.totalCount, processCount, maxStackSize, recipeProcessInfo.getMinPerSlot(this));
+            for (int i = 0; i < processCount; i++) {
+                if (setInputSize(recipeProcessInfo.processes.get(i).inputSlot(), item, distribution.nextSize())) {
+                    moved++;
+                }
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Sets how many items are in the given input slot.
+     *
+     * @return {@code true} if the contents of the slot changed.
+     */
+    private boolean setInputSize(FactoryInputInventorySlot inputSlot, HashedItem item, int sizeForSlot) {
+        if (inputSlot.isEmpty()) {
+            //Note: sizeForSlot should never be zero here as we would not have added
+            // the empty slot to this item's distribution grouping if it would not
+            // end up getting any items; check it just in case though before creating
+            // a stack for the slot and setting it
+            if (sizeForSlot > 0) {
+                //Note: We use setStackUnchecked here, as there is a very small chance that
+                // the stack is not actually valid for the slot because of a reload causing
+                // recipes to change. If this is the case, then we want to properly not crash,
+                // but we would rather not add any extra overhead about revalidating the item
+                // each time as it can get somewhat expensive.
+                inputSlot.setStackUnchecked(item.createStack(sizeForSlot));
+                return true;
+            }
+        } else if (sizeForSlot == 0) {
+            //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
+            // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
+            inputSlot.setEmpty();
+            return true;
+        } else if (inputSlot.getCount() != sizeForSlot) {
+            //Otherwise, if our slot doesn't already contain the amount we want it to,
+            // we need to adjust how much is stored in it, and log an error if it changed
+            // by a different amount then we expected
+            //Note: We use setStackSize here rather than setStack to avoid an unnecessary stack copy call
+            // as copying item stacks can sometimes be rather expensive in a heavily modded environment
+            MekanismUtils.logMismatchedStackSize(sizeForSlot, inputSlot.setStackSize(sizeForSlot, Action.EXECUTE));
+            return true;
+        }
+        return false;
+    }
+
+    public record ProcessInfo(int process, @NotNull FactoryInputInventorySlot inputSlot, @NotNull IInventorySlot outputSlot,
+                              @Nullable IInventorySlot secondaryOutputSlot) {
+    }
+
+    private static class RecipeProcessInfo<RECIPE extends MekanismRecipe<?>> {
+
+        private final List<ProcessInfo> processes = new ArrayList<>();
+        @Nullable
+        private ToIntBiFunction<RecipeProcessInfo<RECIPE>, TileEntityFactory<RECIPE>> lazyMinPerSlot;
+        private Object item;
+        private RECIPE recipe;
+        private int minPerSlot = 1;
+        private int totalCount;
+
+        public int getMinPerSlot(TileEntityFactory<RECIPE> factory) {
+            if (lazyMinPerSlot != null) {
+                //Get the value lazily
+                minPerSlot = Math.max(1, lazyMinPerSlot.applyAsInt(this, factory));
+                lazyMinPerSlot = null;
+            }
+            return minPerSlot;
+        }
+    }
+
+    /**
+     * Calculates how many of an input each slot containing it should have, so that it is spread out as evenly as possible in multiples of how much the recipe requires.
+     */
+    private static class InputDistribution {
+
+        private int numberPerSlot;
+        private int remainder;
+        private int minPerSlot;
+
+        private InputDistribution(int totalCount, int processCount, int maxStackSize, int minPerSlot) {
+            numberPerSlot = totalCount / processCount;
+            remainder = totalCount % processCount;
+            this.minPerSlot = minPerSlot;
             if (minPerSlot > 1) {
                 int perSlotRemainder = numberPerSlot % minPerSlot;
                 if (perSlotRemainder > 0) {
@@ -671,80 +861,31 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     // which means that our remainder is actually at most:
                     // processCount * (maxStackSize - numberPerSlot) - 1
                     // so we can safely set our per slot distribution to maxStackSize - numberPerSlot
-                    minPerSlot = maxStackSize - numberPerSlot;
-                }
-            }
-            for (int i = 0; i < processCount; i++) {
-                ProcessInfo processInfo = recipeProcessInfo.processes.get(i);
-                FactoryInputInventorySlot inputSlot = processInfo.inputSlot();
-                int sizeForSlot = numberPerSlot;
-                if (remainder > 0) {
-                    //If we have a remainder, factor it into our slots
-                    if (remainder > minPerSlot) {
-                        //If our remainder is greater than how much we need to fill out the min amount for the slot based
-                        // on the recipe then, to keep it distributed as evenly as possible, increase our size for the slot
-                        // by how much we need, and decrease our remainder by that amount
-                        sizeForSlot += minPerSlot;
-                        remainder -= minPerSlot;
-                    } else {
-                        //Otherwise, add our entire remainder to the size for slot, and mark our remainder as fully used
-                        sizeForSlot += remainder;
-                        remainder = 0;
-                    }
-                }
-                if (inputSlot.isEmpty()) {
-                    //Note: sizeForSlot should never be zero here as we would not have added
-                    // the empty slot to this item's distribution grouping if it would not
-                    // end up getting any items; check it just in case though before creating
-                    // a stack for the slot and setting it
-                    if (sizeForSlot > 0) {
-                        //Note: We use setStackUnchecked here, as there is a very small chance that
-                        // the stack is not actually valid for the slot because of a reload causing
-                        // recipes to change. If this is the case, then we want to properly not crash,
-                        // but we would rather not add any extra overhead about revalidating the item
-                        // each time as it can get somewhat expensive.
-                        inputSlot.setStackUnchecked(item.createStack(sizeForSlot));
-                    }
-                } else {
-                    //Slot is not currently empty
-                    if (sizeForSlot == 0) {
-                        //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
-                        // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
-                        inputSlot.setEmpty();
-                    } else if (inputSlot.getCount() != sizeForSlot) {
-                        //Otherwise, if our slot doesn't already contain the amount we want it to,
-                        // we need to adjust how much is stored in it, and log an error if it changed
-                        // by a different amount then we expected
-                        //Note: We use setStackSize here rather than setStack to avoid an unnecessary stack copy call
-                        // as copying item stacks can sometimes be rather expensive in a heavily modded environment
-                        MekanismUtils.logMismatchedStackSize(sizeForSlot, inputSlot.setStackSize(sizeForSlot, Action.EXECUTE));
-                    }
+                    this.minPerSlot = maxStackSize - numberPerSlot;
                 }
             }
         }
-    }
-
-    public record ProcessInfo(int process, @NotNull FactoryInputInventorySlot inputSlot, @NotNull IInventorySlot outputSlot,
-                              @Nullable IInventorySlot secondaryOutputSlot) {
-    }
-
-    private static class RecipeProcessInfo<RECIPE extends MekanismRecipe<?>> {
 
-        private final List<ProcessInfo> processes = new ArrayList<>();
-        @Nullable
-        private ToIntBiFunction<RecipeProcessInfo<RECIPE>, TileEntityFactory<RECIPE>> lazyMinPerSlot;
-        private Object item;
-        private RECIPE recipe;
-        private int minPerSlot = 1;
-        private int totalCount;
-
-        public int getMinPerSlot(TileEntityFactory<RECIPE> factory) {
-            if (lazyMinPerSlot != null) {
-                //Get the value lazily
-                minPerSlot = Math.max(1, lazyMinPerSlot.applyAsInt(this, factory));
-                lazyMinPerSlot = null;
+        /**
+         * @return How many items the next slot should have.
+         */
+        private int nextSize() {
+            int sizeForSlot = numberPerSlot;
+            if (remainder > 0) {
+                //If we have a remainder, factor it into our slots
+                if (remainder > minPerSlot) {
+                    //If our remainder is greater than how much we need to fill out the min amount for the slot based
+                    // on the recipe then, to keep it distributed as evenly as possible, increase our size for the slot
+                    // by how much we need, and decrease our remainder by that amount
+                    sizeForSlot += minPerSlot;
+                    remainder -= minPerSlot;
+                } else {
+                    //Otherwise, add our entire remainder to the size for slot, and mark our remainder as fully used
+                    sizeForSlot += remainder;
+                    remainder = 0;
+                }
             }
-            return minPerSlot;
+            return sizeForSlot;
         }
     }
 
@@ -230,9 +230,9 @@ public class TileEntityItemStackChemicalToItemStackFactory extends TileEntityIte
         }
         return cachedRecipe
               .setErrorsChanged(errors -> errorTracker.onErrorsChanged(errors, cacheIndex))
-              .setCanHolderFunction(this::canFunction)
+              .setCanHolderFunction(processingBatch::canFunction)
               .setActive(active -> setActiveState(active, cacheIndex))
-              .setEnergyRequirements(energyContainer::getEnergyPerTick, energyContainer)
+              .setEnergyRequirements(processingBatch::getEnergyPerTick, processingBatch::getStoredEnergy, processingBatch::useEnergy)
               .setRequiredTicks(this::getTicksRequired)
               .setOnFinish(this::markForSave)
               .setOperatingTicksChanged(operatingTicks -> progress[cacheIndex] = operatingTicks);
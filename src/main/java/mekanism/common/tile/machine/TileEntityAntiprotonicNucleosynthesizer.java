@@ -232,6 +232,6 @@ public class TileEntityAntiprotonicNucleosynthesizer extends TileEntityProgressM
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
-        container.track(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
+        container.trackCosmetic(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
     }
 }
@@ -219,6 +219,6 @@ public class TileEntityChemicalInfuser extends TileEntityRecipeMachine<ChemicalC
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
-        container.track(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
+        container.trackCosmetic(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
     }
 }
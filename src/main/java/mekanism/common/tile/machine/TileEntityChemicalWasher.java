@@ -227,6 +227,6 @@ public class TileEntityChemicalWasher extends TileEntityRecipeMachine<FluidChemi
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
-        container.track(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
+        container.trackCosmetic(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
     }
 }
@@ -793,7 +793,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -805,8 +805,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
-        searcher = new ThreadMinerSearch(this);
+        searcher = new ThreadMinerSearch(this, searcher.getResult());
         running = false;
         cachedToMine = 0;
         oresToMine = Long2ObjectMaps.emptyMap();
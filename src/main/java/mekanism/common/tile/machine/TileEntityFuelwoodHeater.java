@@ -112,7 +112,7 @@ public class TileEntityFuelwoodHeater extends TileEntityMekanism {
         super.addContainerTrackers(container);
         container.track(SyncableInt.create(() -> burnTime, value -> burnTime = value));
         container.track(SyncableInt.create(() -> maxBurnTime, value -> maxBurnTime = value));
-        container.track(SyncableDouble.create(this::getLastTransferLoss, value -> lastTransferLoss = value));
-        container.track(SyncableDouble.create(this::getLastEnvironmentLoss, value -> lastEnvironmentLoss = value));
+        container.trackCosmetic(SyncableDouble.create(this::getLastTransferLoss, value -> lastTransferLoss = value));
+        container.trackCosmetic(SyncableDouble.create(this::getLastEnvironmentLoss, value -> lastEnvironmentLoss = value));
     }
 }
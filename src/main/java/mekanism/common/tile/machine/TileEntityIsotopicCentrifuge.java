@@ -204,6 +204,6 @@ public class TileEntityIsotopicCentrifuge extends TileEntityRecipeMachine<Chemic
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
-        container.track(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
+        container.trackCosmetic(SyncableLong.create(this::getEnergyUsed, value -> clientEnergyUsed = value));
     }
 }
@@ -352,10 +352,10 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                 //If the neighbor change happened from inside the bounds of the multiblock,
                 if (level.isEmptyBlock(neighborPos) || !multiblock.internalLocations.contains(neighborPos)) {
                     //And we are not already an internal part of the structure, or we are changing an internal part to air
-                    // then we mark the structure as needing to be re-validated
+                    // then we mark the position as needing to be re-validated
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    getStructure().markChanged(level, neighborPos);
                 }
             }
         }
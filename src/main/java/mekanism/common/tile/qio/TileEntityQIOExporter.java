@@ -5,11 +5,10 @@ import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Collection;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.ToIntFunction;
+import java.util.function.ToIntBiFunction;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.SerializationConstants;
@@ -24,7 +23,6 @@ import mekanism.common.capabilities.item.CursedTransporterItemHandler;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase.PathCalculator;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.qio.filter.QIOItemStackFilter;
 import mekanism.common.content.qio.filter.QIOModIDFilter;
@@ -65,10 +63,10 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements IAdvancedTransportEjector {
 
-    private static final EfficientEjector<Object2LongMap.Entry<HashedItem>> FILTER_EJECTOR = new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()),
-          (exporter, freq) -> exporter.getFilterEjectMap(freq).object2LongEntrySet());
-    private static final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> FILTERLESS_EJECTOR =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()), (exporter, freq) -> freq.getItemDataMap().entrySet());
+    private static final EfficientEjector<Object2LongMap.Entry<HashedItem>> FILTER_EJECTOR = new EfficientEjector<>(Entry::getKey,
+          (freq, e) -> MathUtils.clampToInt(e.getLongValue()), (exporter, freq) -> exporter.getFilterEjectMap(freq).object2LongEntrySet());
+    private static final EfficientEjector<HashedItem> FILTERLESS_EJECTOR = new EfficientEjector<>(Function.identity(),
+          (freq, type) -> MathUtils.clampToInt(freq.getStoredByHash(type)), (exporter, freq) -> freq.getItemTypes());
     private static final int MAX_DELAY = MekanismUtils.TICKS_PER_HALF_SECOND;
 
     @Nullable
@@ -308,7 +306,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
      *
      * @author aidancbrady
      */
-    private record EfficientEjector<T>(Function<T, HashedItem> typeSupplier, ToIntFunction<T> countSupplier,
+    private record EfficientEjector<T>(Function<T, HashedItem> typeSupplier, ToIntBiFunction<QIOFrequency, T> countSupplier,
                                        BiFunction<TileEntityQIOExporter, QIOFrequency, Collection<T>> ejectMapCalculator) {
 
         private static final double MAX_EJECT_ATTEMPTS = 100;
@@ -353,7 +351,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
                     continue;
                 }
                 HashedItem type = typeSupplier.apply(obj);
-                int amountToInsert = Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj));
+                int amountToInsert = Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(freq, obj));
                 ItemStack origInsert = type.createStack(amountToInsert);
                 int toUse;
                 if (transporter == null) {
@@ -1,18 +1,15 @@
 package mekanism.common.util;
 
-import mekanism.common.lib.distribution.IntegerSplitInfo;
-import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 
-public class EmitUtils {//TODO: Make things work with primitives more directly rather than having to do the boxing and unboxing
+public class EmitUtils {
 
     private EmitUtils() {
     }
 
     /**
      * @param <HANDLER>        The handler of our target.
-     * @param <TYPE>           The type of the number
      * @param <EXTRA>          Any extra information we may need.
      * @param <TARGET>         The emitter target.
      * @param availableTargets The targets to distribute toSend fairly among.
@@ -21,8 +18,7 @@ public class EmitUtils {//TODO: Make things work with primitives more directly r
      *
      * @return The amount that actually got sent.
      */
-    private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          TARGET availableTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+    private static <HANDLER, EXTRA, TARGET extends Target<HANDLER, EXTRA>> long sendToAcceptors(TARGET availableTargets, SplitInfo splitInfo, EXTRA toSend) {
         if (availableTargets.getHandlerCount() == 0) {
             return splitInfo.getTotalSent();
         }
@@ -55,8 +51,9 @@ public class EmitUtils {//TODO: Make things work with primitives more directly r
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(TARGET availableTargets, int amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, new IntegerSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, EXTRA>> int sendToAcceptors(TARGET availableTargets, int amountToSplit, EXTRA toSend) {
+        //Note: The cast is safe as an integer split info never sends more than the int amount we are splitting
+        return (int) sendToAcceptors(availableTargets, availableTargets.integerSplitInfo(amountToSplit), toSend);
     }
 
     /**
@@ -69,7 +66,7 @@ public class EmitUtils {//TODO: Make things work with primitives more directly r
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
+    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend) {
+        return sendToAcceptors(availableTargets, availableTargets.longSplitInfo(amountToSplit), toSend);
     }
 }
\ No newline at end of file
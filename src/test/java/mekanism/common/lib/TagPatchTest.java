@@ -0,0 +1,105 @@
+package mekanism.common.lib;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test TagPatch implementation")
+class TagPatchTest {
+
+    private static CompoundTag createTag() {
+        CompoundTag tag = new CompoundTag();
+        tag.putBoolean("active", true);
+        tag.putInt("progress", 20);
+        tag.putString("name", "machine");
+        CompoundTag tank = new CompoundTag();
+        tank.putString("fluid", "water");
+        tank.putInt("amount", 1_000);
+        tag.put("tank", tank);
+        ListTag list = new ListTag();
+        list.add(IntTag.valueOf(1));
+        list.add(IntTag.valueOf(2));
+        tag.put("list", list);
+        return tag;
+    }
+
+    private static TagPatch roundTrip(TagPatch patch) {
+        ByteBuf buffer = Unpooled.buffer();
+        TagPatch.STREAM_CODEC.encode(buffer, patch);
+        TagPatch decoded = TagPatch.STREAM_CODEC.decode(buffer);
+        Assertions.assertEquals(0, buffer.readableBytes());
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("Test diffing equal tags gives an empty patch")
+    void testUnchanged() {
+        Assertions.assertTrue(TagPatch.diff(createTag(), createTag()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test only changed entries are included")
+    void testChangedEntries() {
+        CompoundTag updated = createTag();
+        updated.putInt("progress", 21);
+        updated.getCompound("tank").putInt("amount", 500);
+        TagPatch patch = TagPatch.diff(createTag(), updated);
+        Assertions.assertEquals(1, patch.changed().size());
+        Assertions.assertTrue(patch.changed().containsKey("progress"));
+        Assertions.assertTrue(patch.removed().isEmpty());
+        Assertions.assertEquals(1, patch.nested().size());
+        TagPatch tankPatch = patch.nested().get("tank");
+        Assertions.assertNotNull(tankPatch);
+        Assertions.assertEquals(1, tankPatch.changed().size());
+        Assertions.assertTrue(tankPatch.changed().containsKey("amount"));
+    }
+
+    @Test
+    @DisplayName("Test applying a patch gives the updated tag")
+    void testApply() {
+        CompoundTag updated = createTag();
+        updated.putBoolean("active", false);
+        updated.remove("name");
+        updated.getCompound("tank").remove("fluid");
+        updated.getList("list", Tag.TAG_INT).add(IntTag.valueOf(3));
+        updated.putLong("added", 5);
+        CompoundTag addedCompound = new CompoundTag();
+        addedCompound.putInt("value", 1);
+        updated.put("addedCompound", addedCompound);
+        TagPatch patch = roundTrip(TagPatch.diff(createTag(), updated));
+        Assertions.assertEquals(updated, patch.apply(createTag()));
+    }
+
+    @Test
+    @DisplayName("Test replacing a compound with a different type")
+    void testTypeChange() {
+        CompoundTag updated = createTag();
+        updated.putInt("tank", 4);
+        TagPatch patch = roundTrip(TagPatch.diff(createTag(), updated));
+        Assertions.assertEquals(updated, patch.apply(createTag()));
+        Assertions.assertEquals(createTag(), TagPatch.diff(updated, createTag()).apply(updated.copy()));
+    }
+
+    @Test
+    @DisplayName("Test full patches")
+    void testFull() {
+        TagPatch patch = roundTrip(TagPatch.full(createTag()));
+        Assertions.assertEquals(createTag(), patch.apply(new CompoundTag()));
+    }
+
+    @Test
+    @DisplayName("Test applied entries are copied")
+    void testCopied() {
+        CompoundTag updated = createTag();
+        TagPatch patch = TagPatch.full(updated);
+        CompoundTag applied = patch.apply(new CompoundTag());
+        applied.getCompound("tank").putInt("amount", 0);
+        Assertions.assertEquals(1_000, updated.getCompound("tank").getInt("amount"));
+    }
+}
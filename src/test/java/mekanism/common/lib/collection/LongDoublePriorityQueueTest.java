@@ -0,0 +1,51 @@
+package mekanism.common.lib.collection;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongDoublePriorityQueue implementation")
+class LongDoublePriorityQueueTest {
+
+    @Test
+    @DisplayName("Test elements are dequeued in priority order")
+    void testPriorityOrder() {
+        LongDoublePriorityQueue queue = new LongDoublePriorityQueue(1);
+        queue.enqueue(5, 5.5);
+        queue.enqueue(1, 1);
+        queue.enqueue(3, 3.25);
+        queue.enqueue(2, 2);
+        queue.enqueue(4, 4);
+        Assertions.assertEquals(5, queue.size());
+        for (long expected = 1; expected <= 5; expected++) {
+            Assertions.assertEquals(expected, queue.dequeue());
+        }
+        Assertions.assertEquals(5.5, queue.lastPriority());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test the same element can be queued with multiple priorities")
+    void testRequeue() {
+        LongDoublePriorityQueue queue = new LongDoublePriorityQueue();
+        queue.enqueue(7, 10);
+        queue.enqueue(8, 6);
+        queue.enqueue(7, 3);
+        Assertions.assertEquals(7, queue.dequeue());
+        Assertions.assertEquals(3, queue.lastPriority());
+        Assertions.assertEquals(8, queue.dequeue());
+        Assertions.assertEquals(7, queue.dequeue());
+        Assertions.assertEquals(10, queue.lastPriority());
+    }
+
+    @Test
+    @DisplayName("Test dequeuing from an empty queue")
+    void testEmpty() {
+        LongDoublePriorityQueue queue = new LongDoublePriorityQueue();
+        queue.enqueue(1, 1);
+        queue.clear();
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, queue::dequeue);
+    }
+}
@@ -0,0 +1,73 @@
+package mekanism.common.lib.collection;
+
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test SortedArrayList implementation")
+class SortedArrayListTest {
+
+    private record Entry(String name, int count) {
+    }
+
+    private static final Comparator<Entry> BY_COUNT = Comparator.comparingInt(Entry::count);
+
+    @Test
+    @DisplayName("Test elements are added at their sorted position")
+    void testAdd() {
+        SortedArrayList<Integer> list = new SortedArrayList<>(Comparator.naturalOrder());
+        for (int value : new int[]{5, 1, 4, 2, 3, 0}) {
+            list.add(value);
+        }
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    @DisplayName("Test elements that compare as equal keep the order they were added in")
+    void testStable() {
+        SortedArrayList<Entry> list = new SortedArrayList<>(BY_COUNT);
+        Entry a = new Entry("a", 1);
+        Entry b = new Entry("b", 1);
+        Entry c = new Entry("c", 0);
+        Entry d = new Entry("d", 1);
+        list.add(a);
+        list.add(b);
+        list.add(c);
+        list.add(d);
+        Assertions.assertEquals(List.of(c, a, b, d), list);
+    }
+
+    @Test
+    @DisplayName("Test removing elements that compare as equal to other elements")
+    void testRemove() {
+        SortedArrayList<Entry> list = new SortedArrayList<>(BY_COUNT);
+        Entry a = new Entry("a", 1);
+        Entry b = new Entry("b", 1);
+        Entry c = new Entry("c", 2);
+        list.addAll(List.of(c, a, b));
+        Assertions.assertEquals(List.of(a, b, c), list);
+        Assertions.assertTrue(list.remove(b));
+        Assertions.assertEquals(List.of(a, c), list);
+        Assertions.assertFalse(list.remove(new Entry("d", 1)));
+        Assertions.assertFalse(list.contains(b));
+        Assertions.assertEquals(1, list.indexOf(c));
+    }
+
+    @Test
+    @DisplayName("Test changing the comparator re-sorts the list")
+    void testComparator() {
+        SortedArrayList<Entry> list = new SortedArrayList<>(BY_COUNT);
+        Entry a = new Entry("a", 3);
+        Entry b = new Entry("b", 2);
+        Entry c = new Entry("c", 1);
+        list.addAll(List.of(a, b, c));
+        Assertions.assertEquals(List.of(c, b, a), list);
+        list.setComparator(Comparator.comparing(Entry::name));
+        Assertions.assertEquals(List.of(a, b, c), list);
+        Entry d = new Entry("bb", 0);
+        list.add(d);
+        Assertions.assertEquals(List.of(a, b, d, c), list);
+    }
+}
@@ -1,5 +1,6 @@
 package mekanism.common.lib.distribution;
 
+import mekanism.common.lib.distribution.handler.IntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
 import mekanism.common.util.EmitUtils;
 import net.jqwik.api.ForAll;
@@ -36,4 +37,22 @@ class DistributionPropertyTest {
         IntegerTarget availableAcceptors = DistributionTest.getTargets(0, some, none);
         Assertions.assertTrue(EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend) <= toSend);
     }
-}
\ No newline at end of file
+
+    @Property(tries = TRIES)
+    @Label("Test distribution with a reused target")
+    void testDistributionReusedTarget(@ForAll @IntRange(max = 100) int infinite, @ForAll @IntRange(max = 100) int some, @ForAll @IntRange(max = 100) int none,
+          @ForAll @Positive int toSend) {
+        IntegerTarget freshAcceptors = DistributionTest.getTargets(infinite, some, none);
+        int freshSent = EmitUtils.sendToAcceptors(freshAcceptors, toSend, toSend);
+        //Distribute to a different set of handlers first so that the target has buffers and state from a previous distribution
+        IntegerTarget reusedAcceptors = DistributionTest.getTargets(some, none, infinite);
+        EmitUtils.sendToAcceptors(reusedAcceptors, toSend, toSend);
+        reusedAcceptors.reset();
+        DistributionTest.addTargets(reusedAcceptors, infinite, some, none);
+        Assertions.assertEquals(freshSent, EmitUtils.sendToAcceptors(reusedAcceptors, toSend, toSend));
+        for (int i = 0; i < freshAcceptors.getHandlerCount(); i++) {
+            IntegerHandler freshHandler = freshAcceptors.handlers.get(i);
+            Assertions.assertEquals(freshHandler.getAccepted(), reusedAcceptors.handlers.get(i).getAccepted());
+        }
+    }
+}
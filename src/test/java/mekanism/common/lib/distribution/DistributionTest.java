@@ -8,6 +8,7 @@ import mekanism.common.lib.distribution.handler.LyingAmountIntegerHandler;
 import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
 import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.LongTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -18,13 +19,17 @@ class DistributionTest {
 
     public static IntegerTarget getTargets(int infinite, int some, int none) {
         IntegerTarget target = new IntegerTarget();
-        addTargets(target, InfiniteIntegerHandler::new, infinite);
-        addTargets(target, PartialIntegerHandler::new, some);
-        addTargets(target, () -> new SpecificAmountIntegerHandler(0), none);
+        addTargets(target, infinite, some, none);
         return target;
     }
 
-    private static void addTargets(IntegerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
+    public static void addTargets(Target<IntegerHandler, ?> targets, int infinite, int some, int none) {
+        addTargets(targets, InfiniteIntegerHandler::new, infinite);
+        addTargets(targets, PartialIntegerHandler::new, some);
+        addTargets(targets, () -> new SpecificAmountIntegerHandler(0), none);
+    }
+
+    private static void addTargets(Target<IntegerHandler, ?> targets, Supplier<IntegerHandler> targetSupplier, int count) {
         for (int i = 0; i < count; i++) {
             targets.addHandler(targetSupplier.get());
         }
@@ -134,4 +139,46 @@ class DistributionTest {
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test sending using long precision to non divisible amounts")
+    void testLongRemainderDistribution() {
+        long toSend = 10;
+        LongTarget availableAcceptors = new LongTarget();
+        addTargets(availableAcceptors, 7, 0, 0);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        int singleAccepted = 0, twoAccepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertTrue(handler.getAccepted() == 1 || handler.getAccepted() == 2);
+            if (handler.getAccepted() == 1) {
+                singleAccepted++;
+            } else {
+                twoAccepted++;
+            }
+        }
+        Assertions.assertEquals(4, singleAccepted);
+        Assertions.assertEquals(3, twoAccepted);
+    }
+
+    @Test
+    @DisplayName("Test that a reset target distributes the same as a new target")
+    void testReusedTarget() {
+        int toSend = 9;
+        IntegerTarget freshAcceptors = new IntegerTarget();
+        freshAcceptors.addHandler(new SpecificAmountIntegerHandler(8));
+        freshAcceptors.addHandler(new LyingAmountIntegerHandler(1, 10));
+        int freshSent = EmitUtils.sendToAcceptors(freshAcceptors, toSend, toSend);
+
+        //Leave some handlers as needing more than we could provide so that there is state to be cleared
+        IntegerTarget reusedAcceptors = getTargets(3, 2, 1);
+        EmitUtils.sendToAcceptors(reusedAcceptors, 100, 100);
+        reusedAcceptors.reset();
+        Assertions.assertEquals(0, reusedAcceptors.getHandlerCount());
+        reusedAcceptors.addHandler(new SpecificAmountIntegerHandler(8));
+        reusedAcceptors.addHandler(new LyingAmountIntegerHandler(1, 10));
+        Assertions.assertEquals(freshSent, EmitUtils.sendToAcceptors(reusedAcceptors, toSend, toSend));
+        for (int i = 0; i < freshAcceptors.getHandlerCount(); i++) {
+            Assertions.assertEquals(freshAcceptors.handlers.get(i).getAccepted(), reusedAcceptors.handlers.get(i).getAccepted());
+        }
+    }
+}
@@ -4,15 +4,15 @@ import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 import mekanism.common.lib.distribution.handler.IntegerHandler;
 
-public final class IntegerTarget extends Target<IntegerHandler, Integer, Integer> {
+public final class IntegerTarget extends Target<IntegerHandler, Integer> {
 
     @Override
-    protected void acceptAmount(IntegerHandler integerHandler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(integerHandler.perform(amount, false));
+    protected void acceptAmount(IntegerHandler integerHandler, SplitInfo splitInfo, long amount) {
+        splitInfo.send(integerHandler.perform((int) amount, false));
     }
 
     @Override
-    protected Integer simulate(IntegerHandler integerHandler, Integer offered) {
+    protected long simulate(IntegerHandler integerHandler, Integer offered) {
         return integerHandler.perform(offered, true);
     }
-}
\ No newline at end of file
+}
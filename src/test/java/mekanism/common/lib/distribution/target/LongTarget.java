@@ -0,0 +1,21 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+/**
+ * Target that distributes to integer handlers using long precision, for testing the long split logic.
+ */
+public final class LongTarget extends Target<IntegerHandler, Long> {
+
+    @Override
+    protected void acceptAmount(IntegerHandler integerHandler, SplitInfo splitInfo, long amount) {
+        splitInfo.send(integerHandler.perform((int) amount, false));
+    }
+
+    @Override
+    protected long simulate(IntegerHandler integerHandler, Long offered) {
+        return integerHandler.perform(offered.intValue(), true);
+    }
+}
@@ -0,0 +1,87 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares emitting to the flat snapshot of a network's acceptors against walking the map of acceptors the way the networks used to each tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkAcceptorCacheBenchmark {
+
+    private static final Direction[] SIDES = Direction.values();
+
+    /**
+     * Number of acceptors connected to the network. Each acceptor is at its own position, as most acceptors only connect to a network on one side.
+     */
+    @Param({"10", "100", "1000"})
+    private int acceptors;
+
+    private NetworkAcceptorCache<Object> acceptorCache;
+    private BlockPos changedPos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        acceptorCache = new NetworkAcceptorCache<>();
+        for (int i = 0; i < acceptors; i++) {
+            acceptorCache.cacheAcceptor(new BlockPos(i, 64, i % 16), SIDES[i % SIDES.length], new Object());
+        }
+        changedPos = new BlockPos(0, 64, 0);
+        //Build the snapshot up front so that the first measured iteration doesn't include building it
+        acceptorCache.getAcceptorSnapshot();
+    }
+
+    @Benchmark
+    public void mapIteration(Blackhole blackhole) {
+        for (Map<Direction, Object> acceptors : acceptorCache.getAcceptorValues()) {
+            for (Object acceptor : acceptors.values()) {
+                blackhole.consume(acceptor);
+            }
+        }
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        for (Object acceptor : acceptorCache.getAcceptorSnapshot()) {
+            blackhole.consume(acceptor);
+        }
+    }
+
+    /**
+     * Worst case for the snapshot, where an acceptor changes every tick so the snapshot has to be rebuilt each time it is emitted to.
+     */
+    @Benchmark
+    public void snapshotAfterChange(Blackhole blackhole) {
+        acceptorCache.cacheAcceptor(changedPos, SIDES[0], new Object());
+        for (Object acceptor : acceptorCache.getAcceptorSnapshot()) {
+            blackhole.consume(acceptor);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NetworkAcceptorCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+package mekanism.common.recipe.lookup.cache;
+
+import it.unimi.dsi.fastutil.Hash;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test ComplexRecipeMemo implementation")
+class ComplexRecipeMemoTest {
+
+    /**
+     * Mutable inputs that compare by their contents, so that we can check the memo doesn't keep a reference to the input it was given.
+     */
+    private static final Hash.Strategy<StringBuilder> CONTENT_STRATEGY = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(StringBuilder input) {
+            return input == null ? 0 : input.toString().hashCode();
+        }
+
+        @Override
+        public boolean equals(StringBuilder a, StringBuilder b) {
+            if (a == b) {
+                return true;
+            }
+            return a != null && b != null && a.compareTo(b) == 0;
+        }
+    };
+
+    private static ComplexRecipeMemo<StringBuilder, String> createMemo(int maxEntries) {
+        //Recipes match any input that they start with
+        ComplexRecipeMemo<StringBuilder, String> memo = new ComplexRecipeMemo<>(CONTENT_STRATEGY, StringBuilder::new,
+              (recipe, input) -> recipe.startsWith(input.toString()), maxEntries);
+        memo.add("apple");
+        memo.add("apricot");
+        memo.add("banana");
+        return memo;
+    }
+
+    @Test
+    @DisplayName("Test matching recipes are found and remembered")
+    void testHits() {
+        ComplexRecipeMemo<StringBuilder, String> memo = createMemo(ComplexRecipeMemo.MAX_ENTRIES);
+        List<String> matching = memo.getMatching(new StringBuilder("ap"));
+        Assertions.assertEquals(2, matching.size());
+        Assertions.assertTrue(matching.containsAll(List.of("apple", "apricot")));
+        Assertions.assertEquals(0, memo.getHits());
+        Assertions.assertEquals(1, memo.getMisses());
+        Assertions.assertSame(matching, memo.getMatching(new StringBuilder("ap")));
+        Assertions.assertEquals(1, memo.getHits());
+        Assertions.assertEquals(1, memo.getMisses());
+    }
+
+    @Test
+    @DisplayName("Test inputs without matching recipes are remembered")
+    void testNegativeHits() {
+        ComplexRecipeMemo<StringBuilder, String> memo = createMemo(ComplexRecipeMemo.MAX_ENTRIES);
+        Assertions.assertTrue(memo.getMatching(new StringBuilder("cherry")).isEmpty());
+        Assertions.assertTrue(memo.getMatching(new StringBuilder("cherry")).isEmpty());
+        Assertions.assertEquals(1, memo.getHits());
+        Assertions.assertEquals(1, memo.getMisses());
+    }
+
+    @Test
+    @DisplayName("Test changing an input after looking it up doesn't change what is remembered")
+    void testKeyCopied() {
+        ComplexRecipeMemo<StringBuilder, String> memo = createMemo(ComplexRecipeMemo.MAX_ENTRIES);
+        StringBuilder input = new StringBuilder("ban");
+        Assertions.assertEquals(List.of("banana"), memo.getMatching(input));
+        input.setLength(0);
+        input.append("apple");
+        Assertions.assertEquals(List.of("apple"), memo.getMatching(input));
+        Assertions.assertEquals(List.of("banana"), memo.getMatching(new StringBuilder("ban")));
+        Assertions.assertEquals(2, memo.size());
+    }
+
+    @Test
+    @DisplayName("Test the least recently used inputs are forgotten")
+    void testBounded() {
+        ComplexRecipeMemo<StringBuilder, String> memo = createMemo(2);
+        memo.getMatching(new StringBuilder("a"));
+        memo.getMatching(new StringBuilder("b"));
+        //Use a so that b is the least recently used
+        memo.getMatching(new StringBuilder("a"));
+        memo.getMatching(new StringBuilder("c"));
+        Assertions.assertEquals(2, memo.size());
+        Assertions.assertEquals(1, memo.getHits());
+        memo.getMatching(new StringBuilder("a"));
+        Assertions.assertEquals(2, memo.getHits());
+        memo.getMatching(new StringBuilder("b"));
+        Assertions.assertEquals(2, memo.getHits());
+        Assertions.assertEquals(4, memo.getMisses());
+    }
+
+    @Test
+    @DisplayName("Test clearing forgets recipes and remembered matches")
+    void testClear() {
+        ComplexRecipeMemo<StringBuilder, String> memo = createMemo(ComplexRecipeMemo.MAX_ENTRIES);
+        Assertions.assertFalse(memo.getMatching(new StringBuilder("a")).isEmpty());
+        memo.clear();
+        Assertions.assertTrue(memo.isEmpty());
+        Assertions.assertEquals(0, memo.size());
+        Assertions.assertTrue(memo.getMatching(new StringBuilder("a")).isEmpty());
+        memo.add("avocado");
+        Assertions.assertEquals(List.of("avocado"), memo.getMatching(new StringBuilder("a")));
+        //Hit and miss counts are kept across clears
+        Assertions.assertEquals(0, memo.getHits());
+        Assertions.assertEquals(2, memo.getMisses());
+    }
+}